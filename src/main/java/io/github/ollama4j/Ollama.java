@@ -10,10 +10,13 @@ package io.github.ollama4j;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ollama4j.cache.MetadataCache;
 import io.github.ollama4j.exceptions.OllamaException;
 import io.github.ollama4j.exceptions.RoleNotFoundException;
 import io.github.ollama4j.exceptions.ToolInvocationException;
 import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
 import io.github.ollama4j.models.chat.*;
 import io.github.ollama4j.models.embed.OllamaEmbedRequest;
 import io.github.ollama4j.models.embed.OllamaEmbedResult;
@@ -24,20 +27,24 @@ import io.github.ollama4j.models.generate.OllamaGenerateTokenHandler;
 import io.github.ollama4j.models.ps.ModelProcessesResult;
 import io.github.ollama4j.models.request.*;
 import io.github.ollama4j.models.response.*;
+import io.github.ollama4j.residency.AdaptiveKeepAlive;
+import io.github.ollama4j.residency.ModelResidencyManager;
 import io.github.ollama4j.tools.*;
 import io.github.ollama4j.tools.annotations.OllamaToolService;
 import io.github.ollama4j.tools.annotations.ToolProperty;
 import io.github.ollama4j.tools.annotations.ToolSpec;
+import io.github.ollama4j.tools.mcp.McpDiscoveryReport;
+import io.github.ollama4j.tools.mcp.McpSessionPool;
+import io.github.ollama4j.tracing.Span;
+import io.github.ollama4j.tracing.Tracer;
 import io.github.ollama4j.utils.Constants;
+import io.github.ollama4j.utils.OptionsBuilder;
 import io.github.ollama4j.utils.Utils;
-import io.modelcontextprotocol.client.McpClient;
-import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.client.transport.ServerParameters;
 import io.modelcontextprotocol.client.transport.StdioClientTransport;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.ListToolsResult;
 import java.io.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -51,9 +58,20 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.slf4j.Logger;
@@ -63,13 +81,19 @@ import org.slf4j.LoggerFactory;
  * The main API class for interacting with the Ollama server.
  *
  * <p>This class provides methods for model management, chat, embeddings, tool registration, and
- * more.
+ * more. Closing the client shuts down the sessions with the MCP servers it started.
  */
 @SuppressWarnings({"DuplicatedCode", "resource", "SpellCheckingInspection"})
-public class Ollama {
+public class Ollama implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(Ollama.class);
 
+    /** Number of tokens generated by the warm-up request of {@link #preloadModels}. */
+    private static final int WARM_UP_NUM_PREDICT = 8;
+
+    /** Minimum interval between two progress notifications of {@link #pullModels}. */
+    private static final long PULL_PROGRESS_INTERVAL_MS = 500;
+
     private final String host;
     private Auth auth;
 
@@ -110,18 +134,131 @@ public class Ollama {
     private int numberOfRetriesForModelPull = 0;
 
     /**
-     * Enable or disable Prometheus metrics collection.
+     * The sink the metrics of this client are recorded to.
      *
-     * <p>When enabled, the API will collect and expose metrics for request counts, durations, model
-     * usage, and other operational statistics. Default is false.
+     * <p>Default is {@link PrometheusMetricsSink#getDefault()}, recording to the default Prometheus
+     * registry.
      */
-    @Setter private boolean metricsEnabled = false;
+    private volatile MetricsSink metricsSink = PrometheusMetricsSink.getDefault();
+
+    private volatile boolean metricsEnabled = true;
 
     /**
      * The listener for model pull/creation progress.
      */
     @Setter private ModelPullListener modelPullListener;
 
+    /**
+     * The maximum number of models that are pulled, loaded and warmed up concurrently by {@link
+     * #preloadModels(List, String, String)}.
+     *
+     * <p>Default is 4.
+     */
+    @Setter private int preloadParallelism = 4;
+
+    /**
+     * Optional residency manager that is notified of every chat, generate and embed request, so
+     * that it can keep the most requested models resident.
+     */
+    private ModelResidencyManager residencyManager;
+
+    /**
+     * Optional adaptive keep-alive. When set, chat, generate and embed requests without an explicit
+     * keep-alive are sent with a keep-alive learnt from the traffic of their model.
+     */
+    private AdaptiveKeepAlive adaptiveKeepAlive;
+
+    /**
+     * How long {@link #ensureModel(String)} trusts the local model listing and a model it found up
+     * to date before checking again.
+     *
+     * <p>Default is 60 seconds.
+     */
+    @Setter private Duration ensureModelCacheTtl = Duration.ofSeconds(60);
+
+    /**
+     * The registry that {@link #ensureModel(String)} compares local model digests with. Models whose
+     * name starts with a host are checked against that host instead.
+     *
+     * <p>Default is {@code https://registry.ollama.ai}.
+     */
+    @Setter private String registryUrl = "https://registry.ollama.ai";
+
+    /**
+     * Optional cache for {@link #listModels()}, {@link #getModelDetails(String)} and {@link #ps()}.
+     * Entries are invalidated when models are pulled, created, deleted, loaded or unloaded through
+     * this client.
+     */
+    private MetadataCache metadataCache;
+
+    /**
+     * The maximum number of tool calls of one chat turn that are executed concurrently.
+     *
+     * <p>Default is 1, which executes the calls one after the other on the calling thread.
+     */
+    private int toolCallParallelism = 1;
+
+    /**
+     * The maximum duration of a single tool call, or null for no limit. A call that exceeds it is
+     * reported to the model as failed.
+     */
+    private Duration toolCallTimeout;
+
+    private ToolCallDispatcher toolCallDispatcher;
+
+    /**
+     * Whether the tool calls of a streamed chat response are started as soon as they are received,
+     * while the rest of the response is still streaming. Their results are added to the
+     * conversation in the order of the calls once the response is complete. Default is false.
+     */
+    @Setter private boolean eagerToolCallDispatch = false;
+
+    /**
+     * Selects the registered tools that are sent with a chat request based on the latest user
+     * message, or null to send all registered tools. Default is null.
+     */
+    private ToolSelector toolSelector;
+
+    /**
+     * The cache for the results of tools marked as {@link Tools.Tool#isCacheable() cacheable}.
+     *
+     * <p>Default holds up to 1000 results, reused for 5 minutes unless the tool sets its own TTL.
+     */
+    private ToolResultCache toolResultCache = new ToolResultCache(1000, Duration.ofMinutes(5));
+
+    /**
+     * The pool of sessions with the MCP servers loaded by {@link #loadMCPToolsFromJson(String)}.
+     * Tool calls reuse the sessions instead of starting the server for every call.
+     *
+     * <p>The client owns the pool, including one set with {@link #setMcpSessionPool}, and closes it
+     * in {@link #close()}.
+     */
+    @Setter @Getter private McpSessionPool mcpSessionPool = new McpSessionPool();
+
+    /**
+     * Whether {@link #registerAnnotatedTools(Object)} uses the tool providers generated at compile
+     * time when available. If disabled, annotated tools are always discovered with reflection.
+     */
+    @Setter private boolean generatedToolsEnabled = true;
+
+    /**
+     * How long {@link #loadMCPToolsFromJson(String)} waits for the MCP servers to start and list
+     * their tools. Default is 60 seconds.
+     */
+    @Setter private Duration mcpDiscoveryTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Records spans of chat, generate and embed requests, tool calls and model pulls. Default is
+     * {@link Tracer#NOOP}, which records nothing.
+     */
+    @Setter private Tracer tracer = Tracer.NOOP;
+
+    private final Map<String, CompletableFuture<Boolean>> ensureModelCalls =
+            new ConcurrentHashMap<>();
+    private final Map<String, Long> ensuredModels = new ConcurrentHashMap<>();
+    private volatile Map<String, String> localModelDigests;
+    private volatile long localModelDigestsAt;
+
     /** Instantiates the Ollama API with the default Ollama host: {@code http://localhost:11434} */
     public Ollama() {
         this.host = "http://localhost:11434";
@@ -160,6 +297,112 @@ public class Ollama {
         this.auth = new BearerAuth(bearerToken);
     }
 
+    /**
+     * Enable or disable metrics collection of this client. Metrics are enabled by default.
+     *
+     * <p>While disabled, this client and the components set on it record to {@link
+     * MetricsSink#NOOP}; other clients are not affected.
+     *
+     * @param metricsEnabled whether metrics are recorded
+     */
+    public synchronized void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+        applyMetricsSink();
+    }
+
+    /**
+     * Sets the sink the metrics of this client are recorded to, including those of its metadata
+     * cache, tool selector, tool result cache, adaptive keep-alive and residency manager.
+     *
+     * @param metricsSink the sink
+     */
+    public synchronized void setMetricsSink(MetricsSink metricsSink) {
+        this.metricsSink = Objects.requireNonNull(metricsSink, "metricsSink");
+        applyMetricsSink();
+    }
+
+    /**
+     * @return the sink the metrics of this client are recorded to, {@link MetricsSink#NOOP} while
+     *     metrics are disabled
+     */
+    public MetricsSink getMetricsSink() {
+        return metricsEnabled ? metricsSink : MetricsSink.NOOP;
+    }
+
+    /**
+     * Sets the cache for {@link #listModels()}, {@link #getModelDetails(String)} and {@link
+     * #ps()}, or null to disable caching.
+     *
+     * @param metadataCache the cache
+     */
+    public synchronized void setMetadataCache(MetadataCache metadataCache) {
+        this.metadataCache = metadataCache;
+        applyMetricsSink();
+    }
+
+    /**
+     * Sets the residency manager notified of the requests of this client, or null for none.
+     *
+     * @param residencyManager the residency manager
+     */
+    public synchronized void setResidencyManager(ModelResidencyManager residencyManager) {
+        this.residencyManager = residencyManager;
+        applyMetricsSink();
+    }
+
+    /**
+     * Sets the adaptive keep-alive, or null to send the keep-alive of the requests unchanged.
+     *
+     * @param adaptiveKeepAlive the adaptive keep-alive
+     */
+    public synchronized void setAdaptiveKeepAlive(AdaptiveKeepAlive adaptiveKeepAlive) {
+        this.adaptiveKeepAlive = adaptiveKeepAlive;
+        applyMetricsSink();
+    }
+
+    /**
+     * Sets the selector of the tools sent with a chat request, or null to send all tools.
+     *
+     * @param toolSelector the selector
+     */
+    public synchronized void setToolSelector(ToolSelector toolSelector) {
+        this.toolSelector = toolSelector;
+        applyMetricsSink();
+    }
+
+    /**
+     * Sets the cache for the results of cacheable tools, or null to disable caching.
+     *
+     * @param toolResultCache the cache
+     */
+    public synchronized void setToolResultCache(ToolResultCache toolResultCache) {
+        this.toolResultCache = toolResultCache;
+        applyMetricsSink();
+    }
+
+    /** Hands the sink of this client to the components that record metrics on its behalf. */
+    private synchronized void applyMetricsSink() {
+        MetricsSink sink = getMetricsSink();
+        if (metadataCache != null) {
+            metadataCache.setMetricsSink(sink);
+        }
+        if (residencyManager != null) {
+            residencyManager.setMetricsSink(sink);
+        }
+        if (adaptiveKeepAlive != null) {
+            adaptiveKeepAlive.setMetricsSink(sink);
+        }
+        if (toolSelector != null) {
+            toolSelector.setMetricsSink(sink);
+        }
+        if (toolResultCache != null) {
+            toolResultCache.setMetricsSink(sink);
+        }
+        if (toolCallDispatcher != null) {
+            toolCallDispatcher.setMetricsSink(sink);
+        }
+    }
+
     /**
      * Checks the reachability of the Ollama server.
      *
@@ -195,6 +438,7 @@ public class Ollama {
             throw new OllamaException("Ping failed", e);
         } finally {
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -215,6 +459,13 @@ public class Ollama {
      * @throws OllamaException if the response indicates an error status
      */
     public ModelProcessesResult ps() throws OllamaException {
+        if (metadataCache != null) {
+            return metadataCache.get(MetadataCache.Endpoint.PS, "", this::fetchProcesses);
+        }
+        return fetchProcesses();
+    }
+
+    private ModelProcessesResult fetchProcesses() throws OllamaException {
         long startTime = System.currentTimeMillis();
         String url = "/api/ps";
         int statusCode = -1;
@@ -253,6 +504,7 @@ public class Ollama {
             throw new OllamaException("ps failed", e);
         } finally {
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -273,6 +525,14 @@ public class Ollama {
      * @throws OllamaException if the response indicates an error status
      */
     public List<Model> listModels() throws OllamaException {
+        if (metadataCache != null) {
+            return new ArrayList<>(
+                    metadataCache.get(MetadataCache.Endpoint.LIST_MODELS, "", this::fetchModels));
+        }
+        return fetchModels();
+    }
+
+    private List<Model> fetchModels() throws OllamaException {
         long startTime = System.currentTimeMillis();
         String url = "/api/tags";
         int statusCode = -1;
@@ -307,6 +567,7 @@ public class Ollama {
             throw new OllamaException(e.getMessage(), e);
         } finally {
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -362,11 +623,16 @@ public class Ollama {
      * @param listener the listener for progress updates
      * @throws OllamaException if the pull fails
      */
-    private void doPullModel(String modelName, ModelPullListener listener) throws OllamaException {
+    private void doPullModel(String modelName, ModelPullListener listener, int attempt)
+            throws OllamaException {
         long startTime = System.currentTimeMillis();
         String url = "/api/pull";
         int statusCode = -1;
         Object out = null;
+        Span span =
+                tracer.startSpan("ollama.pull.attempt")
+                        .setAttribute("gen_ai.request.model", modelName)
+                        .setAttribute("ollama.retry", attempt);
         try {
             String jsonData = new ModelRequest(modelName).toString();
             HttpRequest request =
@@ -408,11 +674,15 @@ public class Ollama {
             }
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
+            span.recordError(ie);
             throw new OllamaException("Thread was interrupted during model pull.", ie);
         } catch (Exception e) {
+            span.recordError(e);
             throw new OllamaException(e.getMessage(), e);
         } finally {
+            span.setAttribute("http.response.status_code", statusCode).end();
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -505,6 +775,7 @@ public class Ollama {
             throw new OllamaException(e.getMessage(), e);
         } finally {
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -539,16 +810,17 @@ public class Ollama {
      * @throws OllamaException if the response indicates an error status
      */
     public void pullModel(String modelName, ModelPullListener listener) throws OllamaException {
+        Span span = tracer.startSpan("ollama.pull").setAttribute("gen_ai.request.model", modelName);
         try {
             if (numberOfRetriesForModelPull == 0) {
-                this.doPullModel(modelName, listener);
+                this.doPullModel(modelName, listener, 0);
                 return;
             }
             int numberOfRetries = 0;
             long baseDelayMillis = 3000L; // 3 seconds base delay
             while (numberOfRetries < numberOfRetriesForModelPull) {
                 try {
-                    this.doPullModel(modelName, listener);
+                    this.doPullModel(modelName, listener, numberOfRetries);
                     return;
                 } catch (OllamaException e) {
                     handlePullRetry(
@@ -567,9 +839,233 @@ public class Ollama {
                             + " retries");
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
+            span.recordError(ie);
             throw new OllamaException("Thread was interrupted", ie);
         } catch (Exception e) {
+            span.recordError(e);
             throw new OllamaException(e.getMessage(), e);
+        } finally {
+            span.end();
+            onModelChanged(modelName);
+        }
+    }
+
+    /**
+     * Pulls several models concurrently and reports their combined progress.
+     *
+     * <p>Each model is pulled like {@link #pullModel(String, ModelPullListener)}, including the
+     * configured {@link #setNumberOfRetriesForModelPull(int) retries} with exponential backoff.
+     * Since the server resumes partially downloaded layers, a retry only downloads what is still
+     * missing. A failed model does not abort the pulls of the other models.
+     *
+     * @param modelNames the models to pull
+     * @param parallelism the maximum number of models pulled at the same time
+     * @param progressListener listener notified of the combined progress, including throughput and
+     *     ETA, at most twice per second and whenever a model finishes; may be null
+     * @return the outcome of each pull, in the order of {@code modelNames}
+     * @throws OllamaException if the calling thread is interrupted while waiting
+     */
+    public List<ModelPullResult> pullModels(
+            List<String> modelNames, int parallelism, PullProgressListener progressListener)
+            throws OllamaException {
+        List<ModelPullResult> results = new ArrayList<>();
+        if (modelNames == null || modelNames.isEmpty()) {
+            return results;
+        }
+        PullProgressTracker tracker =
+                new PullProgressTracker(
+                        modelNames, progressListener, Duration.ofMillis(PULL_PROGRESS_INTERVAL_MS));
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.max(1, Math.min(modelNames.size(), parallelism)),
+                        Utils.daemonThreadFactory("ollama4j-pull"));
+        try {
+            List<Future<ModelPullResult>> futures = new ArrayList<>();
+            for (String modelName : modelNames) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    long start = System.currentTimeMillis();
+                                    try {
+                                        pullModel(modelName, tracker);
+                                        tracker.markCompleted(modelName);
+                                        return new ModelPullResult(
+                                                modelName,
+                                                true,
+                                                System.currentTimeMillis() - start,
+                                                null);
+                                    } catch (OllamaException e) {
+                                        tracker.markFailed(modelName, e.getMessage());
+                                        return new ModelPullResult(
+                                                modelName,
+                                                false,
+                                                System.currentTimeMillis() - start,
+                                                e.getMessage());
+                                    }
+                                }));
+            }
+            for (Future<ModelPullResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OllamaException("Thread was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new OllamaException(e.getCause().getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Makes sure a model is available locally, pulling it only if it is missing or outdated.
+     *
+     * <p>The model is looked up in the local model listing, which is cached for {@link
+     * #setEnsureModelCacheTtl(Duration) ensureModelCacheTtl}. If it is present, the digest of its
+     * manifest in the {@link #setRegistryUrl(String) registry} is compared with the local digest
+     * and the model is pulled only if they differ. If the registry cannot be reached, the local
+     * model is used as is. A model found up to date is not checked again within the cache TTL.
+     *
+     * <p>Concurrent calls for the same model are coalesced: only the first performs the check and
+     * the pull, the others wait for its outcome.
+     *
+     * @param modelName the name/tag of the model. Ex: llama3:latest
+     * @return true if the model was pulled, false if it was already up to date
+     * @throws OllamaException if the local models cannot be listed or the pull fails
+     */
+    public boolean ensureModel(String modelName) throws OllamaException {
+        String normalized = Utils.normalizeModelName(modelName);
+        CompletableFuture<Boolean> call = new CompletableFuture<>();
+        CompletableFuture<Boolean> inFlight = ensureModelCalls.putIfAbsent(normalized, call);
+        if (inFlight != null) {
+            try {
+                return inFlight.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OllamaException("Thread was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new OllamaException(e.getCause().getMessage(), e);
+            }
+        }
+        try {
+            boolean pulled = doEnsureModel(modelName, normalized);
+            call.complete(pulled);
+            return pulled;
+        } catch (OllamaException | RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            ensureModelCalls.remove(normalized, call);
+        }
+    }
+
+    private boolean doEnsureModel(String modelName, String normalized) throws OllamaException {
+        long now = System.currentTimeMillis();
+        long ttl = ensureModelCacheTtl.toMillis();
+        Long verifiedAt = ensuredModels.get(normalized);
+        if (verifiedAt != null && now - verifiedAt < ttl) {
+            return false;
+        }
+        Map<String, String> digests = localModelDigests;
+        if (digests == null || now - localModelDigestsAt >= ttl) {
+            digests = new HashMap<>();
+            for (Model model : listModels()) {
+                digests.put(
+                        Utils.normalizeModelName(model.getName()), stripDigest(model.getDigest()));
+            }
+            localModelDigests = digests;
+            localModelDigestsAt = now;
+        }
+        boolean pull;
+        if (!digests.containsKey(normalized)) {
+            LOG.debug("Model {} is not present locally, pulling it", normalized);
+            pull = true;
+        } else {
+            String remoteDigest = fetchRegistryDigest(normalized);
+            pull = remoteDigest != null && !remoteDigest.equals(digests.get(normalized));
+            if (pull) {
+                LOG.debug("Model {} is outdated, pulling it", normalized);
+            }
+        }
+        if (pull) {
+            pullModel(modelName);
+            localModelDigests = null;
+        }
+        ensuredModels.put(normalized, System.currentTimeMillis());
+        return pull;
+    }
+
+    /**
+     * Fetches the manifest of a model from the registry and returns its SHA-256 digest, which is
+     * what the server reports as the digest of a local model.
+     *
+     * @param normalizedModelName the model name including its tag
+     * @return the hex digest, or null if the registry cannot be reached or does not know the model
+     */
+    private String fetchRegistryDigest(String normalizedModelName) {
+        int tagIndex = normalizedModelName.lastIndexOf(':');
+        String repository = normalizedModelName.substring(0, tagIndex);
+        String tag = normalizedModelName.substring(tagIndex + 1);
+        String[] parts = repository.split("/");
+        String registry = registryUrl;
+        if (parts.length == 1) {
+            repository = "library/" + repository;
+        } else if (parts.length == 3) {
+            registry = "https://" + parts[0];
+            repository = parts[1] + "/" + parts[2];
+        }
+        try {
+            HttpRequest request =
+                    HttpRequest.newBuilder(
+                                    new URI(registry + "/v2/" + repository + "/manifests/" + tag))
+                            .header(
+                                    Constants.HttpConstants.HEADER_KEY_ACCEPT,
+                                    "application/vnd.docker.distribution.manifest.v2+json")
+                            .timeout(Duration.ofSeconds(requestTimeoutSeconds))
+                            .GET()
+                            .build();
+            HttpResponse<byte[]> response =
+                    HttpClient.newHttpClient()
+                            .send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                LOG.debug(
+                        "Registry returned {} for the manifest of {}",
+                        response.statusCode(),
+                        normalizedModelName);
+                return null;
+            }
+            return Utils.sha256Hex(response.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            LOG.debug(
+                    "Could not fetch the manifest of {} from the registry: {}",
+                    normalizedModelName,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private static String stripDigest(String digest) {
+        if (digest == null) {
+            return null;
+        }
+        return digest.startsWith("sha256:") ? digest.substring("sha256:".length()) : digest;
+    }
+
+    /**
+     * Forgets what is known about a model after it was pulled, created or deleted, so that {@link
+     * #ensureModel(String)} and the {@link #setMetadataCache(MetadataCache) metadata cache} do not
+     * serve stale information.
+     */
+    private void onModelChanged(String modelName) {
+        String normalized = Utils.normalizeModelName(modelName);
+        localModelDigests = null;
+        ensuredModels.remove(normalized);
+        if (metadataCache != null) {
+            metadataCache.invalidateModel(normalized);
         }
     }
 
@@ -581,6 +1077,16 @@ public class Ollama {
      * @throws OllamaException if the response indicates an error status
      */
     public ModelDetail getModelDetails(String modelName) throws OllamaException {
+        if (metadataCache != null) {
+            return metadataCache.get(
+                    MetadataCache.Endpoint.MODEL_DETAILS,
+                    Utils.normalizeModelName(modelName),
+                    () -> fetchModelDetails(modelName));
+        }
+        return fetchModelDetails(modelName);
+    }
+
+    private ModelDetail fetchModelDetails(String modelName) throws OllamaException {
         long startTime = System.currentTimeMillis();
         String url = "/api/show";
         int statusCode = -1;
@@ -614,6 +1120,7 @@ public class Ollama {
             throw new OllamaException(e.getMessage(), e);
         } finally {
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -704,7 +1211,9 @@ public class Ollama {
         } catch (Exception e) {
             throw new OllamaException(e.getMessage(), e);
         } finally {
+            onModelChanged(customModelRequest.getModel());
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -760,6 +1269,7 @@ public class Ollama {
             if (statusCode != 200) {
                 throw new OllamaException(statusCode + " - " + responseBody);
             }
+            onModelChanged(modelName);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new OllamaException("Thread was interrupted", e);
@@ -767,6 +1277,7 @@ public class Ollama {
             throw new OllamaException(statusCode + " - " + out, e);
         } finally {
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -837,7 +1348,11 @@ public class Ollama {
             LOG.debug("Unload failed: {} - {}", statusCode, out);
             throw new OllamaException(statusCode + " - " + out, e);
         } finally {
+            if (metadataCache != null) {
+                metadataCache.invalidate(MetadataCache.Endpoint.PS);
+            }
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -851,6 +1366,172 @@ public class Ollama {
         }
     }
 
+    /**
+     * Loads a model into memory without generating a response.
+     *
+     * <p>An empty prompt is sent to the generate endpoint, which makes the server load the model and
+     * keep it resident for the given {@code keepAlive} duration. This is the counterpart of {@link
+     * #unloadModel(String)}.
+     *
+     * @param modelName the name of the model to load
+     * @param keepAlive how long the model should stay loaded (e.g. {@code "10m"}, {@code "-1"} to
+     *     keep it loaded indefinitely), or null to use the server default
+     * @return the result of the load request, including the server reported load duration
+     * @throws OllamaException if the response indicates an error status
+     */
+    public OllamaResult loadModel(String modelName, String keepAlive) throws OllamaException {
+        OllamaGenerateRequest request = new OllamaGenerateRequest(modelName, "");
+        request.setKeepAlive(keepAlive);
+        try {
+            return generateSyncForOllamaRequestModel(request, null, null);
+        } finally {
+            if (metadataCache != null) {
+                metadataCache.invalidate(MetadataCache.Endpoint.PS);
+            }
+        }
+    }
+
+    /**
+     * Makes a list of models ready to serve requests and blocks until all of them have been
+     * processed. See {@link #preloadModelsAsync(List, String, String)} for details.
+     *
+     * @param modelNames the models to preload
+     * @param keepAlive how long the models should stay loaded, or null to use the server default
+     * @param warmUpPrompt prompt of a short warm-up generation run after loading, or null to skip
+     *     the warm-up
+     * @return the readiness of each model, in the order of {@code modelNames}
+     * @throws OllamaException if the calling thread is interrupted while waiting
+     */
+    public List<ModelPreloadResult> preloadModels(
+            List<String> modelNames, String keepAlive, String warmUpPrompt) throws OllamaException {
+        try {
+            return preloadModelsAsync(modelNames, keepAlive, warmUpPrompt).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OllamaException("Thread was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new OllamaException(e.getCause().getMessage(), e);
+        }
+    }
+
+    /**
+     * Makes a list of models ready to serve requests, so that the first real request does not pay
+     * for pulling or loading the model.
+     *
+     * <p>Up to {@link #setPreloadParallelism(int) preloadParallelism} models are processed in
+     * parallel. For each model, the model is pulled if it is not available locally, loaded into
+     * memory with the given {@code keepAlive} and, if a {@code warmUpPrompt} is given, a short
+     * generation is run. Failures are reported per model and never fail the returned future.
+     *
+     * @param modelNames the models to preload
+     * @param keepAlive how long the models should stay loaded, or null to use the server default
+     * @param warmUpPrompt prompt of a short warm-up generation run after loading, or null to skip
+     *     the warm-up
+     * @return a future completing with the readiness of each model, in the order of {@code
+     *     modelNames}
+     */
+    public CompletableFuture<List<ModelPreloadResult>> preloadModelsAsync(
+            List<String> modelNames, String keepAlive, String warmUpPrompt) {
+        if (modelNames == null || modelNames.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.max(1, Math.min(modelNames.size(), preloadParallelism)),
+                        Utils.daemonThreadFactory("ollama4j-preload"));
+        CompletableFuture<Set<String>> localModels =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                Set<String> names = new HashSet<>();
+                                for (Model model : listModels()) {
+                                    names.add(Utils.normalizeModelName(model.getName()));
+                                }
+                                return names;
+                            } catch (OllamaException e) {
+                                throw new CompletionException(e);
+                            }
+                        },
+                        executor);
+        List<CompletableFuture<ModelPreloadResult>> futures = new ArrayList<>();
+        for (String modelName : modelNames) {
+            futures.add(
+                    localModels.handleAsync(
+                            (names, error) -> {
+                                if (error != null) {
+                                    ModelPreloadResult result = new ModelPreloadResult(modelName);
+                                    Throwable cause =
+                                            error instanceof CompletionException
+                                                    ? error.getCause()
+                                                    : error;
+                                    result.setError(
+                                            "Could not list local models: " + cause.getMessage());
+                                    return result;
+                                }
+                                return preloadModel(
+                                        modelName,
+                                        !names.contains(Utils.normalizeModelName(modelName)),
+                                        keepAlive,
+                                        warmUpPrompt);
+                            },
+                            executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(
+                        ignored ->
+                                futures.stream()
+                                        .map(CompletableFuture::join)
+                                        .collect(Collectors.toList()))
+                .whenComplete((results, error) -> executor.shutdown());
+    }
+
+    /**
+     * Pulls (if needed), loads and warms up a single model, capturing any failure in the result.
+     */
+    private ModelPreloadResult preloadModel(
+            String modelName, boolean pullRequired, String keepAlive, String warmUpPrompt) {
+        ModelPreloadResult result = new ModelPreloadResult(modelName);
+        try {
+            if (pullRequired) {
+                long pullStart = System.currentTimeMillis();
+                pullModel(modelName);
+                result.setPulled(true);
+                result.setPullDurationMillis(System.currentTimeMillis() - pullStart);
+            }
+            long loadStart = System.currentTimeMillis();
+            OllamaResult loadResult = loadModel(modelName, keepAlive);
+            result.setLoadLatencyMillis(System.currentTimeMillis() - loadStart);
+            if (loadResult != null && loadResult.getLoadDuration() != null) {
+                result.setServerLoadDurationMillis(loadResult.getLoadDuration() / 1_000_000L);
+            }
+            if (warmUpPrompt != null && !warmUpPrompt.isBlank()) {
+                OllamaGenerateRequest warmUpRequest =
+                        OllamaGenerateRequest.builder()
+                                .withModel(modelName)
+                                .withPrompt(warmUpPrompt)
+                                .withKeepAlive(keepAlive)
+                                .withOptions(
+                                        new OptionsBuilder()
+                                                .setNumPredict(WARM_UP_NUM_PREDICT)
+                                                .build())
+                                .build();
+                long warmUpStart = System.currentTimeMillis();
+                // internal request, not counted as traffic of the model
+                generate(warmUpRequest, null, false);
+                result.setWarmUpLatencyMillis(System.currentTimeMillis() - warmUpStart);
+            }
+            result.setReady(true);
+            LOG.debug(
+                    "Model {} is ready (load latency: {} ms)",
+                    modelName,
+                    result.getLoadLatencyMillis());
+        } catch (Exception e) {
+            LOG.warn("Failed to preload model {}: {}", modelName, e.getMessage());
+            result.setError(e.getMessage());
+        }
+        return result;
+    }
+
     /**
      * Generate embeddings using a {@link OllamaEmbedRequest}.
      *
@@ -859,10 +1540,19 @@ public class Ollama {
      * @throws OllamaException if the response indicates an error status
      */
     public OllamaEmbedResult embed(OllamaEmbedRequest modelRequest) throws OllamaException {
+        recordModelRequest(modelRequest.getModel());
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         String url = "/api/embed";
         int statusCode = -1;
         Object out = null;
+        String requestKeepAlive = modelRequest.getKeepAlive();
+        AdaptiveKeepAlive.Mode keepAliveMode =
+                applyAdaptiveKeepAlive(
+                        modelRequest.getModel(), requestKeepAlive, modelRequest::setKeepAlive);
+        Span span =
+                tracer.startSpan("ollama.embed")
+                        .setAttribute("gen_ai.request.model", modelRequest.getModel());
         try {
             String jsonData = Utils.getObjectMapper().writeValueAsString(modelRequest);
             HttpClient httpClient = HttpClient.newHttpClient();
@@ -878,17 +1568,38 @@ public class Ollama {
             statusCode = response.statusCode();
             String responseBody = response.body();
             if (statusCode == 200) {
-                return Utils.getObjectMapper().readValue(responseBody, OllamaEmbedResult.class);
+                OllamaEmbedResult result =
+                        Utils.getObjectMapper().readValue(responseBody, OllamaEmbedResult.class);
+                recordModelLoad(modelRequest.getModel(), result.getLoadDuration(), keepAliveMode);
+                OllamaTimings timings =
+                        new OllamaTimings(
+                                System.nanoTime() - startNanos,
+                                result.getTotalDuration(),
+                                result.getLoadDuration(),
+                                null,
+                                null,
+                                result.getPromptEvalCount(),
+                                null);
+                MetricsRecorder.recordTimings(
+                        getMetricsSink(), url, modelRequest.getModel(), timings);
+                result.setTimings(timings);
+                traceTimings(span, timings);
+                return result;
             } else {
                 throw new OllamaException(statusCode + " - " + responseBody);
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            span.recordError(e);
             throw new OllamaException("Thread was interrupted", e);
         } catch (Exception e) {
+            span.recordError(e);
             throw new OllamaException(e.getMessage(), e);
         } finally {
+            span.setAttribute("http.response.status_code", statusCode).end();
+            modelRequest.setKeepAlive(requestKeepAlive);
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     "",
                     false,
@@ -914,25 +1625,54 @@ public class Ollama {
     public OllamaResult generate(
             OllamaGenerateRequest request, OllamaGenerateStreamObserver streamObserver)
             throws OllamaException {
-        try {
-            if (request.isUseTools()) {
+        return generate(request, streamObserver, true);
+    }
+
+    /**
+     * Generates a response, recording the request as traffic of its model for the residency
+     * manager and the adaptive keep-alive only if {@code recordTraffic} is set.
+     */
+    private OllamaResult generate(
+            OllamaGenerateRequest request,
+            OllamaGenerateStreamObserver streamObserver,
+            boolean recordTraffic)
+            throws OllamaException {
+        if (request.isUseTools()) {
+            try {
                 return generateWithToolsInternal(request, streamObserver);
+            } catch (Exception e) {
+                throw new OllamaException(e.getMessage(), e);
             }
-
+        }
+        if (recordTraffic) {
+            recordModelRequest(request.getModel());
+        }
+        String requestKeepAlive = request.getKeepAlive();
+        AdaptiveKeepAlive.Mode keepAliveMode =
+                applyAdaptiveKeepAlive(request.getModel(), requestKeepAlive, request::setKeepAlive);
+        try {
+            OllamaResult result;
             if (streamObserver != null) {
                 if (!request.getThink().equals(ThinkMode.DISABLED)) {
-                    return generateSyncForOllamaRequestModel(
-                            request,
-                            streamObserver.getThinkingStreamHandler(),
-                            streamObserver.getResponseStreamHandler());
+                    result =
+                            generateSyncForOllamaRequestModel(
+                                    request,
+                                    streamObserver.getThinkingStreamHandler(),
+                                    streamObserver.getResponseStreamHandler());
                 } else {
-                    return generateSyncForOllamaRequestModel(
-                            request, null, streamObserver.getResponseStreamHandler());
+                    result =
+                            generateSyncForOllamaRequestModel(
+                                    request, null, streamObserver.getResponseStreamHandler());
                 }
+            } else {
+                result = generateSyncForOllamaRequestModel(request, null, null);
             }
-            return generateSyncForOllamaRequestModel(request, null, null);
+            recordModelLoad(request.getModel(), result.getLoadDuration(), keepAliveMode);
+            return result;
         } catch (Exception e) {
             throw new OllamaException(e.getMessage(), e);
+        } finally {
+            request.setKeepAlive(requestKeepAlive);
         }
     }
 
@@ -1017,6 +1757,7 @@ public class Ollama {
             throw new OllamaException(e.getMessage(), e);
         } finally {
             MetricsRecorder.record(
+                    getMetricsSink(),
                     url,
                     request.getModel(),
                     false,
@@ -1037,6 +1778,7 @@ public class Ollama {
         ArrayList<OllamaChatMessage> msgs = new ArrayList<>();
         OllamaChatRequest chatRequest = new OllamaChatRequest();
         chatRequest.setModel(request.getModel());
+        chatRequest.setKeepAlive(request.getKeepAlive());
         OllamaChatMessage ocm = new OllamaChatMessage();
         ocm.setRole(OllamaChatMessageRole.USER);
         ocm.setResponse(request.getPrompt());
@@ -1107,7 +1849,17 @@ public class Ollama {
             throw new OllamaException(e.getMessage(), e);
         } finally {
             MetricsRecorder.record(
-                    url, model, raw, think, true, null, null, startTime, statusCode, null);
+                    getMetricsSink(),
+                    url,
+                    model,
+                    raw,
+                    think,
+                    true,
+                    null,
+                    null,
+                    startTime,
+                    statusCode,
+                    null);
         }
     }
 
@@ -1125,23 +1877,45 @@ public class Ollama {
      */
     public OllamaChatResult chat(OllamaChatRequest request, OllamaChatTokenHandler tokenHandler)
             throws OllamaException {
+        recordModelRequest(request.getModel());
+        String requestKeepAlive = request.getKeepAlive();
+        AdaptiveKeepAlive.Mode keepAliveMode =
+                applyAdaptiveKeepAlive(request.getModel(), requestKeepAlive, request::setKeepAlive);
+        Span span =
+                tracer.startSpan("ollama.chat")
+                        .setAttribute("gen_ai.request.model", request.getModel());
+        // tool calls started while streaming and not awaited yet
+        ToolCallDispatcher.Batch eagerCalls = null;
         try {
             OllamaChatEndpointCaller requestCaller =
                     new OllamaChatEndpointCaller(host, auth, requestTimeoutSeconds);
+            requestCaller.setMetricsSink(getMetricsSink());
             OllamaChatResult result;
 
             // only add tools if tools flag is set
             if (request.isUseTools()) {
-                // add all registered tools to request
-                request.getTools().addAll(toolRegistry.getRegisteredTools());
+                // add all registered tools, or those relevant for the request, to the request
+                request.getTools().addAll(selectTools(request));
             }
 
+            boolean eager = eagerToolCallDispatch && tokenHandler != null;
+            ToolRegistry requestTools = eager ? requestToolRegistry(request) : null;
+            // the tool calls of the last allowed round are not executed, so they are not started
+            if (eager && maxChatToolCallRetries > 0) {
+                eagerCalls = getToolCallDispatcher().newBatch();
+            }
             if (tokenHandler != null) {
                 request.setStream(true);
-                result = requestCaller.call(request, tokenHandler);
-            } else {
-                result = requestCaller.callSync(request);
             }
+            result =
+                    chatRound(
+                            requestCaller,
+                            request,
+                            tokenHandler,
+                            eagerToolCallHandler(requestTools, eagerCalls),
+                            0);
+            recordModelLoad(
+                    request.getModel(), result.getResponseModel().getLoadDuration(), keepAliveMode);
 
             // check if toolCallIsWanted
             List<OllamaChatToolCalls> toolCalls =
@@ -1151,56 +1925,253 @@ public class Ollama {
             while (toolCalls != null
                     && !toolCalls.isEmpty()
                     && toolCallTries < maxChatToolCallRetries) {
-                for (OllamaChatToolCalls toolCall : toolCalls) {
-                    String toolName = toolCall.getFunction().getName();
-                    for (Tools.Tool t : request.getTools()) {
-                        if (t.getToolSpec().getName().equals(toolName)) {
-                            ToolFunction toolFunction = t.getToolFunction();
-                            if (toolFunction == null) {
-                                throw new ToolInvocationException(
-                                        "Tool function not found: " + toolName);
-                            }
-                            LOG.debug(
-                                    "Invoking tool {} with arguments: {}",
-                                    toolCall.getFunction().getName(),
-                                    toolCall.getFunction().getArguments());
-                            Map<String, Object> arguments = toolCall.getFunction().getArguments();
-                            Object res = toolFunction.apply(arguments);
-                            String argumentKeys =
-                                    arguments.keySet().stream()
-                                            .map(Object::toString)
-                                            .collect(Collectors.joining(", "));
-                            request.getMessages()
-                                    .add(
-                                            new OllamaChatMessage(
-                                                    OllamaChatMessageRole.TOOL,
-                                                    "[TOOL_RESULTS] "
-                                                            + toolName
-                                                            + "("
-                                                            + argumentKeys
-                                                            + "): "
-                                                            + res
-                                                            + " [/TOOL_RESULTS]"));
+                List<ToolCallDispatcher.Result> toolResults;
+                if (eagerCalls != null) {
+                    // eagerly started calls were resolved by the same rules, in the same order
+                    toolResults = eagerCalls.await();
+                    eagerCalls = null;
+                } else {
+                    if (requestTools == null) {
+                        requestTools = requestToolRegistry(request);
+                    }
+                    List<ToolCallDispatcher.Invocation> invocations = new ArrayList<>();
+                    for (OllamaChatToolCalls toolCall : toolCalls) {
+                        String toolName = toolCall.getFunction().getName();
+                        Tools.Tool t = requestTools.getTool(toolName);
+                        if (t == null) {
+                            LOG.debug("Ignoring call of unknown tool {}", toolName);
+                            continue;
+                        }
+                        ToolFunction toolFunction = toolFunction(t);
+                        if (toolFunction == null) {
+                            throw new ToolInvocationException(
+                                    "Tool function not found: " + toolName);
                         }
+                        LOG.debug(
+                                "Invoking tool {} with arguments: {}",
+                                toolCall.getFunction().getName(),
+                                toolCall.getFunction().getArguments());
+                        invocations.add(
+                                new ToolCallDispatcher.Invocation(
+                                        toolName,
+                                        toolCall.getFunction().getArguments(),
+                                        toolFunction));
                     }
+                    toolResults = getToolCallDispatcher().dispatch(invocations);
                 }
-                if (tokenHandler != null) {
-                    result = requestCaller.call(request, tokenHandler);
-                } else {
-                    result = requestCaller.callSync(request);
+                for (ToolCallDispatcher.Result toolResult : toolResults) {
+                    String argumentKeys =
+                            toolResult.getInvocation().getArguments().keySet().stream()
+                                    .map(Object::toString)
+                                    .collect(Collectors.joining(", "));
+                    Object res =
+                            toolResult.isFailed()
+                                    ? "Error: " + toolResult.getError()
+                                    : toolResult.getValue();
+                    request.getMessages()
+                            .add(
+                                    new OllamaChatMessage(
+                                            OllamaChatMessageRole.TOOL,
+                                            "[TOOL_RESULTS] "
+                                                    + toolResult.getInvocation().getName()
+                                                    + "("
+                                                    + argumentKeys
+                                                    + "): "
+                                                    + res
+                                                    + " [/TOOL_RESULTS]"));
                 }
-                toolCalls = result.getResponseModel().getMessage().getToolCalls();
                 toolCallTries++;
+                if (eager && toolCallTries < maxChatToolCallRetries) {
+                    eagerCalls = getToolCallDispatcher().newBatch();
+                }
+                result =
+                        chatRound(
+                                requestCaller,
+                                request,
+                                tokenHandler,
+                                eagerToolCallHandler(requestTools, eagerCalls),
+                                toolCallTries);
+                toolCalls = result.getResponseModel().getMessage().getToolCalls();
             }
+            span.setAttribute("ollama.tool_call_rounds", toolCallTries);
             return result;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            span.recordError(e);
             throw new OllamaException("Thread was interrupted", e);
         } catch (Exception e) {
+            span.recordError(e);
             throw new OllamaException(e.getMessage(), e);
+        } finally {
+            if (eagerCalls != null) {
+                eagerCalls.cancel();
+            }
+            span.end();
+            request.setKeepAlive(requestKeepAlive);
         }
     }
 
+    /**
+     * Sends one request of a chat turn, streaming the response if a token handler is given.
+     *
+     * @param round 0 for the first request of the turn, then the number of tool call rounds
+     */
+    private OllamaChatResult chatRound(
+            OllamaChatEndpointCaller requestCaller,
+            OllamaChatRequest request,
+            OllamaChatTokenHandler tokenHandler,
+            Consumer<OllamaChatToolCalls> toolCallHandler,
+            int round)
+            throws OllamaException, IOException, InterruptedException {
+        Span span =
+                tracer.startSpan("ollama.chat.request")
+                        .setAttribute("gen_ai.request.model", request.getModel())
+                        .setAttribute("ollama.round", round)
+                        .setAttribute("ollama.streaming", tokenHandler != null);
+        try {
+            OllamaChatResult result =
+                    tokenHandler != null
+                            ? requestCaller.call(request, tokenHandler, toolCallHandler)
+                            : requestCaller.callSync(request);
+            List<OllamaChatToolCalls> toolCalls =
+                    result.getResponseModel().getMessage().getToolCalls();
+            span.setAttribute("ollama.tool_calls", toolCalls != null ? toolCalls.size() : 0);
+            traceTimings(span, result.getTimings());
+            return result;
+        } catch (OllamaException | IOException | InterruptedException | RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /** Adds the token counts and the server durations of a response to a span. */
+    private static void traceTimings(Span span, OllamaTimings timings) {
+        if (timings == null) {
+            return;
+        }
+        span.setAttribute("gen_ai.usage.input_tokens", timings.getPromptEvalCount())
+                .setAttribute("gen_ai.usage.output_tokens", timings.getEvalCount())
+                .setAttribute("ollama.cold_load", timings.isColdLoad());
+        if (timings.getTotalDuration() != null) {
+            span.setAttribute("ollama.total_duration_ms", timings.getTotalDuration().toMillis());
+        }
+        if (timings.getLoadDuration() != null) {
+            span.setAttribute("ollama.load_duration_ms", timings.getLoadDuration().toMillis());
+        }
+    }
+
+    /** The tools a model may call in a chat request. */
+    private List<Tools.Tool> selectTools(OllamaChatRequest request) {
+        List<Tools.Tool> tools = toolRegistry.getRegisteredTools();
+        if (toolSelector == null || request.getMessages() == null) {
+            return tools;
+        }
+        for (int i = request.getMessages().size() - 1; i >= 0; i--) {
+            OllamaChatMessage message = request.getMessages().get(i);
+            if (message.getRole() == OllamaChatMessageRole.USER) {
+                return toolSelector.select(tools, message.getResponse());
+            }
+        }
+        return tools;
+    }
+
+    private static ToolRegistry requestToolRegistry(OllamaChatRequest request) {
+        ToolRegistry requestTools = new ToolRegistry();
+        if (request.getTools() != null) {
+            requestTools.addTools(request.getTools());
+        }
+        return requestTools;
+    }
+
+    private ToolFunction toolFunction(Tools.Tool tool) {
+        ToolFunction function =
+                toolResultCache != null ? toolResultCache.wrap(tool) : tool.getToolFunction();
+        if (function == null || !tracer.isEnabled()) {
+            return function;
+        }
+        // tool calls may run on other threads, so the parent is captured here
+        Span parent = tracer.currentSpan();
+        String name = tool.getToolSpec().getName();
+        return arguments -> {
+            Span span =
+                    tracer.startSpan("ollama.tool", parent).setAttribute("gen_ai.tool.name", name);
+            try {
+                return function.apply(arguments);
+            } catch (RuntimeException | Error e) {
+                span.recordError(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        };
+    }
+
+    /**
+     * Starts the tool calls of a streamed response as soon as they are parsed. Calls of unknown
+     * tools are ignored and a tool without a function fails the batch, as they do after the
+     * response.
+     */
+    private Consumer<OllamaChatToolCalls> eagerToolCallHandler(
+            ToolRegistry requestTools, ToolCallDispatcher.Batch eagerCalls) {
+        if (eagerCalls == null) {
+            return null;
+        }
+        return toolCall -> {
+            String toolName = toolCall.getFunction().getName();
+            Tools.Tool tool = requestTools.getTool(toolName);
+            if (tool == null) {
+                LOG.debug("Ignoring call of unknown tool {}", toolName);
+                return;
+            }
+            ToolFunction function = toolFunction(tool);
+            if (function == null) {
+                eagerCalls.fail(
+                        new ToolInvocationException("Tool function not found: " + toolName));
+                return;
+            }
+            LOG.debug("Starting tool {} while streaming", toolName);
+            eagerCalls.submit(
+                    new ToolCallDispatcher.Invocation(
+                            toolName, toolCall.getFunction().getArguments(), function));
+        };
+    }
+
+    /**
+     * Sets the maximum number of tool calls of one chat turn that are executed concurrently.
+     *
+     * <p>With a value greater than 1 the calls run on a pool of daemon threads, a failing call is
+     * reported to the model as an error without aborting the turn, and the results are added to
+     * the conversation in the order of the calls. Default is 1.
+     *
+     * @param toolCallParallelism the maximum number of concurrent tool calls
+     */
+    public synchronized void setToolCallParallelism(int toolCallParallelism) {
+        this.toolCallParallelism = toolCallParallelism;
+        this.toolCallDispatcher = null;
+    }
+
+    /**
+     * Sets the maximum duration of a single tool call. A call that exceeds it is reported to the
+     * model as failed. Setting a timeout runs tool calls on a separate thread even if {@link
+     * #setToolCallParallelism(int)} is 1.
+     *
+     * @param toolCallTimeout the timeout, or null for no limit
+     */
+    public synchronized void setToolCallTimeout(Duration toolCallTimeout) {
+        this.toolCallTimeout = toolCallTimeout;
+        this.toolCallDispatcher = null;
+    }
+
+    private synchronized ToolCallDispatcher getToolCallDispatcher() {
+        if (toolCallDispatcher == null) {
+            toolCallDispatcher = new ToolCallDispatcher(toolCallParallelism, toolCallTimeout);
+            toolCallDispatcher.setMetricsSink(getMetricsSink());
+        }
+        return toolCallDispatcher;
+    }
+
     /**
      * Registers a single tool in the tool registry.
      *
@@ -1244,13 +2215,9 @@ public class Ollama {
      */
     public void registerAnnotatedTools() throws OllamaException {
         try {
-            Class<?> callerClass = null;
-            try {
-                callerClass =
-                        Class.forName(Thread.currentThread().getStackTrace()[2].getClassName());
-            } catch (ClassNotFoundException e) {
-                throw new OllamaException(e.getMessage(), e);
-            }
+            Class<?> callerClass =
+                    StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+                            .getCallerClass();
 
             OllamaToolService ollamaToolServiceAnnotation =
                     callerClass.getDeclaredAnnotation(OllamaToolService.class);
@@ -1261,7 +2228,13 @@ public class Ollama {
 
             Class<?>[] providers = ollamaToolServiceAnnotation.providers();
             for (Class<?> provider : providers) {
-                registerAnnotatedTools(provider.getDeclaredConstructor().newInstance());
+                GeneratedToolProvider generated =
+                        generatedToolsEnabled ? GeneratedToolProviders.find(provider) : null;
+                Object instance = generated != null ? generated.newInstance() : null;
+                if (instance == null) {
+                    instance = provider.getDeclaredConstructor().newInstance();
+                }
+                registerAnnotatedTools(instance);
             }
         } catch (InstantiationException
                 | NoSuchMethodException
@@ -1277,11 +2250,21 @@ public class Ollama {
      * annotation and associated {@link ToolProperty} annotations. It constructs tool specifications
      * and stores them in a tool registry.
      *
+     * <p>If the {@link io.github.ollama4j.tools.annotations.processor.ToolSpecProcessor} generated
+     * a provider for the class of the object at compile time, its tools are registered without
+     * reflection.
+     *
      * @param object the object whose methods are to be inspected for annotated tools
      * @throws RuntimeException if any reflection-based instantiation or invocation fails
      */
     public void registerAnnotatedTools(Object object) {
         Class<?> objectClass = object.getClass();
+        GeneratedToolProvider generated =
+                generatedToolsEnabled ? GeneratedToolProviders.find(objectClass) : null;
+        if (generated != null) {
+            toolRegistry.addTools(generated.getTools(object));
+            return;
+        }
         Method[] methods = objectClass.getMethods();
         for (Method m : methods) {
             ToolSpec toolSpec = m.getDeclaredAnnotation(ToolSpec.class);
@@ -1320,12 +2303,17 @@ public class Ollama {
                             .description(operationDesc)
                             .parameters(Tools.Parameters.of(params))
                             .build();
-            ReflectionalToolFunction reflectionalToolFunction =
-                    new ReflectionalToolFunction(object, m, methodParams);
+            MethodHandleToolFunction toolFunction =
+                    new MethodHandleToolFunction(object, m, methodParams);
             toolRegistry.addTool(
                     Tools.Tool.builder()
-                            .toolFunction(reflectionalToolFunction)
+                            .toolFunction(toolFunction)
                             .toolSpec(toolSpecification)
+                            .cacheable(toolSpec.cacheable())
+                            .cacheTtl(
+                                    toolSpec.cacheTtlSeconds() < 0
+                                            ? null
+                                            : Duration.ofSeconds(toolSpec.cacheTtlSeconds()))
                             .build());
         }
     }
@@ -1360,14 +2348,54 @@ public class Ollama {
         return OllamaChatMessageRole.getRole(roleName);
     }
 
-    public void loadMCPToolsFromJson(String mcpConfigJsonFilePath) throws IOException {
+    /**
+     * Starts the MCP servers configured in a JSON file and registers their tools, waiting at most
+     * {@link #setMcpDiscoveryTimeout(Duration) mcpDiscoveryTimeout}.
+     *
+     * @param mcpConfigJsonFilePath the path of the configuration file
+     * @return which servers were loaded, failed or are still pending
+     * @throws IOException if the file cannot be read
+     * @see #loadMCPToolsFromJson(String, Duration)
+     */
+    public McpDiscoveryReport loadMCPToolsFromJson(String mcpConfigJsonFilePath)
+            throws IOException {
+        return loadMCPToolsFromJson(mcpConfigJsonFilePath, mcpDiscoveryTimeout);
+    }
+
+    /**
+     * Starts the MCP servers configured in a JSON file and registers their tools.
+     *
+     * <p>The servers are started and listed concurrently. The method returns when all servers are
+     * done or the deadline has passed; servers that are still starting are reported as pending and
+     * their tools are registered as soon as they are listed. A server that fails does not prevent
+     * the tools of the other servers from being registered. When a server notifies that its tools
+     * changed, its registered tools are replaced.
+     *
+     * @param mcpConfigJsonFilePath the path of the configuration file
+     * @param deadline how long to wait for the servers in total
+     * @return which servers were loaded, failed or are still pending
+     * @throws IOException if the file cannot be read
+     */
+    public McpDiscoveryReport loadMCPToolsFromJson(String mcpConfigJsonFilePath, Duration deadline)
+            throws IOException {
         String jsonContent =
                 java.nio.file.Files.readString(java.nio.file.Paths.get(mcpConfigJsonFilePath));
         MCPToolsConfig config =
                 McpJsonMapper.getDefault().readValue(jsonContent, MCPToolsConfig.class);
+        McpDiscoveryReport report = new McpDiscoveryReport();
+        if (config.mcpServers == null || config.mcpServers.isEmpty()) {
+            return report;
+        }
 
-        if (config.mcpServers != null && !config.mcpServers.isEmpty()) {
+        long start = System.nanoTime();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        config.mcpServers.size(),
+                        Utils.daemonThreadFactory("ollama4j-mcp-discovery"));
+        Map<String, CompletableFuture<Integer>> discoveries = new LinkedHashMap<>();
+        try {
             for (Map.Entry<String, MCPToolConfig> tool : config.mcpServers.entrySet()) {
+                String serverName = tool.getKey();
                 ServerParameters.Builder serverParamsBuilder =
                         ServerParameters.builder(tool.getValue().command);
                 if (tool.getValue().args != null && !tool.getValue().args.isEmpty()) {
@@ -1378,31 +2406,70 @@ public class Ollama {
                     serverParamsBuilder.args(tool.getValue().args.toArray(new String[0]));
                 }
                 ServerParameters serverParameters = serverParamsBuilder.build();
-                StdioClientTransport transport =
-                        new StdioClientTransport(serverParameters, McpJsonMapper.getDefault());
+                mcpSessionPool.register(
+                        serverName,
+                        serverParameters,
+                        tools -> registerMCPTools(serverName, serverParameters, tools));
+                // the session used for discovery stays in the pool for the tool calls
+                discoveries.put(
+                        serverName,
+                        CompletableFuture.supplyAsync(
+                                () -> {
+                                    List<io.modelcontextprotocol.spec.McpSchema.Tool> tools =
+                                            mcpSessionPool.listTools(serverName);
+                                    registerMCPTools(serverName, serverParameters, tools);
+                                    return tools.size();
+                                },
+                                executor));
+            }
+        } finally {
+            // lets pending discoveries finish, the threads end afterwards
+            executor.shutdown();
+        }
 
-                int mcpToolRequestTimeoutSeconds = 30;
-                try {
-                    McpSyncClient client =
-                            McpClient.sync(transport)
-                                    .requestTimeout(
-                                            Duration.ofSeconds(mcpToolRequestTimeoutSeconds))
-                                    .build();
-                    client.initialize();
-
-                    ListToolsResult result = client.listTools();
-                    for (io.modelcontextprotocol.spec.McpSchema.Tool mcpTool : result.tools()) {
-                        Tools.Tool mcpToolAsOllama4jTool =
-                                createOllamaToolFromMCPTool(
-                                        tool.getKey(), mcpTool, serverParameters);
-                        toolRegistry.addTool(mcpToolAsOllama4jTool);
-                    }
-                    client.close();
-                } finally {
-                    transport.close();
+        try {
+            CompletableFuture.allOf(discoveries.values().toArray(new CompletableFuture[0]))
+                    .get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // reported per server below
+        }
+        for (Map.Entry<String, CompletableFuture<Integer>> discovery : discoveries.entrySet()) {
+            String serverName = discovery.getKey();
+            CompletableFuture<Integer> future = discovery.getValue();
+            if (!future.isDone()) {
+                LOG.warn("MCP server '{}' did not list its tools in time", serverName);
+                report.getPending().add(serverName);
+            } else if (future.isCompletedExceptionally()) {
+                Throwable cause = future.handle((count, error) -> error).join();
+                if (cause instanceof CompletionException && cause.getCause() != null) {
+                    cause = cause.getCause();
                 }
+                LOG.warn("Failed to load tools of MCP server '{}'", serverName, cause);
+                report.getFailed().put(serverName, String.valueOf(cause.getMessage()));
+            } else {
+                report.getLoaded().put(serverName, future.join());
             }
         }
+        report.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    /** Replaces the registered tools of an MCP server. */
+    private void registerMCPTools(
+            String mcpServerName,
+            ServerParameters serverParameters,
+            List<io.modelcontextprotocol.spec.McpSchema.Tool> mcpTools) {
+        List<Tools.Tool> tools = new ArrayList<>(mcpTools.size());
+        for (io.modelcontextprotocol.spec.McpSchema.Tool mcpTool : mcpTools) {
+            tools.add(createOllamaToolFromMCPTool(mcpServerName, mcpTool, serverParameters));
+        }
+        synchronized (toolRegistry) {
+            toolRegistry.removeTools(
+                    tool -> tool.isMCPTool() && mcpServerName.equals(tool.getMcpServerName()));
+            toolRegistry.addTools(tools);
+        }
     }
 
     /**
@@ -1422,26 +2489,13 @@ public class Ollama {
         for (Tools.Tool tool : getRegisteredTools()) {
             if (tool.isMCPTool() && tool.getMcpServerName().equals(mcpServerName)) {
                 if (tool.getToolSpec().getName().equals(toolName)) {
-                    ServerParameters serverParameters = tool.getMcpServerParameters();
-                    StdioClientTransport stdioTransport =
-                            new StdioClientTransport(serverParameters, McpJsonMapper.getDefault());
-                    try {
-                        LOG.info(
-                                "Calling MCP Tool: '{}.{}' with arguments: {}",
-                                mcpServerName,
-                                toolName,
-                                arguments);
-                        try (McpSyncClient client =
-                                McpClient.sync(stdioTransport)
-                                        .requestTimeout(Duration.ofSeconds(requestTimeoutSeconds))
-                                        .build()) {
-                            client.initialize();
-                            CallToolRequest request = new CallToolRequest(toolName, arguments);
-                            return client.callTool(request);
-                        }
-                    } finally {
-                        stdioTransport.close();
-                    }
+                    LOG.info(
+                            "Calling MCP Tool: '{}.{}' with arguments: {}",
+                            mcpServerName,
+                            toolName,
+                            arguments);
+                    return mcpSessionPool.callTool(
+                            mcpServerName, new CallToolRequest(toolName, arguments));
                 }
             }
         }
@@ -1452,6 +2506,15 @@ public class Ollama {
                         + toolName);
     }
 
+    /**
+     * Shuts down the sessions with the MCP servers of the {@link #getMcpSessionPool() MCP session
+     * pool}. The client can still be used afterwards, the sessions are started again when needed.
+     */
+    @Override
+    public void close() {
+        mcpSessionPool.close();
+    }
+
     // technical private methods //
 
     /**
@@ -1496,9 +2559,13 @@ public class Ollama {
         long startTime = System.currentTimeMillis();
         int statusCode = -1;
         Object out = null;
+        Span span =
+                tracer.startSpan("ollama.generate")
+                        .setAttribute("gen_ai.request.model", ollamaRequestModel.getModel());
         try {
             OllamaGenerateEndpointCaller requestCaller =
                     new OllamaGenerateEndpointCaller(host, auth, requestTimeoutSeconds);
+            requestCaller.setMetricsSink(getMetricsSink());
             OllamaResult result;
             if (responseStreamHandler != null) {
                 ollamaRequestModel.setStream(true);
@@ -1510,14 +2577,19 @@ public class Ollama {
             }
             statusCode = result.getHttpStatusCode();
             out = result;
+            traceTimings(span, result.getTimings());
             return result;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            span.recordError(e);
             throw new OllamaException("Thread was interrupted", e);
         } catch (Exception e) {
+            span.recordError(e);
             throw new OllamaException(e.getMessage(), e);
         } finally {
+            span.setAttribute("ollama.streaming", ollamaRequestModel.isStream()).end();
             MetricsRecorder.record(
+                    getMetricsSink(),
                     OllamaGenerateEndpointCaller.endpoint,
                     ollamaRequestModel.getModel(),
                     ollamaRequestModel.isRaw(),
@@ -1531,6 +2603,57 @@ public class Ollama {
         }
     }
 
+    /**
+     * Notifies the components tracking per-model traffic of a request for a model.
+     *
+     * @param model the requested model
+     */
+    private void recordModelRequest(String model) {
+        if (residencyManager != null) {
+            residencyManager.recordRequest(model);
+        }
+        if (adaptiveKeepAlive != null) {
+            adaptiveKeepAlive.recordArrival(model);
+        }
+    }
+
+    /**
+     * Sets the adaptive keep-alive on a request that has no explicit keep-alive. The caller is
+     * expected to restore the original keep-alive afterwards, so that a reused request keeps
+     * adapting.
+     *
+     * @param model the model of the request
+     * @param requestKeepAlive the keep-alive set on the request by the caller
+     * @param keepAliveSetter setter for the keep-alive of the request
+     * @return how the keep-alive of the request was chosen, or null if no adaptive keep-alive is
+     *     configured
+     */
+    private AdaptiveKeepAlive.Mode applyAdaptiveKeepAlive(
+            String model, String requestKeepAlive, Consumer<String> keepAliveSetter) {
+        if (adaptiveKeepAlive == null) {
+            return null;
+        }
+        if (requestKeepAlive != null) {
+            return AdaptiveKeepAlive.Mode.STATIC;
+        }
+        keepAliveSetter.accept(adaptiveKeepAlive.keepAliveFor(model));
+        return adaptiveKeepAlive.modeFor(model);
+    }
+
+    /**
+     * Reports the load duration of a response to the adaptive keep-alive, if configured.
+     *
+     * @param model the model of the request
+     * @param loadDurationNanos the reported load duration in nanoseconds, may be null
+     * @param keepAliveMode how the keep-alive of the request was chosen
+     */
+    private void recordModelLoad(
+            String model, Long loadDurationNanos, AdaptiveKeepAlive.Mode keepAliveMode) {
+        if (adaptiveKeepAlive != null && keepAliveMode != null) {
+            adaptiveKeepAlive.recordLoad(model, loadDurationNanos, keepAliveMode);
+        }
+    }
+
     /**
      * Get default request builder.
      *
@@ -0,0 +1,24 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j;
+
+import io.github.ollama4j.models.response.PullProgress;
+
+/**
+ * Listener for the combined progress of pulling several models.
+ */
+@FunctionalInterface
+public interface PullProgressListener {
+    /**
+     * Called periodically while models are being pulled and once all pulls have finished.
+     *
+     * @param progress the combined progress of all models
+     */
+    void onProgress(PullProgress progress);
+}
@@ -0,0 +1,199 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j;
+
+import io.github.ollama4j.models.response.ModelPullResponse;
+import io.github.ollama4j.models.response.PullProgress;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Aggregates the per-layer progress lines of several concurrent model pulls into a single {@link
+ * PullProgress} with throughput and ETA.
+ *
+ * <p>Progress is tracked per model and layer digest using the latest {@code completed}/{@code
+ * total} reported for it, so a layer that is resumed after a retry is not counted twice. The
+ * download rate is computed over a sliding window of recent samples. The listener is notified at
+ * most once per {@code notifyInterval} and whenever a model finishes.
+ */
+public class PullProgressTracker implements ModelPullListener {
+
+    private static final long RATE_WINDOW_MILLIS = 10_000;
+
+    private final PullProgressListener listener;
+    private final LongSupplier clockMillis;
+    private final long notifyIntervalMillis;
+
+    private final Map<String, String> modelStatus = new LinkedHashMap<>();
+    private final Map<String, Map<String, long[]>> layers = new HashMap<>();
+    private final Set<String> completedModels = new HashSet<>();
+    private final Set<String> failedModels = new HashSet<>();
+    private final Deque<long[]> samples = new ArrayDeque<>();
+    private boolean notified;
+    private long lastNotified;
+
+    /**
+     * Creates a tracker for the given models.
+     *
+     * @param models the models being pulled
+     * @param listener the listener to notify of the combined progress, may be null
+     * @param notifyInterval the minimum interval between two notifications
+     */
+    public PullProgressTracker(
+            List<String> models, PullProgressListener listener, Duration notifyInterval) {
+        this(models, listener, notifyInterval, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a tracker for the given models using a custom clock.
+     *
+     * @param models the models being pulled
+     * @param listener the listener to notify of the combined progress, may be null
+     * @param notifyInterval the minimum interval between two notifications
+     * @param clockMillis the clock used for throughput computation, in milliseconds
+     */
+    public PullProgressTracker(
+            List<String> models,
+            PullProgressListener listener,
+            Duration notifyInterval,
+            LongSupplier clockMillis) {
+        this.listener = listener;
+        this.clockMillis = clockMillis;
+        this.notifyIntervalMillis = notifyInterval.toMillis();
+        for (String model : models) {
+            modelStatus.put(model, "queued");
+            layers.put(model, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void onStatusUpdate(String modelName, ModelPullResponse response) {
+        PullProgress progress;
+        synchronized (this) {
+            if (response.getStatus() != null) {
+                modelStatus.put(modelName, response.getStatus());
+            }
+            if (response.getDigest() != null && response.getTotal() > 0) {
+                layers.computeIfAbsent(modelName, k -> new HashMap<>())
+                        .put(
+                                response.getDigest(),
+                                new long[] {response.getCompleted(), response.getTotal()});
+            }
+            progress = sampleAndMaybeSnapshot(false);
+        }
+        notifyListener(progress);
+    }
+
+    /**
+     * Marks a model as pulled successfully.
+     *
+     * @param modelName the model
+     */
+    public void markCompleted(String modelName) {
+        PullProgress progress;
+        synchronized (this) {
+            completedModels.add(modelName);
+            failedModels.remove(modelName);
+            modelStatus.put(modelName, "success");
+            for (long[] layer : layers.getOrDefault(modelName, Map.of()).values()) {
+                layer[0] = layer[1];
+            }
+            progress = sampleAndMaybeSnapshot(true);
+        }
+        notifyListener(progress);
+    }
+
+    /**
+     * Marks a model as failed.
+     *
+     * @param modelName the model
+     * @param error the error message
+     */
+    public void markFailed(String modelName, String error) {
+        PullProgress progress;
+        synchronized (this) {
+            failedModels.add(modelName);
+            modelStatus.put(modelName, "failed: " + error);
+            progress = sampleAndMaybeSnapshot(true);
+        }
+        notifyListener(progress);
+    }
+
+    /**
+     * @return the current combined progress
+     */
+    public synchronized PullProgress snapshot() {
+        long completed = 0;
+        long total = 0;
+        for (Map<String, long[]> modelLayers : layers.values()) {
+            for (long[] layer : modelLayers.values()) {
+                completed += Math.min(layer[0], layer[1]);
+                total += layer[1];
+            }
+        }
+        double rate = 0;
+        if (samples.size() > 1) {
+            long[] oldest = samples.peekFirst();
+            long[] newest = samples.peekLast();
+            long elapsed = newest[0] - oldest[0];
+            if (elapsed > 0) {
+                rate = (newest[1] - oldest[1]) * 1000.0 / elapsed;
+            }
+        }
+        Duration eta = null;
+        if (completed >= total) {
+            eta = Duration.ZERO;
+        } else if (rate > 0) {
+            eta = Duration.ofMillis((long) ((total - completed) * 1000 / rate));
+        }
+        return new PullProgress(
+                modelStatus.size(),
+                completedModels.size(),
+                failedModels.size(),
+                total,
+                completed,
+                rate,
+                eta,
+                new LinkedHashMap<>(modelStatus));
+    }
+
+    private PullProgress sampleAndMaybeSnapshot(boolean force) {
+        long now = clockMillis.getAsLong();
+        long completed = 0;
+        for (Map<String, long[]> modelLayers : layers.values()) {
+            for (long[] layer : modelLayers.values()) {
+                completed += Math.min(layer[0], layer[1]);
+            }
+        }
+        samples.addLast(new long[] {now, completed});
+        while (samples.size() > 2 && now - samples.peekFirst()[0] > RATE_WINDOW_MILLIS) {
+            samples.removeFirst();
+        }
+        if (listener == null || (!force && notified && now - lastNotified < notifyIntervalMillis)) {
+            return null;
+        }
+        notified = true;
+        lastNotified = now;
+        return snapshot();
+    }
+
+    private void notifyListener(PullProgress progress) {
+        if (progress != null) {
+            listener.onProgress(progress);
+        }
+    }
+}
@@ -8,6 +8,7 @@
 */
 package io.github.ollama4j.agent;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.github.ollama4j.Ollama;
@@ -36,13 +37,16 @@ import lombok.*;
  *   <li>Handle conversation turns via {@link #interact(String, OllamaChatStreamObserver)}.
  *   <li>Use {@link #runInteractive()} for an interactive console-based session.
  * </ul>
+ *
+ * <p>An agent keeps a single chat history and must not be used by concurrent conversations. To
+ * serve many conversations with one agent, use an {@link AgentRuntime}.
  */
 public class Agent {
     /** The agent's display name */
     private final String name;
 
-    /** List of supported tools for this agent */
-    private final List<Tools.Tool> tools;
+    /** The supported tools and the system prompt describing them, replaced together */
+    private volatile Prompt prompt;
 
     /** Ollama client instance for communication with the API */
     private final Ollama ollamaClient;
@@ -74,9 +78,58 @@ public class Agent {
         this.name = name;
         this.ollamaClient = ollamaClient;
         this.chatHistory = new ArrayList<>();
-        this.tools = tools;
         this.model = model;
         this.customPrompt = customPrompt;
+        this.prompt = prepare(tools);
+    }
+
+    /**
+     * Replaces the tools of the agent. Conversations in progress continue with the system prompt
+     * they started with.
+     *
+     * @param tools List of available tools for function calling.
+     */
+    public void setTools(List<Tools.Tool> tools) {
+        this.prompt = prepare(tools);
+    }
+
+    /**
+     * @return the tools of the agent
+     */
+    public List<Tools.Tool> getTools() {
+        return prompt.tools;
+    }
+
+    /**
+     * Builds the system prompt for the tools once, so that turns and sessions reuse it, and
+     * serializes the tools, so that requests reuse their JSON.
+     */
+    private Prompt prepare(List<Tools.Tool> tools) {
+        List<Tools.Tool> snapshot = List.copyOf(tools);
+        StringBuilder systemPrompt =
+                new StringBuilder("You are a helpful AI assistant named ")
+                        .append(name)
+                        .append(". Your actions are limited to using the available tools. ");
+        if (customPrompt != null) {
+            systemPrompt.append(customPrompt);
+        }
+        if (!snapshot.isEmpty()) {
+            systemPrompt.append("\nYou have access to the following tools:");
+        }
+        for (Tools.Tool tool : snapshot) {
+            String description = tool.getToolSpec().getDescription();
+            systemPrompt
+                    .append("\n- ")
+                    .append(tool.getToolSpec().getName())
+                    .append(": ")
+                    .append(description != null ? description : "No description");
+            try {
+                tool.toJson();
+            } catch (JsonProcessingException e) {
+                // reported when a request with the tool is serialized
+            }
+        }
+        return new Prompt(snapshot, systemPrompt.toString());
     }
 
     /**
@@ -137,7 +190,7 @@ public class Agent {
             }
             Ollama ollama = new Ollama(agentSpec.getHost());
             ollama.setRequestTimeoutSeconds(120);
-            ollama.pullModel(agentSpec.getModel());
+            ollama.ensureModel(agentSpec.getModel());
             return new Agent(
                     agentSpec.getName(),
                     ollama,
@@ -161,51 +214,50 @@ public class Agent {
      */
     public List<OllamaChatMessage> interact(
             String userInput, OllamaChatStreamObserver chatTokenHandler) throws OllamaException {
-        // Build a concise and readable description of available tools
-        String availableToolsDescription =
-                tools.isEmpty()
-                        ? ""
-                        : tools.stream()
-                                .map(
-                                        t ->
-                                                String.format(
-                                                        "- %s: %s",
-                                                        t.getToolSpec().getName(),
-                                                        t.getToolSpec().getDescription() != null
-                                                                ? t.getToolSpec().getDescription()
-                                                                : "No description"))
-                                .reduce((a, b) -> a + "\n" + b)
-                                .map(desc -> "\nYou have access to the following tools:\n" + desc)
-                                .orElse("");
+        return interact(chatHistory, userInput, chatTokenHandler).getChatHistory();
+    }
+
+    /**
+     * Conducts a conversational interaction with the agent on the given chat history, which is
+     * replaced with the updated history. The agent itself is not changed.
+     *
+     * @param history the chat history of the conversation
+     * @param userInput the user's message for the agent
+     * @param chatTokenHandler an optional handler for streaming token updates, may be {@code null}
+     * @return the result of the last chat request of the turn
+     * @throws OllamaException if an error occurs communicating with the Ollama API or running tools.
+     */
+    OllamaChatResult interact(
+            List<OllamaChatMessage> history,
+            String userInput,
+            OllamaChatStreamObserver chatTokenHandler)
+            throws OllamaException {
+        Prompt prompt = this.prompt;
 
-        // Add system prompt if chatHistory is empty
-        if (chatHistory.isEmpty()) {
-            String systemPrompt =
-                    String.format(
-                            "You are a helpful AI assistant named %s. Your actions are limited to"
-                                    + " using the available tools. %s%s",
-                            name,
-                            (customPrompt != null ? customPrompt : ""),
-                            availableToolsDescription);
-            chatHistory.add(new OllamaChatMessage(OllamaChatMessageRole.SYSTEM, systemPrompt));
+        // The request gets its own copies, as the chat appends to its messages and tools
+        List<OllamaChatMessage> messages = new ArrayList<>(history);
+
+        // Add system prompt if the history is empty
+        if (messages.isEmpty()) {
+            messages.add(new OllamaChatMessage(OllamaChatMessageRole.SYSTEM, prompt.systemPrompt));
         }
 
         // Add the user input as a message before sending request
-        chatHistory.add(new OllamaChatMessage(OllamaChatMessageRole.USER, userInput));
+        messages.add(new OllamaChatMessage(OllamaChatMessageRole.USER, userInput));
 
         OllamaChatRequest request =
                 OllamaChatRequest.builder()
-                        .withTools(tools)
+                        .withTools(new ArrayList<>(prompt.tools))
                         .withUseTools(true)
                         .withModel(model)
-                        .withMessages(chatHistory)
+                        .withMessages(messages)
                         .build();
         OllamaChatResult response = ollamaClient.chat(request, chatTokenHandler);
 
-        chatHistory.clear();
-        chatHistory.addAll(response.getChatHistory());
+        history.clear();
+        history.addAll(response.getChatHistory());
 
-        return response.getChatHistory();
+        return response;
     }
 
     /**
@@ -230,6 +282,13 @@ public class Agent {
         }
     }
 
+    /** The tools of the agent and the system prompt describing them. */
+    @AllArgsConstructor
+    private static final class Prompt {
+        private final List<Tools.Tool> tools;
+        private final String systemPrompt;
+    }
+
     /**
      * Bean describing an agent as definable from YAML.
      *
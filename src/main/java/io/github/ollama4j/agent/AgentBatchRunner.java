@@ -0,0 +1,256 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.agent;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import io.github.ollama4j.models.chat.OllamaChatResponseModel;
+import io.github.ollama4j.models.chat.OllamaChatResult;
+import io.github.ollama4j.utils.Utils;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays scripted conversations with an {@link Agent}, e.g. to evaluate it.
+ *
+ * <p>Each conversation runs in its own session, and up to {@code parallelism} conversations run
+ * concurrently. The user turns of a conversation are sent one after the other; a conversation
+ * stops at its first failed turn. For each conversation the final chat history, the number of
+ * tool calls and the latency and token counts of its turns are collected, and can be written as
+ * JSON lines.
+ *
+ * <pre>{@code
+ * AgentBatchRunner runner = new AgentBatchRunner(Agent.load("agent.yaml"));
+ * runner.setParallelism(8);
+ * runner.run(AgentBatchRunner.readScripts(Path.of("scripts.jsonl")), Path.of("results.jsonl"));
+ * }</pre>
+ */
+public class AgentBatchRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AgentBatchRunner.class);
+
+    private final Agent agent;
+
+    /** Maximum number of conversations that run concurrently. Default is 4. */
+    @Setter @Getter private int parallelism = 4;
+
+    /**
+     * Creates a runner.
+     *
+     * @param agent the agent conducting the conversations
+     */
+    public AgentBatchRunner(Agent agent) {
+        this.agent = agent;
+    }
+
+    /** A scripted conversation: the messages a user sends, one per turn. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConversationScript {
+        private String id;
+        private List<String> turns;
+    }
+
+    /** The outcome of a scripted conversation. */
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ConversationResult {
+        private String id;
+
+        /** Number of user turns that completed. */
+        private int completedTurns;
+
+        /** Number of tool calls made by the model. */
+        private int toolCalls;
+
+        /** Latency of each completed turn, including tool calls, in milliseconds. */
+        private List<Long> turnLatenciesMillis = new ArrayList<>();
+
+        /** Prompt tokens of the final response of each turn, summed up. */
+        private long promptTokens;
+
+        /** Generated tokens of the final response of each turn, summed up. */
+        private long completionTokens;
+
+        /** The message of the error that stopped the conversation, null if all turns completed. */
+        private String error;
+
+        private List<OllamaChatMessage> history = new ArrayList<>();
+
+        /**
+         * @return the sum of the turn latencies in milliseconds
+         */
+        public long getTotalLatencyMillis() {
+            return turnLatenciesMillis.stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    /**
+     * Reads conversation scripts from a file with one JSON object per line, e.g. {@code {"id":
+     * "weather-1", "turns": ["Hi", "What is the weather in Paris?"]}}. Blank lines are skipped.
+     *
+     * @param jsonl the file
+     * @return the scripts
+     * @throws IOException if the file cannot be read or a line is not a script
+     */
+    public static List<ConversationScript> readScripts(Path jsonl) throws IOException {
+        ObjectMapper mapper = Utils.getObjectMapper();
+        List<ConversationScript> scripts = new ArrayList<>();
+        for (String line : Files.readAllLines(jsonl, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                scripts.add(mapper.readValue(line, ConversationScript.class));
+            }
+        }
+        return scripts;
+    }
+
+    /**
+     * Runs conversations.
+     *
+     * @param scripts the conversations
+     * @return the results, in the order of the scripts
+     * @throws OllamaException if the runner is interrupted
+     */
+    public List<ConversationResult> run(List<ConversationScript> scripts) throws OllamaException {
+        return run(scripts, result -> {});
+    }
+
+    /**
+     * Runs conversations and writes each result as a line of JSON as soon as its conversation is
+     * complete.
+     *
+     * @param scripts the conversations
+     * @param output the file the results are written to, replaced if it exists
+     * @return the results, in the order of the scripts
+     * @throws OllamaException if the file cannot be written or the runner is interrupted
+     */
+    public List<ConversationResult> run(List<ConversationScript> scripts, Path output)
+            throws OllamaException {
+        ObjectMapper mapper = Utils.getObjectMapper();
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            return run(
+                    scripts,
+                    result -> {
+                        try {
+                            synchronized (writer) {
+                                writer.write(mapper.writeValueAsString(result));
+                                writer.newLine();
+                                writer.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException e) {
+            throw new OllamaException("Failed to write the results to " + output, e);
+        }
+    }
+
+    private List<ConversationResult> run(
+            List<ConversationScript> scripts, Consumer<ConversationResult> onComplete)
+            throws OllamaException {
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        Math.max(1, parallelism),
+                        Utils.daemonThreadFactory("ollama4j-agent-batch"));
+        try {
+            List<CompletableFuture<ConversationResult>> futures =
+                    scripts.stream()
+                            .map(
+                                    script ->
+                                            CompletableFuture.supplyAsync(
+                                                            () -> converse(script), executor)
+                                                    .thenApply(
+                                                            result -> {
+                                                                onComplete.accept(result);
+                                                                return result;
+                                                            }))
+                            .collect(Collectors.toList());
+            List<ConversationResult> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<ConversationResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OllamaException("Thread was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw new OllamaException(
+                        "Failed to write a result", ((UncheckedIOException) cause).getCause());
+            }
+            throw new OllamaException(
+                    cause.getMessage(),
+                    cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ConversationResult converse(ConversationScript script) {
+        ConversationResult result = new ConversationResult();
+        result.setId(script.getId());
+        List<OllamaChatMessage> history = new ArrayList<>();
+        for (String turn : script.getTurns()) {
+            long start = System.nanoTime();
+            try {
+                OllamaChatResult response = agent.interact(history, turn, null);
+                result.getTurnLatenciesMillis().add((System.nanoTime() - start) / 1_000_000);
+                result.setCompletedTurns(result.getCompletedTurns() + 1);
+                OllamaChatResponseModel model = response.getResponseModel();
+                if (model != null) {
+                    result.setPromptTokens(
+                            result.getPromptTokens() + count(model.getPromptEvalCount()));
+                    result.setCompletionTokens(
+                            result.getCompletionTokens() + count(model.getEvalCount()));
+                }
+            } catch (Exception e) {
+                LOG.warn("Conversation {} failed: {}", script.getId(), e.getMessage());
+                result.setError(e.getMessage() != null ? e.getMessage() : e.toString());
+                break;
+            }
+        }
+        result.setHistory(history);
+        result.setToolCalls(
+                history.stream()
+                        .filter(m -> m.getRole() == OllamaChatMessageRole.ASSISTANT)
+                        .filter(m -> m.getToolCalls() != null)
+                        .mapToInt(m -> m.getToolCalls().size())
+                        .sum());
+        return result;
+    }
+
+    private static long count(Integer tokens) {
+        return tokens != null ? tokens : 0;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.agent;
+
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.models.chat.OllamaChatStreamObserver;
+import io.github.ollama4j.utils.Utils;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves many concurrent conversations, called sessions, with one configured {@link Agent}.
+ *
+ * <p>Each session has its own chat history. The Ollama client, the model and the tools of the
+ * agent are shared by all sessions. Turns of the same session are executed one after the other,
+ * while turns of different sessions run concurrently. Sessions that have been idle for longer
+ * than {@code sessionIdleTimeout} are evicted in the background.
+ *
+ * <p>With a {@link SessionStore}, the history of each turn is persisted. Evicted sessions are only
+ * dropped from memory and are loaded from the store again on their next turn, also after a
+ * restart.
+ *
+ * <pre>{@code
+ * AgentRuntime runtime = new AgentRuntime(Agent.load("agent.yaml"));
+ * List<OllamaChatMessage> history = runtime.interact(userId, "What is the weather?", null);
+ * }</pre>
+ */
+public class AgentRuntime implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AgentRuntime.class);
+
+    private final Agent agent;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reaper;
+
+    /** Sessions idle for longer than this are evicted. Default is 30 minutes. */
+    @Setter @Getter private Duration sessionIdleTimeout = Duration.ofMinutes(30);
+
+    /** Persists the chat histories, or null to keep them in memory only. Default is null. */
+    @Setter @Getter private SessionStore sessionStore;
+
+    /**
+     * Creates a runtime.
+     *
+     * @param agent the agent serving the sessions
+     */
+    public AgentRuntime(Agent agent) {
+        this.agent = agent;
+    }
+
+    /**
+     * Conducts a turn of a session, which is started if it does not exist.
+     *
+     * @param sessionId the id of the session
+     * @param userInput the user's message for the agent
+     * @param chatTokenHandler an optional handler for streaming token updates, may be {@code null}
+     * @return a copy of the updated chat history of the session
+     * @throws OllamaException if an error occurs communicating with the Ollama API or running
+     *     tools, or if the history cannot be loaded or persisted
+     */
+    public List<OllamaChatMessage> interact(
+            String sessionId, String userInput, OllamaChatStreamObserver chatTokenHandler)
+            throws OllamaException {
+        ensureReaperStarted();
+        while (true) {
+            Session session = sessions.computeIfAbsent(sessionId, id -> new Session());
+            session.lock.lock();
+            try {
+                if (session.evicted) {
+                    // evicted while waiting for the lock, continue with a new session
+                    continue;
+                }
+                session.touch();
+                load(sessionId, session);
+                List<OllamaChatMessage> previous = new ArrayList<>(session.history);
+                agent.interact(session.history, userInput, chatTokenHandler);
+                try {
+                    persist(sessionId, previous, session.history);
+                } catch (OllamaException e) {
+                    // reload the persisted history on the next turn
+                    session.loaded = false;
+                    throw e;
+                }
+                return new ArrayList<>(session.history);
+            } finally {
+                session.touch();
+                session.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @param sessionId the id of the session
+     * @return a copy of the chat history of the session, empty if the session does not exist
+     * @throws OllamaException if the history cannot be loaded from the store
+     */
+    public List<OllamaChatMessage> getHistory(String sessionId) throws OllamaException {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return sessionStore == null ? new ArrayList<>() : loadFromStore(sessionId);
+        }
+        session.lock.lock();
+        try {
+            if (!session.loaded) {
+                return sessionStore == null ? new ArrayList<>() : loadFromStore(sessionId);
+            }
+            return new ArrayList<>(session.history);
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * Ends a session and drops its chat history, also from the store. A turn of the session that
+     * is in progress is completed first.
+     *
+     * @param sessionId the id of the session
+     * @return whether the session was in memory
+     * @throws OllamaException if the history cannot be deleted from the store
+     */
+    public boolean endSession(String sessionId) throws OllamaException {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            deleteFromStore(sessionId);
+            return false;
+        }
+        session.lock.lock();
+        try {
+            session.evicted = true;
+            boolean removed = sessions.remove(sessionId, session);
+            deleteFromStore(sessionId);
+            return removed;
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of sessions held in memory
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Evicts the sessions that have been idle for longer than {@code sessionIdleTimeout}. Sessions
+     * with a turn in progress are never evicted.
+     *
+     * @return the number of evicted sessions
+     */
+    public int evictIdleSessions() {
+        long now = System.nanoTime();
+        long timeout = sessionIdleTimeout.toNanos();
+        int evicted = 0;
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            Session session = entry.getValue();
+            if (now - session.lastAccessNanos < timeout || !session.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (now - session.lastAccessNanos >= timeout) {
+                    session.evicted = true;
+                    if (sessions.remove(entry.getKey(), session)) {
+                        evicted++;
+                    }
+                }
+            } finally {
+                session.lock.unlock();
+            }
+        }
+        if (evicted > 0) {
+            LOG.debug("Evicted {} idle agent sessions", evicted);
+        }
+        return evicted;
+    }
+
+    /** Stops the background eviction and drops all sessions. */
+    @Override
+    public synchronized void close() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+            reaper = null;
+        }
+        sessions.clear();
+    }
+
+    private void load(String sessionId, Session session) throws OllamaException {
+        if (!session.loaded) {
+            session.history.clear();
+            if (sessionStore != null) {
+                session.history.addAll(loadFromStore(sessionId));
+            }
+            session.loaded = true;
+        }
+    }
+
+    private List<OllamaChatMessage> loadFromStore(String sessionId) throws OllamaException {
+        try {
+            return sessionStore.load(sessionId);
+        } catch (IOException e) {
+            throw new OllamaException("Failed to load the history of session " + sessionId, e);
+        }
+    }
+
+    /** Appends the new messages of a turn, or replaces the history if it was rewritten. */
+    private void persist(
+            String sessionId, List<OllamaChatMessage> previous, List<OllamaChatMessage> history)
+            throws OllamaException {
+        if (sessionStore == null) {
+            return;
+        }
+        try {
+            if (history.size() >= previous.size()
+                    && history.subList(0, previous.size()).equals(previous)) {
+                sessionStore.append(sessionId, history.subList(previous.size(), history.size()));
+            } else {
+                sessionStore.replace(sessionId, history);
+            }
+        } catch (IOException e) {
+            throw new OllamaException("Failed to persist the history of session " + sessionId, e);
+        }
+    }
+
+    private void deleteFromStore(String sessionId) throws OllamaException {
+        if (sessionStore == null) {
+            return;
+        }
+        try {
+            sessionStore.delete(sessionId);
+        } catch (IOException e) {
+            throw new OllamaException("Failed to delete the history of session " + sessionId, e);
+        }
+    }
+
+    private synchronized void ensureReaperStarted() {
+        if (reaper != null) {
+            return;
+        }
+        long period = Math.max(1000, sessionIdleTimeout.toMillis() / 2);
+        reaper =
+                Executors.newSingleThreadScheduledExecutor(
+                        Utils.daemonThreadFactory("ollama4j-agent-session-reaper"));
+        reaper.scheduleWithFixedDelay(
+                this::evictIdleSessions, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private static final class Session {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<OllamaChatMessage> history = new ArrayList<>();
+        private volatile long lastAccessNanos = System.nanoTime();
+        private boolean loaded;
+        private boolean evicted;
+
+        private void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+    }
+}
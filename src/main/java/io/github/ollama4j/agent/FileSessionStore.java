@@ -0,0 +1,219 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.agent;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.utils.Utils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SessionStore} that keeps an append-only log file per session in a directory.
+ *
+ * <p>Each line of a log is a JSON record holding a message, or a reset marker written when the
+ * history is replaced, which drops the records before it. Logs are read through a memory mapping
+ * and parsed record by record. When a replaced history leaves at least as many bytes of dropped
+ * records as live ones, and at least {@code compactionThresholdBytes}, the log is compacted by
+ * atomically replacing it with a log holding only the live records.
+ *
+ * <p>A record that was only partially written, e.g. because the process crashed, is skipped when
+ * the log is read.
+ */
+public class FileSessionStore implements SessionStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileSessionStore.class);
+    private static final byte NEWLINE = '\n';
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final ObjectMapper mapper = Utils.getObjectMapper();
+
+    /** Logs with fewer bytes of dropped records are not compacted. Default is 64 KiB. */
+    @Setter @Getter private long compactionThresholdBytes = 64 * 1024;
+
+    /**
+     * Creates a store, creating the directory if it does not exist.
+     *
+     * @param directory the directory of the logs
+     * @throws IOException if the directory cannot be created
+     */
+    public FileSessionStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public List<OllamaChatMessage> load(String sessionId) throws IOException {
+        Path log = logFile(sessionId);
+        List<OllamaChatMessage> messages = new ArrayList<>();
+        if (!Files.exists(log)) {
+            return messages;
+        }
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return messages;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int start = 0;
+            for (int i = 0; i < buffer.limit(); i++) {
+                if (buffer.get(i) != NEWLINE) {
+                    continue;
+                }
+                if (i > start) {
+                    Entry entry = read(buffer.slice(start, i - start), sessionId);
+                    if (entry != null && entry.isReset()) {
+                        messages.clear();
+                    } else if (entry != null && entry.getMessage() != null) {
+                        messages.add(entry.getMessage());
+                    }
+                }
+                start = i + 1;
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public void append(String sessionId, List<OllamaChatMessage> messages) throws IOException {
+        if (!messages.isEmpty()) {
+            write(logFile(sessionId), records(messages, false));
+        }
+    }
+
+    @Override
+    public void replace(String sessionId, List<OllamaChatMessage> messages) throws IOException {
+        Path log = logFile(sessionId);
+        long dropped = Files.exists(log) ? Files.size(log) : 0;
+        byte[] records = records(messages, dropped > 0);
+        if (dropped > 0 && dropped >= Math.max(records.length, compactionThresholdBytes)) {
+            compact(log, records(messages, false));
+        } else {
+            write(log, records);
+        }
+    }
+
+    /**
+     * Rewrites the log of a session with only its live records.
+     *
+     * @param sessionId the id of the session
+     * @throws IOException if the log cannot be rewritten
+     */
+    public void compact(String sessionId) throws IOException {
+        Path log = logFile(sessionId);
+        if (Files.exists(log)) {
+            compact(log, records(load(sessionId), false));
+        }
+    }
+
+    @Override
+    public void delete(String sessionId) throws IOException {
+        Files.deleteIfExists(logFile(sessionId));
+    }
+
+    private Path logFile(String sessionId) {
+        return directory.resolve(
+                Utils.sha256Hex(sessionId.getBytes(StandardCharsets.UTF_8)) + SUFFIX);
+    }
+
+    private Entry read(ByteBuffer record, String sessionId) {
+        try {
+            return mapper.readValue(new ByteBufferBackedInputStream(record), Entry.class);
+        } catch (IOException e) {
+            LOG.warn("Skipping unreadable record of session {}: {}", sessionId, e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] records(List<OllamaChatMessage> messages, boolean reset) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (reset) {
+            out.write(mapper.writeValueAsBytes(new Entry(true, null)));
+            out.write(NEWLINE);
+        }
+        for (OllamaChatMessage message : messages) {
+            out.write(mapper.writeValueAsBytes(new Entry(false, message)));
+            out.write(NEWLINE);
+        }
+        return out.toByteArray();
+    }
+
+    /** Appends records to a log, creating it if it does not exist. */
+    private static void write(Path log, byte[] records) throws IOException {
+        try (FileChannel channel =
+                FileChannel.open(
+                        log,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+            channel.position(channel.size());
+            if (!endsWithNewline(channel)) {
+                // terminate a partially written record, which is skipped when reading
+                channel.write(ByteBuffer.wrap(new byte[] {NEWLINE}));
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static boolean endsWithNewline(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return true;
+        }
+        ByteBuffer last = ByteBuffer.allocate(1);
+        channel.read(last, size - 1);
+        return last.get(0) == NEWLINE;
+    }
+
+    private void compact(Path log, byte[] records) throws IOException {
+        Path compacted = Files.createTempFile(directory, log.getFileName().toString(), ".tmp");
+        try {
+            write(compacted, records);
+            Files.move(
+                    compacted,
+                    log,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(compacted);
+        }
+    }
+
+    /** A record of a log. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    static class Entry {
+        private boolean reset;
+        private OllamaChatMessage message;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.agent;
+
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Persists the chat histories of the sessions of an {@link AgentRuntime}, so that they survive
+ * restarts and idle sessions do not have to be kept in memory.
+ *
+ * <p>The runtime never calls the store concurrently for the same session.
+ *
+ * @see FileSessionStore
+ */
+public interface SessionStore {
+
+    /**
+     * @param sessionId the id of the session
+     * @return the chat history of the session, empty if nothing is stored for it
+     * @throws IOException if the history cannot be read
+     */
+    List<OllamaChatMessage> load(String sessionId) throws IOException;
+
+    /**
+     * Appends messages to the chat history of a session.
+     *
+     * @param sessionId the id of the session
+     * @param messages the messages to append
+     * @throws IOException if the messages cannot be written
+     */
+    void append(String sessionId, List<OllamaChatMessage> messages) throws IOException;
+
+    /**
+     * Replaces the chat history of a session.
+     *
+     * @param sessionId the id of the session
+     * @param messages the new chat history
+     * @throws IOException if the history cannot be written
+     */
+    void replace(String sessionId, List<OllamaChatMessage> messages) throws IOException;
+
+    /**
+     * Deletes the chat history of a session.
+     *
+     * @param sessionId the id of the session
+     * @throws IOException if the history cannot be deleted
+     */
+    void delete(String sessionId) throws IOException;
+}
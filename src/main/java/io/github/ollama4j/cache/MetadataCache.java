@@ -0,0 +1,220 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.cache;
+
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.Setter;
+
+/**
+ * Caches the responses of the read-only model metadata endpoints of the Ollama server.
+ *
+ * <p>Once set with {@link io.github.ollama4j.Ollama#setMetadataCache(MetadataCache)}, the results
+ * of {@code listModels()}, {@code getModelDetails()} and {@code ps()} are served from memory until
+ * the TTL of their endpoint expires. Pulling, creating, deleting, loading and unloading models
+ * through the same client invalidates the affected entries, so only changes made by other clients
+ * are subject to the TTL. A response loaded while its endpoint is invalidated is not cached.
+ */
+public class MetadataCache {
+
+    /** The cached endpoints. */
+    public enum Endpoint {
+        /** {@code /api/tags}, default TTL 30 seconds. */
+        LIST_MODELS("/api/tags", Duration.ofSeconds(30)),
+        /** {@code /api/show}, default TTL 5 minutes. */
+        MODEL_DETAILS("/api/show", Duration.ofMinutes(5)),
+        /** {@code /api/ps}, default TTL 2 seconds. */
+        PS("/api/ps", Duration.ofSeconds(2));
+
+        private final String path;
+        private final Duration defaultTtl;
+
+        Endpoint(String path, Duration defaultTtl) {
+            this.path = path;
+            this.defaultTtl = defaultTtl;
+        }
+
+        /**
+         * @return the path of the endpoint
+         */
+        public String getPath() {
+            return path;
+        }
+    }
+
+    /** Loads a value on a cache miss. */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws OllamaException;
+    }
+
+    private final LongSupplier clockMillis;
+    private final Map<Endpoint, Duration> ttls = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Map<String, Entry>> entries = new EnumMap<>(Endpoint.class);
+    // incremented before the entries of an endpoint are invalidated
+    private final Map<Endpoint, AtomicLong> generations = new EnumMap<>(Endpoint.class);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The sink the lookups are recorded to. Set by the client the cache is set on, default is the
+     * Prometheus default.
+     */
+    @Setter private volatile MetricsSink metricsSink = PrometheusMetricsSink.getDefault();
+
+    /** Creates a cache with the default TTL of each endpoint. */
+    public MetadataCache() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a cache with the default TTL of each endpoint using a custom clock.
+     *
+     * @param clockMillis the clock used for expiry, in milliseconds
+     */
+    public MetadataCache(LongSupplier clockMillis) {
+        this.clockMillis = clockMillis;
+        for (Endpoint endpoint : Endpoint.values()) {
+            ttls.put(endpoint, endpoint.defaultTtl);
+            entries.put(endpoint, new ConcurrentHashMap<>());
+            generations.put(endpoint, new AtomicLong());
+        }
+    }
+
+    /**
+     * Sets the TTL of an endpoint. A zero TTL disables caching for it.
+     *
+     * @param endpoint the endpoint
+     * @param ttl how long its responses are cached
+     * @return this cache
+     */
+    public MetadataCache setTtl(Endpoint endpoint, Duration ttl) {
+        ttls.put(endpoint, ttl);
+        invalidate(endpoint);
+        return this;
+    }
+
+    /**
+     * @param endpoint the endpoint
+     * @return how long the responses of the endpoint are cached
+     */
+    public Duration getTtl(Endpoint endpoint) {
+        return ttls.get(endpoint);
+    }
+
+    /**
+     * Returns the cached value of an endpoint for a key, loading and caching it if it is missing
+     * or expired. Failures are not cached.
+     *
+     * @param endpoint the endpoint
+     * @param key the key within the endpoint, e.g. the model name
+     * @param loader loads the value on a miss
+     * @param <T> the type of the value
+     * @return the cached or loaded value
+     * @throws OllamaException if loading fails
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Endpoint endpoint, String key, Loader<T> loader) throws OllamaException {
+        long ttl = ttls.get(endpoint).toMillis();
+        Map<String, Entry> endpointEntries = entries.get(endpoint);
+        long now = clockMillis.getAsLong();
+        Entry entry = endpointEntries.get(key);
+        if (entry != null && now < entry.expiresAt) {
+            hits.increment();
+            MetricsRecorder.recordMetadataCacheLookup(metricsSink, endpoint.getPath(), true);
+            return (T) entry.value;
+        }
+        misses.increment();
+        MetricsRecorder.recordMetadataCacheLookup(metricsSink, endpoint.getPath(), false);
+        AtomicLong generation = generations.get(endpoint);
+        long loadGeneration = generation.get();
+        T value = loader.load();
+        if (ttl > 0 && generation.get() == loadGeneration) {
+            Entry loaded = new Entry(value, clockMillis.getAsLong() + ttl);
+            endpointEntries.put(key, loaded);
+            // an invalidation between the check and the put would not have removed the entry
+            if (generation.get() != loadGeneration) {
+                endpointEntries.remove(key, loaded);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Invalidates the entries affected by a change of a model: the model listing, the running
+     * models and the details of that model.
+     *
+     * @param key the key of the model within {@link Endpoint#MODEL_DETAILS}
+     */
+    public void invalidateModel(String key) {
+        invalidate(Endpoint.LIST_MODELS);
+        invalidate(Endpoint.PS);
+        generations.get(Endpoint.MODEL_DETAILS).incrementAndGet();
+        entries.get(Endpoint.MODEL_DETAILS).remove(key);
+    }
+
+    /**
+     * Invalidates all entries of an endpoint.
+     *
+     * @param endpoint the endpoint
+     */
+    public void invalidate(Endpoint endpoint) {
+        generations.get(endpoint).incrementAndGet();
+        entries.get(endpoint).clear();
+    }
+
+    /** Invalidates all entries. */
+    public void invalidateAll() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            invalidate(endpoint);
+        }
+    }
+
+    /**
+     * @return the number of lookups served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to call the server
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the share of lookups served from the cache, 0 if there were none
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link MetricsSink} that bounds the label values it records, as described in {@link
+ * #setLabelAllowlist(Set)} and {@link #setMaxSeriesPerMetric(int)}. The series are counted per
+ * sink, as they live as long as the sink.
+ */
+public abstract class BoundedMetricsSink implements MetricsSink {
+
+    private volatile Set<String> labelAllowlist = MetricsRecorder.ALL_REQUEST_LABELS;
+    private volatile int maxSeriesPerMetric = 1000;
+    private final Map<Metric, Set<List<String>>> series = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the labels of the request metrics that are recorded. The values of the other labels,
+     * except {@code endpoint}, are replaced with {@value MetricsRecorder#DROPPED}. Default is all
+     * {@link MetricsRecorder#REQUEST_LABELS}.
+     *
+     * @param labels the labels to record
+     */
+    public void setLabelAllowlist(Set<String> labels) {
+        labelAllowlist = Set.copyOf(labels);
+    }
+
+    @Override
+    public Set<String> getLabelAllowlist() {
+        return labelAllowlist;
+    }
+
+    /**
+     * Sets the maximum number of series recorded per metric. Observations of further series are
+     * recorded in a series with all labels set to {@value MetricsRecorder#OVERFLOW}. Default is
+     * 1000.
+     *
+     * @param max the maximum number of series per metric
+     */
+    public void setMaxSeriesPerMetric(int max) {
+        maxSeriesPerMetric = max;
+    }
+
+    /**
+     * @return the maximum number of series recorded per metric
+     */
+    public int getMaxSeriesPerMetric() {
+        return maxSeriesPerMetric;
+    }
+
+    /**
+     * Returns the label values of a series of a metric, or {@value MetricsRecorder#OVERFLOW} for
+     * all of them if the metric already has {@code maxSeriesPerMetric} series.
+     */
+    @Override
+    public String[] bounded(Metric metric, String... labels) {
+        if (labels.length == 0) {
+            return labels;
+        }
+        Set<List<String>> known = series.get(metric);
+        if (known == null) {
+            known = series.computeIfAbsent(metric, m -> ConcurrentHashMap.newKeySet());
+        }
+        List<String> key = Arrays.asList(labels);
+        if (known.contains(key)) {
+            return labels;
+        }
+        synchronized (known) {
+            if (known.contains(key) || known.size() < maxSeriesPerMetric) {
+                known.add(key);
+                return labels;
+            }
+        }
+        String[] overflow = new String[labels.length];
+        Arrays.fill(overflow, MetricsRecorder.OVERFLOW);
+        return overflow;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsSink} keeping the observations in memory, e.g. to read them in tests or to
+ * export them periodically. Counters and histogram buckets are striped adders, so that threads
+ * recording concurrently do not contend.
+ *
+ * <pre>{@code
+ * InMemoryMetricsSink metrics = new InMemoryMetricsSink();
+ * ollama.setMetricsSink(metrics);
+ * ...
+ * double p95 = metrics.getQuantile("ollama_stream_time_to_first_token_seconds", 0.95, "/api/chat", "llama3");
+ * }</pre>
+ */
+public class InMemoryMetricsSink extends BoundedMetricsSink {
+
+    private final Map<String, Map<List<String>, Series>> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(Metric metric, double amount, String... labels) {
+        series(metric, labels).sum.add(amount);
+    }
+
+    @Override
+    public void set(Metric metric, double value, String... labels) {
+        series(metric, labels).value = value;
+    }
+
+    @Override
+    public void observe(Metric metric, double value, String... labels) {
+        Series series = series(metric, labels);
+        List<Double> bounds = metric.getBuckets();
+        int bucket = 0;
+        while (bucket < bounds.size() && value > bounds.get(bucket)) {
+            bucket++;
+        }
+        series.buckets[bucket].increment();
+        series.sum.add(value);
+    }
+
+    /**
+     * @param name the name of a counter or gauge
+     * @param labels the label values of the series
+     * @return the value of the counter or gauge, 0 if nothing was recorded
+     */
+    public double getValue(String name, String... labels) {
+        Series series = find(name, labels);
+        if (series == null) {
+            return 0;
+        }
+        return series.metric.getType() == Metric.Type.GAUGE ? series.value : series.sum.sum();
+    }
+
+    /**
+     * @param name the name of a histogram
+     * @param labels the label values of the series
+     * @return the number of observations
+     */
+    public long getCount(String name, String... labels) {
+        Series series = find(name, labels);
+        if (series == null) {
+            return 0;
+        }
+        long count = 0;
+        for (LongAdder bucket : series.buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @param name the name of a histogram
+     * @param labels the label values of the series
+     * @return the sum of the observations
+     */
+    public double getSum(String name, String... labels) {
+        Series series = find(name, labels);
+        return series != null ? series.sum.sum() : 0;
+    }
+
+    /**
+     * Estimates a quantile of a histogram as the upper bound of the bucket it falls in.
+     *
+     * @param name the name of a histogram
+     * @param quantile the quantile, between 0 and 1
+     * @param labels the label values of the series
+     * @return the estimate, {@link Double#POSITIVE_INFINITY} if it exceeds the largest bucket and
+     *     {@link Double#NaN} if nothing was observed
+     */
+    public double getQuantile(String name, double quantile, String... labels) {
+        long count = getCount(name, labels);
+        if (count == 0) {
+            return Double.NaN;
+        }
+        Series series = find(name, labels);
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        List<Double> bounds = series.metric.getBuckets();
+        for (int i = 0; i < bounds.size(); i++) {
+            seen += series.buckets[i].sum();
+            if (seen >= rank) {
+                return bounds.get(i);
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /** Discards all observations. */
+    public void clear() {
+        metrics.clear();
+    }
+
+    private Series series(Metric metric, String[] labels) {
+        Map<List<String>, Series> all =
+                metrics.computeIfAbsent(metric.getName(), name -> new ConcurrentHashMap<>());
+        List<String> key = Arrays.asList(labels);
+        Series series = all.get(key);
+        return series != null
+                ? series
+                : all.computeIfAbsent(List.of(labels), k -> new Series(metric));
+    }
+
+    private Series find(String name, String[] labels) {
+        Map<List<String>, Series> all = metrics.get(name);
+        return all != null ? all.get(Arrays.asList(labels)) : null;
+    }
+
+    private static final class Series {
+        private final Metric metric;
+        private final DoubleAdder sum = new DoubleAdder();
+        private final LongAdder[] buckets;
+        private volatile double value;
+
+        private Series(Metric metric) {
+            this.metric = metric;
+            int size =
+                    metric.getType() == Metric.Type.HISTOGRAM ? metric.getBuckets().size() + 1 : 0;
+            buckets = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+    }
+}
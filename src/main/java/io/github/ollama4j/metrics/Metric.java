@@ -0,0 +1,75 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.metrics;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Describes a metric recorded by {@link MetricsRecorder}: its name, type, help text, label names
+ * and, for histograms, the upper bounds of its buckets.
+ */
+@Getter
+public final class Metric {
+
+    /** The type of a metric. */
+    public enum Type {
+        COUNTER,
+        GAUGE,
+        HISTOGRAM
+    }
+
+    /** The bucket bounds of histograms that do not define their own. */
+    public static final List<Double> DEFAULT_BUCKETS =
+            List.of(0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0);
+
+    private final String name;
+    private final Type type;
+    private final String help;
+    private final List<String> labelNames;
+    private final List<Double> buckets;
+
+    private Metric(
+            String name, Type type, String help, List<String> labelNames, List<Double> buckets) {
+        this.name = name;
+        this.type = type;
+        this.help = help;
+        this.labelNames = List.copyOf(labelNames);
+        this.buckets = buckets;
+    }
+
+    public static Metric counter(String name, String help, String... labelNames) {
+        return new Metric(name, Type.COUNTER, help, List.of(labelNames), List.of());
+    }
+
+    public static Metric gauge(String name, String help, String... labelNames) {
+        return new Metric(name, Type.GAUGE, help, List.of(labelNames), List.of());
+    }
+
+    public static Metric histogram(String name, String help, String... labelNames) {
+        return new Metric(name, Type.HISTOGRAM, help, List.of(labelNames), DEFAULT_BUCKETS);
+    }
+
+    /**
+     * @param buckets the upper bounds of the buckets, in increasing order
+     * @return a copy of this histogram with other buckets
+     */
+    public Metric withBuckets(double... buckets) {
+        Double[] bounds = new Double[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            bounds[i] = buckets[i];
+        }
+        return new Metric(name, type, help, labelNames, List.of(bounds));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -10,51 +10,180 @@ package io.github.ollama4j.metrics;
 
 import com.google.common.base.Throwables;
 import io.github.ollama4j.models.request.ThinkMode;
-import io.prometheus.client.Counter;
-import io.prometheus.client.Histogram;
+import io.github.ollama4j.models.response.OllamaTimings;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
+/**
+ * Records the metrics of the library to a {@link MetricsSink}. The label values are bounded by
+ * {@link MetricsSink#getLabelAllowlist()} and {@link MetricsSink#sink.bounded(Metric, String...)} before
+ * they are recorded. Nothing is computed for a sink that is not {@link MetricsSink#isEnabled()
+ * enabled}.
+ */
 public class MetricsRecorder {
 
-    // Corrected: Removed duplicate "format" label and ensured label count matches usage
-    private static final Counter requests =
-            Counter.build()
-                    .name("ollama_api_requests_total")
-                    .help("Total requests to Ollama API")
-                    .labelNames(
+    /** The labels of the request metrics, in order. */
+    public static final List<String> REQUEST_LABELS =
+            List.of(
+                    "endpoint",
+                    "model",
+                    "raw",
+                    "streaming",
+                    "thinking",
+                    "http_status",
+                    "options",
+                    "format");
+
+    static final Set<String> ALL_REQUEST_LABELS = Set.copyOf(REQUEST_LABELS);
+
+    /** The value of labels that are not in the allowlist. */
+    public static final String DROPPED = "*";
+
+    /** The value of all labels of the series that exceed {@code maxSeriesPerMetric}. */
+    public static final String OVERFLOW = "_overflow";
+
+    private static final String[] STATUS_LABELS = new String[600];
+
+    static {
+        for (int i = 0; i < STATUS_LABELS.length; i++) {
+            STATUS_LABELS[i] = String.valueOf(i);
+        }
+    }
+
+    private static final Metric requests =
+            Metric.counter(
+                    "ollama_api_requests_total",
+                    "Total requests to Ollama API",
+                    REQUEST_LABELS.toArray(new String[0]));
+
+    private static final Metric requestLatency =
+            Metric.histogram(
+                    "ollama_api_request_duration_seconds",
+                    "Request latency in seconds",
+                    REQUEST_LABELS.toArray(new String[0]));
+
+    private static final Metric responseSize =
+            Metric.histogram(
+                    "ollama_api_response_size_bytes",
+                    "Response size in bytes",
+                    "endpoint",
+                    "model",
+                    "options");
+
+    private static final Metric residentModels =
+            Metric.gauge(
+                    "ollama_resident_models",
+                    "Number of models resident in memory, as seen by the residency manager");
+
+    private static final Metric residentVram =
+            Metric.gauge(
+                    "ollama_resident_vram_bytes",
+                    "VRAM used by resident models, as seen by the residency manager");
+
+    private static final Metric modelEvictions =
+            Metric.counter(
+                    "ollama_model_evictions_total",
+                    "Models proactively unloaded by the residency manager",
+                    "model");
+
+    private static final Metric keepAliveRefreshes =
+            Metric.counter(
+                    "ollama_model_keep_alive_refreshes_total",
+                    "Keep-alive extensions issued by the residency manager",
+                    "model");
+
+    private static final Metric modelLoads =
+            Metric.counter(
+                    "ollama_model_loads_total",
+                    "Requests by keep-alive mode and whether they hit a cold model load",
+                    "model",
+                    "keep_alive_mode",
+                    "cold");
+
+    private static final Metric metadataCacheLookups =
+            Metric.counter(
+                    "ollama_metadata_cache_lookups_total",
+                    "Lookups of the model metadata cache by endpoint and result",
+                    "endpoint",
+                    "result");
+
+    private static final Metric toolTimeSaved =
+            Metric.counter(
+                    "ollama_tool_calls_time_saved_seconds_total",
+                    "Time saved by executing the tool calls of a chat turn concurrently");
+
+    private static final Metric toolCacheLookups =
+            Metric.counter(
+                    "ollama_tool_cache_lookups_total",
+                    "Lookups of the tool result cache by tool and result",
+                    "tool",
+                    "result");
+
+    private static final Metric toolSelectionTools =
+            Metric.counter(
+                    "ollama_tool_selection_tools_total",
+                    "Registered tools considered by the tool selector by result",
+                    "result");
+
+    private static final Metric toolSelectionTokensSaved =
+            Metric.counter(
+                    "ollama_tool_selection_prompt_tokens_saved_total",
+                    "Estimated prompt tokens saved by not sending unselected tools");
+
+    private static final Metric timeToFirstToken =
+            Metric.histogram(
+                            "ollama_stream_time_to_first_token_seconds",
+                            "Time from sending a streaming request to receiving its first token",
                             "endpoint",
-                            "model",
-                            "raw",
-                            "streaming",
-                            "thinking",
-                            "http_status",
-                            "options",
-                            "format")
-                    .register();
-
-    private static final Histogram requestLatency =
-            Histogram.build()
-                    .name("ollama_api_request_duration_seconds")
-                    .help("Request latency in seconds")
-                    .labelNames(
+                            "model")
+                    .withBuckets(0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60);
+
+    private static final Metric interTokenLatency =
+            Metric.histogram(
+                            "ollama_stream_inter_token_latency_seconds",
+                            "Time between consecutive tokens of a streaming response",
+                            "endpoint",
+                            "model")
+                    .withBuckets(0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5);
+
+    private static final Metric tokensPerSecond =
+            Metric.histogram(
+                            "ollama_generation_tokens_per_second",
+                            "Generation speed reported by the server (eval_count / eval_duration)",
+                            "endpoint",
+                            "model")
+                    .withBuckets(1, 5, 10, 20, 40, 80, 160, 320, 640);
+
+    private static final Metric serverDuration =
+            Metric.histogram(
+                            "ollama_server_duration_seconds",
+                            "Durations reported by the server, by phase (total, load, prompt_eval,"
+                                    + " eval)",
                             "endpoint",
                             "model",
-                            "raw",
-                            "streaming",
-                            "thinking",
-                            "http_status",
-                            "options",
-                            "format")
-                    .register();
-
-    private static final Histogram responseSize =
-            Histogram.build()
-                    .name("ollama_api_response_size_bytes")
-                    .help("Response size in bytes")
-                    .labelNames("endpoint", "model", "options")
-                    .register();
+                            "phase")
+                    .withBuckets(0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 120);
+
+    private static final Metric clientOverhead =
+            Metric.histogram(
+                            "ollama_client_overhead_seconds",
+                            "Wall time of a request not spent on the server",
+                            "endpoint",
+                            "model")
+                    .withBuckets(0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1);
+
+    private static final Metric coldLoads =
+            Metric.counter(
+                    "ollama_cold_loads_total",
+                    "Responses for which the server had to load the model",
+                    "endpoint",
+                    "model");
 
     public static void record(
+            MetricsSink sink,
             String endpoint,
             String model,
             boolean raw,
@@ -65,44 +194,25 @@ public class MetricsRecorder {
             long startTime,
             int responseHttpStatus,
             Object response) {
-        long endTime = System.currentTimeMillis();
-
-        String httpStatus = String.valueOf(responseHttpStatus);
-
-        String formatString = "";
-        if (format instanceof String) {
-            formatString = (String) format;
-        } else if (format instanceof Map) {
-            formatString = mapToString((Map<String, Object>) format);
-        } else if (format != null) {
-            formatString = format.toString();
+        if (!sink.isEnabled()) {
+            return;
         }
+        long endTime = System.currentTimeMillis();
 
-        // Ensure the number of labels matches the labelNames above (8 labels)
-        requests.labels(
-                        endpoint,
-                        safe(model),
-                        String.valueOf(raw),
-                        String.valueOf(streaming),
-                        String.valueOf(thinkMode),
-                        httpStatus,
-                        safe(mapToString(options)),
-                        safe(formatString))
-                .inc();
-        double durationSeconds = (endTime - startTime) / 1000.0;
-
-        // Ensure the number of labels matches the labelNames above (8 labels)
-        requestLatency
-                .labels(
+        String[] labels =
+                requestLabels(
+                        sink.getLabelAllowlist(),
                         endpoint,
                         safe(model),
                         String.valueOf(raw),
                         String.valueOf(streaming),
                         String.valueOf(thinkMode),
-                        httpStatus,
-                        safe(mapToString(options)),
-                        safe(formatString))
-                .observe(durationSeconds);
+                        statusLabel(responseHttpStatus),
+                        optionsLabel(options),
+                        formatLabel(format));
+        labels = sink.bounded(requests, labels);
+        sink.increment(requests, 1, labels);
+        sink.observe(requestLatency, (endTime - startTime) / 1000.0, labels);
 
         // Record response size (only if response is a string or json-like object)
         if (response != null) {
@@ -110,18 +220,157 @@ public class MetricsRecorder {
                 response = Throwables.getStackTraceAsString((Throwable) response);
             }
             int size = response.toString().length();
-            responseSize.labels(endpoint, safe(model), safe(mapToString(options))).observe(size);
+            sink.observe(
+                    responseSize,
+                    size,
+                    sink.bounded(responseSize, labels[0], labels[1], labels[6]));
+        }
+    }
+
+    public static void recordTimeToFirstToken(
+            MetricsSink sink, String endpoint, String model, double seconds) {
+        observe(sink, timeToFirstToken, seconds, endpoint, model);
+    }
+
+    public static void recordInterTokenLatency(
+            MetricsSink sink, String endpoint, String model, double seconds) {
+        observe(sink, interTokenLatency, seconds, endpoint, model);
+    }
+
+    public static void recordTokensPerSecond(
+            MetricsSink sink,
+            String endpoint,
+            String model,
+            int evalCount,
+            long evalDurationNanos) {
+        if (evalCount > 0 && evalDurationNanos > 0) {
+            observe(sink, tokensPerSecond, evalCount / (evalDurationNanos / 1e9), endpoint, model);
+        }
+    }
+
+    public static void recordTimings(
+            MetricsSink sink, String endpoint, String model, OllamaTimings timings) {
+        if (!sink.isEnabled()) {
+            return;
+        }
+        String modelLabel = safe(model);
+        observeServerDuration(sink, endpoint, modelLabel, "total", timings.getTotalDuration());
+        observeServerDuration(sink, endpoint, modelLabel, "load", timings.getLoadDuration());
+        observeServerDuration(
+                sink, endpoint, modelLabel, "prompt_eval", timings.getPromptEvalDuration());
+        observeServerDuration(sink, endpoint, modelLabel, "eval", timings.getEvalDuration());
+        Duration overhead = timings.getClientOverhead();
+        if (overhead != null) {
+            sink.observe(
+                    clientOverhead,
+                    overhead.toNanos() / 1e9,
+                    sink.bounded(clientOverhead, endpoint, modelLabel));
+        }
+        if (timings.isColdLoad()) {
+            sink.increment(coldLoads, 1, sink.bounded(coldLoads, endpoint, modelLabel));
+        }
+    }
+
+    private static void observeServerDuration(
+            MetricsSink sink, String endpoint, String model, String phase, Duration duration) {
+        if (duration != null) {
+            sink.observe(
+                    serverDuration,
+                    duration.toNanos() / 1e9,
+                    sink.bounded(serverDuration, endpoint, model, phase));
+        }
+    }
+
+    public static void recordResidency(MetricsSink sink, int models, long vramBytes) {
+        if (sink.isEnabled()) {
+            sink.set(residentModels, models);
+            sink.set(residentVram, vramBytes);
+        }
+    }
+
+    public static void recordEviction(MetricsSink sink, String model) {
+        increment(sink, modelEvictions, 1, safe(model));
+    }
+
+    public static void recordKeepAliveRefresh(MetricsSink sink, String model) {
+        increment(sink, keepAliveRefreshes, 1, safe(model));
+    }
+
+    public static void recordModelLoad(
+            MetricsSink sink, String model, String keepAliveMode, boolean cold) {
+        increment(sink, modelLoads, 1, safe(model), keepAliveMode, String.valueOf(cold));
+    }
+
+    public static void recordMetadataCacheLookup(MetricsSink sink, String endpoint, boolean hit) {
+        increment(sink, metadataCacheLookups, 1, endpoint, hit ? "hit" : "miss");
+    }
+
+    public static void recordToolTimeSaved(MetricsSink sink, long savedMillis) {
+        increment(sink, toolTimeSaved, savedMillis / 1000.0);
+    }
+
+    public static void recordToolCacheLookup(MetricsSink sink, String tool, boolean hit) {
+        increment(sink, toolCacheLookups, 1, safe(tool), hit ? "hit" : "miss");
+    }
+
+    public static void recordToolSelection(
+            MetricsSink sink, int selected, int excluded, long tokensSaved) {
+        increment(sink, toolSelectionTools, selected, "selected");
+        increment(sink, toolSelectionTools, excluded, "excluded");
+        increment(sink, toolSelectionTokensSaved, tokensSaved);
+    }
+
+    private static void increment(
+            MetricsSink sink, Metric metric, double amount, String... labels) {
+        if (sink.isEnabled()) {
+            sink.increment(metric, amount, sink.bounded(metric, labels));
+        }
+    }
+
+    private static void observe(
+            MetricsSink sink, Metric metric, double value, String endpoint, String model) {
+        if (sink.isEnabled()) {
+            sink.observe(metric, value, sink.bounded(metric, endpoint, safe(model)));
+        }
+    }
+
+    /**
+     * Replaces the labels of the request metrics that are not in the allowlist with {@value
+     * #DROPPED}. The endpoint is always kept.
+     */
+    private static String[] requestLabels(Set<String> allowed, String endpoint, String... values) {
+        String[] labels = new String[REQUEST_LABELS.size()];
+        labels[0] = endpoint;
+        for (int i = 1; i < labels.length; i++) {
+            labels[i] = allowed.contains(REQUEST_LABELS.get(i)) ? values[i - 1] : DROPPED;
         }
+        return labels;
     }
 
-    // Utility method to convert options Map to string (you can adjust this for more detailed
-    // representation)
-    private static String mapToString(Map<String, Object> map) {
-        if (map == null || map.isEmpty()) {
+    /**
+     * Reduces options to the sorted names of the options, so that the values, e.g. a seed or a
+     * temperature, do not create a series each.
+     */
+    private static String optionsLabel(Map<String, Object> options) {
+        if (options == null || options.isEmpty()) {
             return "none";
         }
-        // Convert the map to a string (can be customized to fit the use case)
-        return map.toString();
+        return new TreeSet<>(options.keySet()).toString();
+    }
+
+    /** Reduces a format to {@code none}, {@code json} or {@code schema}. */
+    private static String formatLabel(Object format) {
+        if (format == null || (format instanceof String && ((String) format).isEmpty())) {
+            return "none";
+        }
+        return "json".equals(format) ? "json" : "schema";
+    }
+
+    /** Returns the label of an HTTP status, without allocating one for the common ones. */
+    private static String statusLabel(int status) {
+        return status >= 0 && status < STATUS_LABELS.length
+                ? STATUS_LABELS[status]
+                : String.valueOf(status);
     }
 
     private static String safe(String value) {
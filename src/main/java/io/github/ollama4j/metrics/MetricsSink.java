@@ -0,0 +1,78 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.metrics;
+
+import java.util.Set;
+
+/**
+ * Receives the observations of the metrics recorded by {@link MetricsRecorder}, e.g. to export them
+ * to a monitoring system. Set per client with {@link
+ * io.github.ollama4j.Ollama#setMetricsSink(MetricsSink)}.
+ *
+ * <p>The label values are given in the order of {@link Metric#getLabelNames()} and have been
+ * passed through {@link #bounded(Metric, String...)}; extend {@link BoundedMetricsSink} to limit
+ * their cardinality. Implementations must be thread-safe and should not block.
+ */
+public interface MetricsSink {
+
+    /** A sink that discards all observations. Recording with it has no cost. */
+    MetricsSink NOOP =
+            new MetricsSink() {
+                @Override
+                public boolean isEnabled() {
+                    return false;
+                }
+
+                @Override
+                public void increment(Metric metric, double amount, String... labels) {}
+
+                @Override
+                public void set(Metric metric, double value, String... labels) {}
+
+                @Override
+                public void observe(Metric metric, double value, String... labels) {}
+            };
+
+    /**
+     * @return false if the observations are discarded, in which case they are not even computed
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * @return the labels of the request metrics that are recorded, the values of the others are
+     *     replaced with {@value MetricsRecorder#DROPPED}; default is all {@link
+     *     MetricsRecorder#REQUEST_LABELS}
+     */
+    default Set<String> getLabelAllowlist() {
+        return MetricsRecorder.ALL_REQUEST_LABELS;
+    }
+
+    /**
+     * Returns the label values to record an observation of a series with. Default is the label
+     * values unchanged.
+     *
+     * @param metric the metric
+     * @param labels the label values of the series
+     * @return the label values to record
+     */
+    default String[] bounded(Metric metric, String... labels) {
+        return labels;
+    }
+
+    /** Increments a counter. */
+    void increment(Metric metric, double amount, String... labels);
+
+    /** Sets a gauge. */
+    void set(Metric metric, double value, String... labels);
+
+    /** Adds an observation to a histogram. */
+    void observe(Metric metric, double value, String... labels);
+}
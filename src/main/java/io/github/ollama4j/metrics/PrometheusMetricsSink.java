@@ -0,0 +1,111 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.metrics;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link MetricsSink} recording to Prometheus collectors, which are registered in a registry
+ * when a metric is first recorded. The default sink of the clients is {@link #getDefault()},
+ * recording to the default registry.
+ */
+public class PrometheusMetricsSink extends BoundedMetricsSink {
+
+    private static final PrometheusMetricsSink DEFAULT =
+            new PrometheusMetricsSink(CollectorRegistry.defaultRegistry);
+
+    private final CollectorRegistry registry;
+    private final Map<Metric, Collector> collectors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a sink. Only one sink may record to a registry.
+     *
+     * @param registry the registry the collectors are registered in
+     */
+    public PrometheusMetricsSink(CollectorRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @return the sink recording to the default registry, shared by all clients that do not set
+     *     another sink
+     */
+    public static PrometheusMetricsSink getDefault() {
+        return DEFAULT;
+    }
+
+    @Override
+    public void increment(Metric metric, double amount, String... labels) {
+        Counter counter = (Counter) collector(metric);
+        if (labels.length == 0) {
+            counter.inc(amount);
+        } else {
+            counter.labels(labels).inc(amount);
+        }
+    }
+
+    @Override
+    public void set(Metric metric, double value, String... labels) {
+        Gauge gauge = (Gauge) collector(metric);
+        if (labels.length == 0) {
+            gauge.set(value);
+        } else {
+            gauge.labels(labels).set(value);
+        }
+    }
+
+    @Override
+    public void observe(Metric metric, double value, String... labels) {
+        Histogram histogram = (Histogram) collector(metric);
+        if (labels.length == 0) {
+            histogram.observe(value);
+        } else {
+            histogram.labels(labels).observe(value);
+        }
+    }
+
+    private Collector collector(Metric metric) {
+        Collector collector = collectors.get(metric);
+        return collector != null ? collector : collectors.computeIfAbsent(metric, this::register);
+    }
+
+    private Collector register(Metric metric) {
+        String[] labelNames = metric.getLabelNames().toArray(new String[0]);
+        switch (metric.getType()) {
+            case COUNTER:
+                return Counter.build()
+                        .name(metric.getName())
+                        .help(metric.getHelp())
+                        .labelNames(labelNames)
+                        .register(registry);
+            case GAUGE:
+                return Gauge.build()
+                        .name(metric.getName())
+                        .help(metric.getHelp())
+                        .labelNames(labelNames)
+                        .register(registry);
+            default:
+                return Histogram.build()
+                        .name(metric.getName())
+                        .help(metric.getHelp())
+                        .labelNames(labelNames)
+                        .buckets(
+                                metric.getBuckets().stream()
+                                        .mapToDouble(Double::doubleValue)
+                                        .toArray())
+                        .register(registry);
+        }
+    }
+}
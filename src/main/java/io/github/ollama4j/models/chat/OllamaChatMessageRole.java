@@ -8,6 +8,7 @@
 */
 package io.github.ollama4j.models.chat;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import io.github.ollama4j.exceptions.RoleNotFoundException;
 import java.util.ArrayList;
@@ -50,6 +51,16 @@ public class OllamaChatMessageRole {
         throw new RoleNotFoundException("Invalid role name: " + roleName);
     }
 
+    /** Resolves deserialized roles to the known instances, so that they can be compared by identity. */
+    @JsonCreator
+    private static OllamaChatMessageRole fromRoleName(String roleName) {
+        try {
+            return getRole(roleName);
+        } catch (RoleNotFoundException e) {
+            return newCustomRole(roleName);
+        }
+    }
+
     @Override
     public String toString() {
         return roleName;
@@ -35,6 +35,8 @@ public class OllamaChatRequest extends OllamaCommonRequest implements OllamaRequ
 
     private List<OllamaChatMessage> messages = new ArrayList<>();
 
+    @com.fasterxml.jackson.databind.annotation.JsonSerialize(
+            contentUsing = Tools.PreSerializedToolSerializer.class)
     private List<Tools.Tool> tools = new ArrayList<>();
 
     @com.fasterxml.jackson.databind.annotation.JsonSerialize(using = ThinkModeSerializer.class)
@@ -11,8 +11,10 @@ package io.github.ollama4j.models.chat;
 import static io.github.ollama4j.utils.Utils.getObjectMapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.ollama4j.models.response.OllamaTimings;
 import java.util.List;
 import lombok.Getter;
+import lombok.Setter;
 
 /**
  * Specific chat-API result that contains the chat history sent to the model and appends the answer as {@link OllamaChatResult} given by the
@@ -25,6 +27,9 @@ public class OllamaChatResult {
 
     private final OllamaChatResponseModel responseModel;
 
+    /** Where the time of the request of the final response went. */
+    @Setter private OllamaTimings timings;
+
     public OllamaChatResult(
             OllamaChatResponseModel responseModel, List<OllamaChatMessage> chatHistory) {
         this.chatHistory = chatHistory;
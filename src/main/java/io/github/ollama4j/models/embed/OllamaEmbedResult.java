@@ -9,6 +9,7 @@
 package io.github.ollama4j.models.embed;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.ollama4j.models.response.OllamaTimings;
 import java.util.List;
 import lombok.Data;
 
@@ -29,4 +30,8 @@ public class OllamaEmbedResult {
 
     @JsonProperty("prompt_eval_count")
     private int promptEvalCount;
+
+    /** Where the time of the request went. */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private OllamaTimings timings;
 }
@@ -39,6 +39,9 @@ public class OllamaGenerateRequest extends OllamaCommonRequest implements Ollama
     private ThinkMode think;
 
     private boolean useTools;
+
+    @com.fasterxml.jackson.databind.annotation.JsonSerialize(
+            contentUsing = Tools.PreSerializedToolSerializer.class)
     private List<Tools.Tool> tools;
 
     public OllamaGenerateRequest() {}
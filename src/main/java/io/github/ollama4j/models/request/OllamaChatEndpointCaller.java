@@ -15,6 +15,7 @@ import io.github.ollama4j.metrics.MetricsRecorder;
 import io.github.ollama4j.models.chat.*;
 import io.github.ollama4j.models.chat.OllamaChatTokenHandler;
 import io.github.ollama4j.models.response.OllamaErrorResponse;
+import io.github.ollama4j.models.response.OllamaTimings;
 import io.github.ollama4j.utils.Utils;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -25,7 +26,9 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +40,7 @@ public class OllamaChatEndpointCaller extends OllamaEndpointCaller {
     public static final String endpoint = "/api/chat";
 
     private OllamaChatTokenHandler tokenHandler;
+    private Consumer<OllamaChatToolCalls> toolCallHandler;
 
     public OllamaChatEndpointCaller(String host, Auth auth, long requestTimeoutSeconds) {
         super(host, auth, requestTimeoutSeconds);
@@ -88,13 +92,32 @@ public class OllamaChatEndpointCaller extends OllamaEndpointCaller {
 
     public OllamaChatResult call(OllamaChatRequest body, OllamaChatTokenHandler tokenHandler)
             throws OllamaException, IOException, InterruptedException {
+        return call(body, tokenHandler, null);
+    }
+
+    /**
+     * Streams a chat response and reports the tool calls of the response as soon as the chunk
+     * containing them is parsed, before the rest of the response has been received.
+     *
+     * @param body the chat request
+     * @param tokenHandler receives the streamed chunks
+     * @param toolCallHandler receives each tool call of the response in order, may be null
+     * @return the chat result, with the tool calls of all chunks
+     */
+    public OllamaChatResult call(
+            OllamaChatRequest body,
+            OllamaChatTokenHandler tokenHandler,
+            Consumer<OllamaChatToolCalls> toolCallHandler)
+            throws OllamaException, IOException, InterruptedException {
         this.tokenHandler = tokenHandler;
+        this.toolCallHandler = toolCallHandler;
         return callSync(body);
     }
 
     public OllamaChatResult callSync(OllamaChatRequest body)
             throws OllamaException, IOException, InterruptedException {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         HttpClient httpClient = HttpClient.newHttpClient();
         URI uri = URI.create(getHost() + endpoint);
         HttpRequest.Builder requestBuilder =
@@ -110,6 +133,10 @@ public class OllamaChatEndpointCaller extends OllamaEndpointCaller {
         StringBuilder thinkingBuffer = new StringBuilder();
         OllamaChatResponseModel ollamaChatResponseModel = null;
         List<OllamaChatToolCalls> wantedToolsForStream = null;
+        Consumer<OllamaChatToolCalls> streamToolCallHandler = body.stream ? toolCallHandler : null;
+        TokenLatencyTracker tokenLatency =
+                new TokenLatencyTracker(
+                        getMetricsSink(), endpoint, body.getModel(), body.stream, startNanos);
 
         try (BufferedReader reader =
                 new BufferedReader(
@@ -123,10 +150,35 @@ public class OllamaChatEndpointCaller extends OllamaEndpointCaller {
                         parseResponseAndAddToBuffer(line, responseBuffer, thinkingBuffer);
                 ollamaChatResponseModel =
                         Utils.getObjectMapper().readValue(line, OllamaChatResponseModel.class);
+                OllamaChatMessage chunk = ollamaChatResponseModel.getMessage();
+                if (chunk != null) {
+                    tokenLatency.onChunk(
+                            chunk.getThinking() != null
+                                    ? chunk.getThinking()
+                                    : chunk.getResponse());
+                }
+                if (finished) {
+                    tokenLatency.onDone(
+                            ollamaChatResponseModel.getEvalCount(),
+                            ollamaChatResponseModel.getEvalDuration());
+                }
                 if (body.stream
                         && ollamaChatResponseModel.getMessage() != null
                         && ollamaChatResponseModel.getMessage().getToolCalls() != null) {
-                    wantedToolsForStream = ollamaChatResponseModel.getMessage().getToolCalls();
+                    List<OllamaChatToolCalls> chunkToolCalls =
+                            ollamaChatResponseModel.getMessage().getToolCalls();
+                    if (streamToolCallHandler == null) {
+                        wantedToolsForStream = chunkToolCalls;
+                    } else {
+                        // tool calls may be spread over several chunks, keep all of them
+                        if (wantedToolsForStream == null) {
+                            wantedToolsForStream = new ArrayList<>();
+                        }
+                        wantedToolsForStream.addAll(chunkToolCalls);
+                        for (OllamaChatToolCalls toolCall : chunkToolCalls) {
+                            streamToolCallHandler.accept(toolCall);
+                        }
+                    }
                 }
                 if (finished && body.stream) {
                     ollamaChatResponseModel.getMessage().setResponse(responseBuffer.toString());
@@ -136,6 +188,7 @@ public class OllamaChatEndpointCaller extends OllamaEndpointCaller {
             }
         }
         MetricsRecorder.record(
+                getMetricsSink(),
                 endpoint,
                 body.getModel(),
                 false,
@@ -155,6 +208,17 @@ public class OllamaChatEndpointCaller extends OllamaEndpointCaller {
         }
         OllamaChatResult ollamaResult =
                 new OllamaChatResult(ollamaChatResponseModel, body.getMessages());
+        OllamaTimings timings =
+                new OllamaTimings(
+                        System.nanoTime() - startNanos,
+                        ollamaChatResponseModel.getTotalDuration(),
+                        ollamaChatResponseModel.getLoadDuration(),
+                        ollamaChatResponseModel.getPromptEvalDuration(),
+                        ollamaChatResponseModel.getEvalDuration(),
+                        ollamaChatResponseModel.getPromptEvalCount(),
+                        ollamaChatResponseModel.getEvalCount());
+        MetricsRecorder.recordTimings(getMetricsSink(), endpoint, body.getModel(), timings);
+        ollamaResult.setTimings(timings);
         LOG.debug("Model response: {}", ollamaResult);
         return ollamaResult;
     }
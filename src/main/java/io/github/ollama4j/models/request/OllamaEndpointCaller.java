@@ -8,11 +8,14 @@
 */
 package io.github.ollama4j.models.request;
 
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
 import io.github.ollama4j.utils.Constants;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.time.Duration;
 import lombok.Getter;
+import lombok.Setter;
 
 /**
  * Abstract helper class to call the ollama api server.
@@ -24,6 +27,9 @@ public abstract class OllamaEndpointCaller {
     private final Auth auth;
     private final long requestTimeoutSeconds;
 
+    /** The sink the metrics of the calls are recorded to. Default is the Prometheus default. */
+    @Setter private MetricsSink metricsSink = PrometheusMetricsSink.getDefault();
+
     protected OllamaEndpointCaller(String host, Auth auth, long requestTimeoutSeconds) {
         this.host = host;
         this.auth = auth;
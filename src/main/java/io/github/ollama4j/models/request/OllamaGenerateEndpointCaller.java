@@ -10,11 +10,13 @@ package io.github.ollama4j.models.request;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.metrics.MetricsRecorder;
 import io.github.ollama4j.models.generate.OllamaGenerateResponseModel;
 import io.github.ollama4j.models.generate.OllamaGenerateStreamObserver;
 import io.github.ollama4j.models.generate.OllamaGenerateTokenHandler;
 import io.github.ollama4j.models.response.OllamaErrorResponse;
 import io.github.ollama4j.models.response.OllamaResult;
+import io.github.ollama4j.models.response.OllamaTimings;
 import io.github.ollama4j.utils.OllamaRequestBody;
 import io.github.ollama4j.utils.Utils;
 import java.io.BufferedReader;
@@ -44,6 +46,14 @@ public class OllamaGenerateEndpointCaller extends OllamaEndpointCaller {
     @Override
     protected boolean parseResponseAndAddToBuffer(
             String line, StringBuilder responseBuffer, StringBuilder thinkingBuffer) {
+        return parseResponseAndAddToBuffer(line, responseBuffer, thinkingBuffer, null);
+    }
+
+    private boolean parseResponseAndAddToBuffer(
+            String line,
+            StringBuilder responseBuffer,
+            StringBuilder thinkingBuffer,
+            TokenLatencyTracker tokenLatency) {
         try {
             OllamaGenerateResponseModel ollamaResponseModel =
                     Utils.getObjectMapper().readValue(line, OllamaGenerateResponseModel.class);
@@ -56,6 +66,17 @@ public class OllamaGenerateEndpointCaller extends OllamaEndpointCaller {
             if (responseStreamObserver != null) {
                 responseStreamObserver.notify(ollamaResponseModel);
             }
+            if (tokenLatency != null) {
+                tokenLatency.onChunk(
+                        ollamaResponseModel.getThinking() != null
+                                ? ollamaResponseModel.getThinking()
+                                : ollamaResponseModel.getResponse());
+                if (ollamaResponseModel.isDone()) {
+                    tokenLatency.onDone(
+                            ollamaResponseModel.getEvalCount(),
+                            ollamaResponseModel.getEvalDuration());
+                }
+            }
             return ollamaResponseModel.isDone();
         } catch (JsonProcessingException e) {
             LOG.error("Error parsing the Ollama chat response!", e);
@@ -87,6 +108,7 @@ public class OllamaGenerateEndpointCaller extends OllamaEndpointCaller {
     public OllamaResult callSync(OllamaRequestBody body)
             throws OllamaException, IOException, InterruptedException {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         HttpClient httpClient = HttpClient.newHttpClient();
         URI uri = URI.create(getHost() + endpoint);
         HttpRequest.Builder requestBuilder =
@@ -101,6 +123,19 @@ public class OllamaGenerateEndpointCaller extends OllamaEndpointCaller {
         StringBuilder responseBuffer = new StringBuilder();
         StringBuilder thinkingBuffer = new StringBuilder();
         OllamaGenerateResponseModel ollamaGenerateResponseModel = null;
+        String model = null;
+        TokenLatencyTracker tokenLatency = null;
+        if (body instanceof OllamaCommonRequest) {
+            OllamaCommonRequest commonRequest = (OllamaCommonRequest) body;
+            model = commonRequest.getModel();
+            tokenLatency =
+                    new TokenLatencyTracker(
+                            getMetricsSink(),
+                            endpoint,
+                            model,
+                            commonRequest.isStream(),
+                            startNanos);
+        }
         try (BufferedReader reader =
                 new BufferedReader(
                         new InputStreamReader(responseBodyStream, StandardCharsets.UTF_8))) {
@@ -113,7 +148,8 @@ public class OllamaGenerateEndpointCaller extends OllamaEndpointCaller {
                     responseBuffer.append(ollamaResponseModel.getError());
                 } else {
                     boolean finished =
-                            parseResponseAndAddToBuffer(line, responseBuffer, thinkingBuffer);
+                            parseResponseAndAddToBuffer(
+                                    line, responseBuffer, thinkingBuffer, tokenLatency);
                     if (finished) {
                         ollamaGenerateResponseModel =
                                 Utils.getObjectMapper()
@@ -149,6 +185,21 @@ public class OllamaGenerateEndpointCaller extends OllamaEndpointCaller {
                         ollamaGenerateResponseModel.getPromptEvalDuration());
                 ollamaResult.setEvalCount(ollamaGenerateResponseModel.getEvalCount());
                 ollamaResult.setEvalDuration(ollamaGenerateResponseModel.getEvalDuration());
+                OllamaTimings timings =
+                        new OllamaTimings(
+                                System.nanoTime() - startNanos,
+                                ollamaGenerateResponseModel.getTotalDuration(),
+                                ollamaGenerateResponseModel.getLoadDuration(),
+                                ollamaGenerateResponseModel.getPromptEvalDuration(),
+                                ollamaGenerateResponseModel.getEvalDuration(),
+                                ollamaGenerateResponseModel.getPromptEvalCount(),
+                                ollamaGenerateResponseModel.getEvalCount());
+                MetricsRecorder.recordTimings(
+                        getMetricsSink(),
+                        endpoint,
+                        model != null ? model : ollamaGenerateResponseModel.getModel(),
+                        timings);
+                ollamaResult.setTimings(timings);
             }
             LOG.debug("Model plain response: {}", ollamaGenerateResponseModel);
             LOG.debug("Model response: {}", ollamaResult);
@@ -0,0 +1,74 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.models.request;
+
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+
+/**
+ * Records the time to the first token and the gaps between tokens of a streaming response, and
+ * the generation speed reported in its final chunk.
+ */
+final class TokenLatencyTracker {
+
+    private final MetricsSink sink;
+    private final String endpoint;
+    private final String model;
+    private final boolean streaming;
+    private final long startNanos;
+    private long lastTokenNanos;
+
+    /**
+     * @param sink the sink the latencies are recorded to
+     * @param endpoint the endpoint of the request
+     * @param model the model of the request
+     * @param streaming whether the response is streamed; token latencies are only recorded then
+     * @param startNanos the {@link System#nanoTime()} at which the request was sent
+     */
+    TokenLatencyTracker(
+            MetricsSink sink, String endpoint, String model, boolean streaming, long startNanos) {
+        this.sink = sink;
+        this.endpoint = endpoint;
+        this.model = model;
+        this.streaming = streaming;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Notes a received chunk.
+     *
+     * @param text the content or thinking text of the chunk
+     */
+    void onChunk(String text) {
+        if (!streaming || text == null || text.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastTokenNanos == 0) {
+            MetricsRecorder.recordTimeToFirstToken(sink, endpoint, model, (now - startNanos) / 1e9);
+        } else {
+            MetricsRecorder.recordInterTokenLatency(
+                    sink, endpoint, model, (now - lastTokenNanos) / 1e9);
+        }
+        lastTokenNanos = now;
+    }
+
+    /**
+     * Notes the final chunk of the response.
+     *
+     * @param evalCount the number of generated tokens, may be null
+     * @param evalDurationNanos the time spent generating them, may be null
+     */
+    void onDone(Integer evalCount, Long evalDurationNanos) {
+        if (evalCount != null && evalDurationNanos != null) {
+            MetricsRecorder.recordTokensPerSecond(
+                    sink, endpoint, model, evalCount, evalDurationNanos);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.models.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.ollama4j.utils.Utils;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Readiness of a single model after a call to {@link
+ * io.github.ollama4j.Ollama#preloadModels(java.util.List, String, String)}.
+ */
+@Data
+@NoArgsConstructor
+public class ModelPreloadResult {
+
+    /** The model name as it was requested. */
+    private String model;
+
+    /** Whether the model is pulled, loaded into memory and (if requested) warmed up. */
+    private boolean ready;
+
+    /** Whether the model was missing locally and had to be pulled first. */
+    private boolean pulled;
+
+    /** Time spent pulling the model in milliseconds, 0 if no pull was needed. */
+    private long pullDurationMillis;
+
+    /** Wall-clock time of the load request in milliseconds, as observed by the client. */
+    private long loadLatencyMillis;
+
+    /** Time the server reported for loading the model in milliseconds ({@code load_duration}). */
+    private long serverLoadDurationMillis;
+
+    /** Wall-clock time of the warm-up generation in milliseconds, 0 if no warm-up was run. */
+    private long warmUpLatencyMillis;
+
+    /** The error message if the model could not be made ready, null otherwise. */
+    private String error;
+
+    public ModelPreloadResult(String model) {
+        this.model = model;
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return Utils.getObjectMapper()
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.models.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of pulling a single model with {@link
+ * io.github.ollama4j.Ollama#pullModels(java.util.List, int, io.github.ollama4j.PullProgressListener)}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModelPullResult {
+
+    /** The model name as it was requested. */
+    private String model;
+
+    /** Whether the model was pulled successfully. */
+    private boolean success;
+
+    /** Wall-clock time of the pull including retries, in milliseconds. */
+    private long durationMillis;
+
+    /** The error message if the pull failed, null otherwise. */
+    private String error;
+}
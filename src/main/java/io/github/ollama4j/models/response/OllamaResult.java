@@ -11,6 +11,7 @@ package io.github.ollama4j.models.response;
 import static io.github.ollama4j.utils.Utils.getObjectMapper;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.HashMap;
@@ -61,6 +62,10 @@ public class OllamaResult {
     private Integer evalCount;
     private Long evalDuration;
 
+    /** Where the time of the request went. */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private OllamaTimings timings;
+
     public OllamaResult(String response, String thinking, long responseTime, int httpStatusCode) {
         this.response = response;
         this.thinking = thinking;
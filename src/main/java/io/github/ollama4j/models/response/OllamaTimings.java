@@ -0,0 +1,99 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.models.response;
+
+import java.time.Duration;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Where the time of a request went: the durations the server reported for loading the model,
+ * evaluating the prompt and generating the response, and the wall time measured by the client.
+ * Durations the server did not report are null.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class OllamaTimings {
+
+    /** Load duration from which a response counts as a cold load. */
+    public static final Duration COLD_LOAD_THRESHOLD = Duration.ofMillis(500);
+
+    /** Time from sending the request to receiving the complete response, measured by the client. */
+    private final Duration wallTime;
+
+    private final Duration totalDuration;
+    private final Duration loadDuration;
+    private final Duration promptEvalDuration;
+    private final Duration evalDuration;
+    private final int promptEvalCount;
+    private final int evalCount;
+
+    public OllamaTimings(
+            long wallTimeNanos,
+            Long totalDurationNanos,
+            Long loadDurationNanos,
+            Long promptEvalDurationNanos,
+            Long evalDurationNanos,
+            Integer promptEvalCount,
+            Integer evalCount) {
+        this.wallTime = Duration.ofNanos(wallTimeNanos);
+        this.totalDuration = duration(totalDurationNanos);
+        this.loadDuration = duration(loadDurationNanos);
+        this.promptEvalDuration = duration(promptEvalDurationNanos);
+        this.evalDuration = duration(evalDurationNanos);
+        this.promptEvalCount = promptEvalCount != null ? promptEvalCount : 0;
+        this.evalCount = evalCount != null ? evalCount : 0;
+    }
+
+    /**
+     * @return the wall time not spent on the server, i.e. in the network and the client; null if
+     *     the server reported no total duration
+     */
+    public Duration getClientOverhead() {
+        if (totalDuration == null) {
+            return null;
+        }
+        Duration overhead = wallTime.minus(totalDuration);
+        return overhead.isNegative() ? Duration.ZERO : overhead;
+    }
+
+    /**
+     * @return whether loading the model took at least {@link #COLD_LOAD_THRESHOLD}
+     */
+    public boolean isColdLoad() {
+        return loadDuration != null && loadDuration.compareTo(COLD_LOAD_THRESHOLD) >= 0;
+    }
+
+    /**
+     * @return the prompt tokens evaluated per second, 0 if unknown
+     */
+    public double getPromptTokensPerSecond() {
+        return perSecond(promptEvalCount, promptEvalDuration);
+    }
+
+    /**
+     * @return the tokens generated per second, 0 if unknown
+     */
+    public double getTokensPerSecond() {
+        return perSecond(evalCount, evalDuration);
+    }
+
+    private static double perSecond(int count, Duration duration) {
+        if (duration == null || duration.isZero()) {
+            return 0;
+        }
+        return count / (duration.toNanos() / 1e9);
+    }
+
+    private static Duration duration(Long nanos) {
+        return nanos != null ? Duration.ofNanos(nanos) : null;
+    }
+}
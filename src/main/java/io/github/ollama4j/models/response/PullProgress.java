@@ -0,0 +1,63 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.models.response;
+
+import java.time.Duration;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Snapshot of the combined progress of pulling several models.
+ *
+ * <p>Byte counts only include the layers the server has reported so far, so the total grows while
+ * the manifests of the pulled models are being resolved.
+ */
+@Data
+@AllArgsConstructor
+public class PullProgress {
+
+    /** Number of models being pulled. */
+    private int totalModels;
+
+    /** Number of models pulled successfully. */
+    private int completedModels;
+
+    /** Number of models whose pull failed. */
+    private int failedModels;
+
+    /** Sum of the sizes of all layers reported so far, in bytes. */
+    private long totalBytes;
+
+    /** Sum of the downloaded bytes of all layers reported so far. */
+    private long completedBytes;
+
+    /** Download rate over the recent sampling window, in bytes per second. */
+    private double bytesPerSecond;
+
+    /** Estimated time until all reported layers are downloaded, null if unknown. */
+    private Duration eta;
+
+    /** The latest status reported for each model. */
+    private Map<String, String> modelStatus;
+
+    /**
+     * @return the downloaded share of the reported bytes in percent, 0 if nothing was reported yet
+     */
+    public double getPercentage() {
+        return totalBytes == 0 ? 0 : completedBytes * 100.0 / totalBytes;
+    }
+
+    /**
+     * @return true once every model has either been pulled or failed
+     */
+    public boolean isFinished() {
+        return completedModels + failedModels >= totalModels;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.residency;
+
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
+import io.github.ollama4j.models.response.OllamaTimings;
+import io.github.ollama4j.utils.Utils;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Setter;
+
+/**
+ * Chooses the {@code keep_alive} of outgoing requests per model from the observed idle gaps
+ * between requests for that model.
+ *
+ * <p>Once set with {@link io.github.ollama4j.Ollama#setAdaptiveKeepAlive(AdaptiveKeepAlive)}, every
+ * chat, generate and embed request without an explicit keep-alive is sent with a keep-alive that
+ * covers the configured percentile of the recent inter-arrival times of its model (times a
+ * headroom factor, clamped to {@code [minKeepAlive, maxKeepAlive]}). Bursty models therefore stay
+ * loaded between bursts, while rarely used models give their memory back early. Until enough
+ * gaps have been observed the {@code defaultKeepAlive} is used. Fixed keep-alives can be set per
+ * model with {@link #setOverride(String, String)}.
+ *
+ * <p>The load duration reported by the server is used to count cold loads separately for
+ * requests sent with a static and with an adaptive keep-alive, so that the effect of the tuning
+ * can be compared.
+ */
+public class AdaptiveKeepAlive {
+
+    /** How the keep-alive of a request was chosen. */
+    public enum Mode {
+        /** Explicit, overridden or default keep-alive. */
+        STATIC,
+        /** Keep-alive derived from the observed inter-arrival times. */
+        ADAPTIVE
+    }
+
+    /** Number of most recent inter-arrival times kept per model. Default is 64. */
+    @Setter private int sampleSize = 64;
+
+    /** Number of observed inter-arrival times needed before adapting. Default is 5. */
+    @Setter private int minSamples = 5;
+
+    /** Percentile of the inter-arrival times the keep-alive should cover. Default is 0.9. */
+    @Setter private double percentile = 0.9;
+
+    /** Factor applied to the percentile to absorb jitter. Default is 1.25. */
+    @Setter private double headroomFactor = 1.25;
+
+    /** Lower bound of the adaptive keep-alive. Default is 30 seconds. */
+    @Setter private Duration minKeepAlive = Duration.ofSeconds(30);
+
+    /** Upper bound of the adaptive keep-alive. Default is 1 hour. */
+    @Setter private Duration maxKeepAlive = Duration.ofHours(1);
+
+    /** Keep-alive used until enough samples exist, null for the server default. */
+    @Setter private String defaultKeepAlive;
+
+    /** Load duration from which a request counts as a cold load. Default is 500 milliseconds. */
+    @Setter private Duration coldLoadThreshold = OllamaTimings.COLD_LOAD_THRESHOLD;
+
+    private final Map<String, ArrivalHistory> arrivals = new ConcurrentHashMap<>();
+    private final Map<String, String> overrides = new ConcurrentHashMap<>();
+    private final LongAdder[] requests = {new LongAdder(), new LongAdder()};
+    private final LongAdder[] coldLoads = {new LongAdder(), new LongAdder()};
+
+    /**
+     * The sink the model loads are recorded to. Set by the client the keep-alive is set on, default
+     * is the Prometheus default.
+     */
+    @Setter private volatile MetricsSink metricsSink = PrometheusMetricsSink.getDefault();
+
+    /**
+     * Records a request for a model at the current time.
+     *
+     * @param model the requested model
+     */
+    public void recordArrival(String model) {
+        recordArrival(model, System.currentTimeMillis());
+    }
+
+    /**
+     * Records a request for a model at the given time.
+     *
+     * @param model the requested model
+     * @param timestampMillis the time of the request in epoch milliseconds
+     */
+    public void recordArrival(String model, long timestampMillis) {
+        if (model == null) {
+            return;
+        }
+        arrivals.computeIfAbsent(Utils.normalizeModelName(model), k -> new ArrivalHistory())
+                .record(timestampMillis, sampleSize);
+    }
+
+    /**
+     * Returns the keep-alive to use for the next request of a model.
+     *
+     * @param model the model
+     * @return the override of the model if any, the adaptive keep-alive if enough samples were
+     *     observed, or the default keep-alive otherwise
+     */
+    public String keepAliveFor(String model) {
+        String normalized = Utils.normalizeModelName(model);
+        String override = overrides.get(normalized);
+        if (override != null) {
+            return override;
+        }
+        Duration adaptive = adaptiveKeepAliveFor(normalized);
+        return adaptive != null ? adaptive.getSeconds() + "s" : defaultKeepAlive;
+    }
+
+    /**
+     * Tells how the keep-alive returned by {@link #keepAliveFor(String)} is chosen for a model.
+     *
+     * @param model the model
+     * @return {@link Mode#ADAPTIVE} if it is derived from the observed traffic
+     */
+    public Mode modeFor(String model) {
+        String normalized = Utils.normalizeModelName(model);
+        if (overrides.containsKey(normalized) || adaptiveKeepAliveFor(normalized) == null) {
+            return Mode.STATIC;
+        }
+        return Mode.ADAPTIVE;
+    }
+
+    /**
+     * Sets a fixed keep-alive for a model, bypassing the adaptive choice.
+     *
+     * @param model the model
+     * @param keepAlive the keep-alive to use for the model
+     */
+    public void setOverride(String model, String keepAlive) {
+        overrides.put(Utils.normalizeModelName(model), keepAlive);
+    }
+
+    /**
+     * Removes the fixed keep-alive of a model.
+     *
+     * @param model the model
+     */
+    public void removeOverride(String model) {
+        overrides.remove(Utils.normalizeModelName(model));
+    }
+
+    /**
+     * Records the load duration the server reported for a request, counting it as a cold load if
+     * it exceeds the {@code coldLoadThreshold}.
+     *
+     * @param model the model of the request
+     * @param loadDurationNanos the reported {@code load_duration} in nanoseconds, or null if none
+     *     was reported
+     * @param mode how the keep-alive of the request was chosen
+     */
+    public void recordLoad(String model, Long loadDurationNanos, Mode mode) {
+        if (loadDurationNanos == null) {
+            return;
+        }
+        boolean cold = loadDurationNanos >= coldLoadThreshold.toNanos();
+        requests[mode.ordinal()].increment();
+        if (cold) {
+            coldLoads[mode.ordinal()].increment();
+        }
+        MetricsRecorder.recordModelLoad(metricsSink, model, mode.name().toLowerCase(), cold);
+    }
+
+    /**
+     * @param mode how the keep-alive of the requests was chosen
+     * @return the share of requests with the given mode that hit a cold load, 0 if there were none
+     */
+    public double getColdLoadRate(Mode mode) {
+        long total = requests[mode.ordinal()].sum();
+        return total == 0 ? 0 : (double) coldLoads[mode.ordinal()].sum() / total;
+    }
+
+    private Duration adaptiveKeepAliveFor(String normalizedModel) {
+        ArrivalHistory history = arrivals.get(normalizedModel);
+        long[] gaps = history == null ? new long[0] : history.gaps();
+        if (gaps.length < Math.max(1, minSamples)) {
+            return null;
+        }
+        Arrays.sort(gaps);
+        int rank = (int) Math.ceil(percentile * gaps.length) - 1;
+        long gapMillis = gaps[Math.max(0, Math.min(gaps.length - 1, rank))];
+        long keepAliveMillis = (long) (gapMillis * headroomFactor);
+        keepAliveMillis = Math.max(keepAliveMillis, minKeepAlive.toMillis());
+        keepAliveMillis = Math.min(keepAliveMillis, maxKeepAlive.toMillis());
+        return Duration.ofMillis(keepAliveMillis);
+    }
+
+    /** Ring buffer of the most recent inter-arrival times of a model. */
+    private static final class ArrivalHistory {
+        private long[] ring = new long[0];
+        private int count;
+        private int next;
+        private long lastArrival = -1;
+
+        synchronized void record(long timestampMillis, int capacity) {
+            if (ring.length != capacity) {
+                ring = new long[Math.max(1, capacity)];
+                count = 0;
+                next = 0;
+            }
+            if (lastArrival >= 0 && timestampMillis >= lastArrival) {
+                ring[next] = timestampMillis - lastArrival;
+                next = (next + 1) % ring.length;
+                count = Math.min(count + 1, ring.length);
+            }
+            lastArrival = timestampMillis;
+        }
+
+        synchronized long[] gaps() {
+            return Arrays.copyOf(ring, count);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.residency;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
+import io.github.ollama4j.models.ps.ModelProcessesResult;
+import io.github.ollama4j.utils.Utils;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the set of models resident on an Ollama server within a VRAM budget.
+ *
+ * <p>The manager observes per-model traffic (see {@link #recordRequest(String)}, which {@link
+ * Ollama} calls for every chat, generate and embed request once the manager is set with {@link
+ * Ollama#setResidencyManager(ModelResidencyManager)}) as an exponentially decaying request rate.
+ * On each {@link #reconcile()} it reads the resident models from {@link Ollama#ps()}, keeps the
+ * pinned and most requested models while their {@code size_vram} fits in the budget, extends the
+ * keep-alive of hot models that are about to expire and unloads the rest.
+ *
+ * <p>Reconciliation can be run periodically in the background with {@link #start(Duration)}.
+ */
+public class ModelResidencyManager implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ModelResidencyManager.class);
+
+    private final Ollama ollama;
+
+    /** The VRAM budget in bytes that resident models should fit in. */
+    @Getter private final long vramBudgetBytes;
+
+    /** The keep-alive used when extending the residency of hot models. Default is 30 minutes. */
+    @Setter private String keepAlive = "30m";
+
+    /**
+     * Hot models whose residency expires within this duration get their keep-alive extended.
+     * Default is 5 minutes.
+     */
+    @Setter private Duration refreshBefore = Duration.ofMinutes(5);
+
+    /** Half-life of the traffic score of a model. Default is 10 minutes. */
+    @Setter private Duration trafficHalfLife = Duration.ofMinutes(10);
+
+    /**
+     * The traffic score from which a model counts as hot. A single request scores 1 and halves
+     * with every half-life, so the default of 0.5 means "requested within the last half-life".
+     */
+    @Setter private double hotTrafficThreshold = 0.5;
+
+    private final Map<String, TrafficScore> traffic = new ConcurrentHashMap<>();
+    private final Set<String> pinnedModels = ConcurrentHashMap.newKeySet();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    /**
+     * The sink the residency, evictions and refreshes are recorded to. Set by the client the
+     * manager is set on, default is the Prometheus default.
+     */
+    @Setter private volatile MetricsSink metricsSink = PrometheusMetricsSink.getDefault();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a residency manager.
+     *
+     * @param ollama the client used to query and manage the resident models
+     * @param vramBudgetBytes the VRAM budget in bytes that resident models should fit in
+     */
+    public ModelResidencyManager(Ollama ollama, long vramBudgetBytes) {
+        this.ollama = ollama;
+        this.vramBudgetBytes = vramBudgetBytes;
+    }
+
+    /**
+     * Records a request for a model.
+     *
+     * @param model the requested model
+     */
+    public void recordRequest(String model) {
+        if (model == null) {
+            return;
+        }
+        traffic.computeIfAbsent(Utils.normalizeModelName(model), k -> new TrafficScore())
+                .increment(System.nanoTime(), trafficHalfLife.toNanos());
+    }
+
+    /**
+     * Returns the current traffic score of a model, i.e. its exponentially decayed request count.
+     *
+     * @param model the model
+     * @return the traffic score, 0 if the model has never been requested
+     */
+    public double getTrafficScore(String model) {
+        TrafficScore score = traffic.get(Utils.normalizeModelName(model));
+        return score == null ? 0 : score.get(System.nanoTime(), trafficHalfLife.toNanos());
+    }
+
+    /**
+     * Pins a model, so that it is always kept resident regardless of its traffic.
+     *
+     * @param model the model to pin
+     */
+    public void pin(String model) {
+        pinnedModels.add(Utils.normalizeModelName(model));
+    }
+
+    /**
+     * Removes the pin from a model.
+     *
+     * @param model the model to unpin
+     */
+    public void unpin(String model) {
+        pinnedModels.remove(Utils.normalizeModelName(model));
+    }
+
+    /**
+     * @return the total number of models unloaded by this manager
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * @return the total number of keep-alive extensions issued by this manager
+     */
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * Reads the resident models and unloads or refreshes them according to the VRAM budget and the
+     * observed traffic. Failures to unload or refresh a single model are logged and do not abort
+     * the run.
+     *
+     * @return what was kept, evicted and refreshed
+     * @throws OllamaException if the resident models cannot be listed
+     */
+    public synchronized ResidencyReport reconcile() throws OllamaException {
+        ModelProcessesResult processes = ollama.ps();
+        List<ModelProcessesResult.ModelProcess> resident = new ArrayList<>();
+        if (processes != null && processes.getModels() != null) {
+            resident.addAll(processes.getModels());
+        }
+        long now = System.nanoTime();
+        long halfLife = trafficHalfLife.toNanos();
+        Map<String, Double> scores = new HashMap<>();
+        for (ModelProcessesResult.ModelProcess process : resident) {
+            TrafficScore score = traffic.get(nameOf(process));
+            scores.put(nameOf(process), score == null ? 0 : score.get(now, halfLife));
+        }
+        resident.sort(
+                Comparator.comparing(
+                                (ModelProcessesResult.ModelProcess p) ->
+                                        !pinnedModels.contains(nameOf(p)))
+                        .thenComparing(p -> -scores.get(nameOf(p)))
+                        .thenComparingLong(ModelProcessesResult.ModelProcess::getSizeVram));
+
+        ResidencyReport report = new ResidencyReport(vramBudgetBytes);
+        long usedVram = 0;
+        for (ModelProcessesResult.ModelProcess process : resident) {
+            String name = nameOf(process);
+            boolean pinned = pinnedModels.contains(name);
+            if (pinned || usedVram + process.getSizeVram() <= vramBudgetBytes) {
+                usedVram += process.getSizeVram();
+                report.getKept().add(name);
+                boolean hot = pinned || scores.get(name) >= hotTrafficThreshold;
+                if (hot && expiresSoon(process) && refresh(process.getName())) {
+                    report.getRefreshed().add(name);
+                }
+            } else if (evict(process.getName())) {
+                report.getEvicted().add(name);
+            } else {
+                usedVram += process.getSizeVram();
+                report.getKept().add(name);
+            }
+        }
+        report.setResidentVramBytes(usedVram);
+        MetricsRecorder.recordResidency(metricsSink, report.getKept().size(), usedVram);
+        LOG.debug(
+                "Residency reconciled: kept {}, evicted {}, refreshed {}, {} of {} bytes used",
+                report.getKept(),
+                report.getEvicted(),
+                report.getRefreshed(),
+                usedVram,
+                vramBudgetBytes);
+        return report;
+    }
+
+    /**
+     * Starts reconciling periodically in the background. Calling this again replaces the previous
+     * schedule.
+     *
+     * @param interval the interval between two reconciliations
+     */
+    public synchronized void start(Duration interval) {
+        close();
+        scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        Utils.daemonThreadFactory("ollama4j-residency"));
+        scheduler.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        reconcile();
+                    } catch (Exception e) {
+                        LOG.warn("Residency reconciliation failed: {}", e.getMessage());
+                    }
+                },
+                interval.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops the background reconciliation started with {@link #start(Duration)}, if any. */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private boolean evict(String model) {
+        try {
+            ollama.unloadModel(model);
+            evictionCount.incrementAndGet();
+            MetricsRecorder.recordEviction(metricsSink, model);
+            return true;
+        } catch (OllamaException e) {
+            LOG.warn("Failed to unload model {}: {}", model, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean refresh(String model) {
+        try {
+            ollama.loadModel(model, keepAlive);
+            refreshCount.incrementAndGet();
+            MetricsRecorder.recordKeepAliveRefresh(metricsSink, model);
+            return true;
+        } catch (OllamaException e) {
+            LOG.warn("Failed to extend keep-alive of model {}: {}", model, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean expiresSoon(ModelProcessesResult.ModelProcess process) {
+        if (process.getExpiresAt() == null) {
+            return false;
+        }
+        try {
+            OffsetDateTime expiresAt = OffsetDateTime.parse(process.getExpiresAt());
+            return expiresAt.isBefore(OffsetDateTime.now().plus(refreshBefore));
+        } catch (DateTimeParseException e) {
+            LOG.debug("Unparseable expiry of model {}: {}", process.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static String nameOf(ModelProcessesResult.ModelProcess process) {
+        String name = process.getName() != null ? process.getName() : process.getModel();
+        return Utils.normalizeModelName(name);
+    }
+
+    /** Exponentially decaying request counter. */
+    private static final class TrafficScore {
+        private double value;
+        private long updatedAt;
+
+        synchronized void increment(long now, long halfLifeNanos) {
+            value = decayed(now, halfLifeNanos) + 1;
+            updatedAt = now;
+        }
+
+        synchronized double get(long now, long halfLifeNanos) {
+            return decayed(now, halfLifeNanos);
+        }
+
+        private double decayed(long now, long halfLifeNanos) {
+            if (value == 0 || halfLifeNanos <= 0) {
+                return value;
+            }
+            return value * Math.pow(0.5, (double) (now - updatedAt) / halfLifeNanos);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.residency;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+/** Outcome of a single {@link ModelResidencyManager#reconcile()} run. */
+@Data
+public class ResidencyReport {
+
+    /** Models that stay resident. */
+    private final List<String> kept = new ArrayList<>();
+
+    /** Models that were unloaded to stay within the VRAM budget. */
+    private final List<String> evicted = new ArrayList<>();
+
+    /** Resident models whose keep-alive was extended because they are hot. */
+    private final List<String> refreshed = new ArrayList<>();
+
+    /** VRAM used by the kept models, in bytes. */
+    private long residentVramBytes;
+
+    /** The configured VRAM budget, in bytes. */
+    private final long vramBudgetBytes;
+}
@@ -0,0 +1,50 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tools of a class with {@link io.github.ollama4j.tools.annotations.ToolSpec} methods, generated at
+ * compile time by {@link io.github.ollama4j.tools.annotations.processor.ToolSpecProcessor}.
+ *
+ * <p>Implementations build the tool specifications and invoke the tool methods directly, without
+ * reflection. They are registered as services in {@code
+ * META-INF/services/io.github.ollama4j.tools.GeneratedToolProvider} and looked up with {@link
+ * GeneratedToolProviders#find(Class)}.
+ */
+public interface GeneratedToolProvider {
+
+    /**
+     * @return the class whose tools are provided
+     */
+    Class<?> getProviderClass();
+
+    /**
+     * @return a new instance of the provider class, or null if it has no public no-argument
+     *     constructor
+     */
+    Object newInstance();
+
+    /**
+     * @param instance the instance of the provider class the tools are invoked on
+     * @return the tools of the instance
+     */
+    List<Tools.Tool> getTools(Object instance);
+
+    /**
+     * @param arguments the arguments of a tool call, may be null
+     * @param name the name of the argument
+     * @return the value of the argument, or null
+     */
+    static Object argument(Map<String, Object> arguments, String name) {
+        return arguments == null ? null : arguments.get(name);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Looks up the {@link GeneratedToolProvider}s registered with the {@link ServiceLoader}. */
+public final class GeneratedToolProviders {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GeneratedToolProviders.class);
+
+    private static final Map<ClassLoader, Map<String, GeneratedToolProvider>> PROVIDERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private GeneratedToolProviders() {}
+
+    /**
+     * @param type a class with tool methods
+     * @return the generated provider of exactly this class, or null if there is none
+     */
+    public static GeneratedToolProvider find(Class<?> type) {
+        ClassLoader classLoader =
+                type.getClassLoader() != null
+                        ? type.getClassLoader()
+                        : ClassLoader.getSystemClassLoader();
+        GeneratedToolProvider provider =
+                PROVIDERS
+                        .computeIfAbsent(classLoader, GeneratedToolProviders::load)
+                        .get(type.getName());
+        return provider != null && provider.getProviderClass() == type ? provider : null;
+    }
+
+    private static Map<String, GeneratedToolProvider> load(ClassLoader classLoader) {
+        Map<String, GeneratedToolProvider> providers = new HashMap<>();
+        Iterator<GeneratedToolProvider> it =
+                ServiceLoader.load(GeneratedToolProvider.class, classLoader).iterator();
+        try {
+            while (it.hasNext()) {
+                try {
+                    GeneratedToolProvider provider = it.next();
+                    providers.putIfAbsent(provider.getProviderClass().getName(), provider);
+                } catch (ServiceConfigurationError e) {
+                    // e.g. a stale entry left behind by an incremental build
+                    LOG.debug("Skipping generated tool provider: {}", e.getMessage());
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            LOG.warn("Failed to load generated tool providers: {}", e.getMessage());
+        }
+        return providers;
+    }
+}
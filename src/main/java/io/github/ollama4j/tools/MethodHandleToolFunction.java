@@ -0,0 +1,118 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * {@link ToolFunction} that invokes a Java method through a {@link MethodHandle}.
+ *
+ * <p>The method handle and one converter per parameter are prepared once, when the tool is
+ * registered, so a tool call only converts the arguments and invokes the handle. Arguments are
+ * converted to the declared parameter types as described in {@link ToolArgumentConverters}.
+ * Parameters without a property definition receive null, or the default value of their primitive
+ * type.
+ */
+public class MethodHandleToolFunction implements ToolFunction {
+
+    @Getter private final Method function;
+    private final MethodHandle handle;
+    private final String[] argumentNames;
+    private final List<Function<Object, Object>> converters;
+
+    /**
+     * Prepares the invocation of a method.
+     *
+     * @param functionHolder the object the method is invoked on, ignored for static methods
+     * @param function the method implementing the tool
+     * @param propertyDefinition the tool property of each method parameter in parameter order,
+     *     mapped to the parameter type name or to null if the parameter is not a tool property
+     * @throws IllegalArgumentException if the method cannot be accessed
+     */
+    public MethodHandleToolFunction(
+            Object functionHolder,
+            Method function,
+            LinkedHashMap<String, String> propertyDefinition) {
+        this.function = function;
+        MethodHandle methodHandle = unreflect(function);
+        if (!Modifier.isStatic(function.getModifiers())) {
+            methodHandle = methodHandle.bindTo(functionHolder);
+        }
+        int parameterCount = function.getParameterCount();
+        this.handle =
+                methodHandle
+                        .asSpreader(Object[].class, parameterCount)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+        this.argumentNames = new String[parameterCount];
+        this.converters = new ArrayList<>(parameterCount);
+        Class<?>[] parameterTypes = function.getParameterTypes();
+        Type[] genericTypes = function.getGenericParameterTypes();
+        int index = 0;
+        for (Map.Entry<String, String> property : propertyDefinition.entrySet()) {
+            if (index == parameterCount) {
+                break;
+            }
+            Class<?> type = parameterTypes[index];
+            if (property.getValue() == null) {
+                Object defaultValue = ToolArgumentConverters.defaultValue(type);
+                converters.add(value -> defaultValue);
+            } else {
+                argumentNames[index] = property.getKey();
+                converters.add(ToolArgumentConverters.forType(type, genericTypes[index]));
+            }
+            index++;
+        }
+        for (; index < parameterCount; index++) {
+            Object defaultValue = ToolArgumentConverters.defaultValue(parameterTypes[index]);
+            converters.add(value -> defaultValue);
+        }
+    }
+
+    @Override
+    public Object apply(Map<String, Object> arguments) {
+        Object[] values = new Object[argumentNames.length];
+        try {
+            for (int i = 0; i < values.length; i++) {
+                Object value =
+                        argumentNames[i] == null || arguments == null
+                                ? null
+                                : arguments.get(argumentNames[i]);
+                values[i] = converters.get(i).apply(value);
+            }
+            return (Object) handle.invokeExact(values);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to invoke tool: " + function.getName(), e);
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException ex) {
+                throw new IllegalArgumentException(
+                        "Cannot access tool method: " + method.getName(), ex);
+            }
+        }
+    }
+}
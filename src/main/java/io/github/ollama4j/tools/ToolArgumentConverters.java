@@ -0,0 +1,177 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ollama4j.utils.Utils;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Function;
+
+/**
+ * Converters from the JSON values of tool call arguments to Java parameter types.
+ *
+ * <p>Primitives and their wrappers, {@link String}, {@link BigDecimal}, {@link BigInteger} and
+ * enums (by name, ignoring case) are converted directly, any other type (collections, maps, arrays,
+ * POJOs) is converted with Jackson, also from a JSON string. Converters of primitive types return
+ * the default value of the type for null.
+ */
+public final class ToolArgumentConverters {
+
+    private static final ObjectMapper MAPPER = Utils.getObjectMapper();
+
+    private ToolArgumentConverters() {}
+
+    /**
+     * @param type the parameter type, possibly generic
+     * @return a converter to the type
+     */
+    public static Function<Object, Object> forType(Type type) {
+        return forType(MAPPER.getTypeFactory().constructType(type).getRawClass(), type);
+    }
+
+    /**
+     * @param type the erased parameter type
+     * @param genericType the generic parameter type
+     * @return a converter to the type
+     */
+    public static Function<Object, Object> forType(Class<?> type, Type genericType) {
+        if (type == String.class) {
+            return value -> value == null ? null : value.toString();
+        }
+        if (type == Object.class) {
+            return value -> value;
+        }
+        if (type.isPrimitive()) {
+            Function<Object, Object> boxed = forType(box(type), genericType);
+            Object defaultValue = defaultValue(type);
+            return value -> value == null ? defaultValue : boxed.apply(value);
+        }
+        if (type == Integer.class) {
+            return number(Number::intValue, Integer::valueOf);
+        }
+        if (type == Long.class) {
+            return number(Number::longValue, Long::valueOf);
+        }
+        if (type == Double.class) {
+            return number(Number::doubleValue, Double::valueOf);
+        }
+        if (type == Float.class) {
+            return number(Number::floatValue, Float::valueOf);
+        }
+        if (type == Short.class) {
+            return number(Number::shortValue, Short::valueOf);
+        }
+        if (type == Byte.class) {
+            return number(Number::byteValue, Byte::valueOf);
+        }
+        if (type == Boolean.class) {
+            return value ->
+                    value == null || value instanceof Boolean
+                            ? value
+                            : Boolean.valueOf(value.toString().trim());
+        }
+        if (type == Character.class) {
+            return value ->
+                    value == null || value instanceof Character
+                            ? value
+                            : value.toString().isEmpty() ? null : value.toString().charAt(0);
+        }
+        if (type == BigDecimal.class) {
+            return value ->
+                    value == null || value instanceof BigDecimal
+                            ? value
+                            : new BigDecimal(value.toString().trim());
+        }
+        if (type == BigInteger.class) {
+            return value ->
+                    value == null || value instanceof BigInteger
+                            ? value
+                            : new BigInteger(value.toString().trim());
+        }
+        if (type.isEnum()) {
+            return enumConverter(type);
+        }
+        JavaType javaType = MAPPER.getTypeFactory().constructType(genericType);
+        return value -> {
+            if (value == null || (type.isInstance(value) && !javaType.isContainerType())) {
+                return value;
+            }
+            try {
+                if (value instanceof String) {
+                    return MAPPER.readValue((String) value, javaType);
+                }
+                return MAPPER.convertValue(value, javaType);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Cannot convert " + value + " to " + javaType, e);
+            }
+        };
+    }
+
+    private static Function<Object, Object> number(
+            Function<Number, Object> fromNumber, Function<String, Object> fromString) {
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Number) {
+                return fromNumber.apply((Number) value);
+            }
+            String string = value.toString().trim();
+            try {
+                return fromString.apply(string);
+            } catch (NumberFormatException e) {
+                // e.g. "42.0" for an integer parameter
+                return fromNumber.apply(new BigDecimal(string));
+            }
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object> enumConverter(Class<?> type) {
+        Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+        return value -> {
+            if (value == null || enumType.isInstance(value)) {
+                return value;
+            }
+            String name = value.toString().trim();
+            for (Enum constant : enumType.getEnumConstants()) {
+                if (constant.name().equalsIgnoreCase(name)) {
+                    return constant;
+                }
+            }
+            throw new IllegalArgumentException(
+                    "No constant " + name + " in " + enumType.getSimpleName());
+        };
+    }
+
+    private static Class<?> box(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType();
+    }
+
+    /**
+     * @param type the parameter type
+     * @return null, or the default value of a primitive type
+     */
+    public static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        try {
+            return MethodHandles.zero(type).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools;
+
+import io.github.ollama4j.exceptions.ToolInvocationException;
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
+import io.github.ollama4j.utils.Utils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Executes the tool calls returned by a model in one chat turn.
+ *
+ * <p>With a parallelism of 1 and no timeout the calls run one after the other on the calling
+ * thread, and an exception thrown by a tool aborts the turn. Otherwise the calls run on a pool of
+ * up to {@code parallelism} daemon threads: each call is bounded by the timeout, measured from the
+ * moment it starts, and a failing or timed out call is reported in its {@link Result} without
+ * affecting the other calls. Results are always returned in the order of the calls.
+ *
+ * <p>A {@link Batch} starts each call as soon as it is submitted, e.g. while the rest of a streamed
+ * response is still being received, and collects the results once all calls are known.
+ */
+public class ToolCallDispatcher {
+
+    /** A tool call resolved to the function that implements it. */
+    @Getter
+    @AllArgsConstructor
+    public static class Invocation {
+        private final String name;
+        private final Map<String, Object> arguments;
+        private final ToolFunction function;
+    }
+
+    /** The outcome of a tool call. */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final Invocation invocation;
+
+        /** The value returned by the tool, null if it failed. */
+        private final Object value;
+
+        /** The error message if the tool failed or timed out, null otherwise. */
+        private final String error;
+
+        private final long durationMillis;
+
+        public boolean isFailed() {
+            return error != null;
+        }
+    }
+
+    @Getter private final int parallelism;
+    @Getter private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private ThreadPoolExecutor sequentialExecutor;
+    private final AtomicLong timeSavedMillis = new AtomicLong();
+
+    /** The sink the time saved is recorded to. Default is the Prometheus default. */
+    @Setter private volatile MetricsSink metricsSink = PrometheusMetricsSink.getDefault();
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param parallelism the maximum number of tool calls executed concurrently
+     * @param timeout the maximum duration of a single tool call, or null for no limit
+     */
+    public ToolCallDispatcher(int parallelism, Duration timeout) {
+        this.parallelism = Math.max(1, parallelism);
+        this.timeout = timeout;
+        if (this.parallelism == 1 && timeout == null) {
+            executor = null;
+        } else {
+            executor =
+                    new ThreadPoolExecutor(
+                            this.parallelism,
+                            this.parallelism,
+                            60,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            Utils.daemonThreadFactory("ollama4j-tool"));
+            executor.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    /**
+     * Executes the given tool calls.
+     *
+     * @param invocations the tool calls of one chat turn
+     * @return the results, in the order of {@code invocations}
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     * @throws RuntimeException the exception thrown by a tool when executing sequentially
+     */
+    public List<Result> dispatch(List<Invocation> invocations) throws InterruptedException {
+        List<Result> results = new ArrayList<>(invocations.size());
+        if (executor == null) {
+            for (Invocation invocation : invocations) {
+                long start = System.currentTimeMillis();
+                Object value = invocation.getFunction().apply(invocation.getArguments());
+                results.add(
+                        new Result(invocation, value, null, System.currentTimeMillis() - start));
+            }
+            return results;
+        }
+        Batch batch = new Batch(false);
+        for (Invocation invocation : invocations) {
+            batch.submit(invocation);
+        }
+        return batch.results();
+    }
+
+    /**
+     * Starts a batch of tool calls that are executed as soon as they are submitted.
+     *
+     * <p>With a parallelism of 1 and no timeout the calls run one after the other on a background
+     * thread, and {@link Batch#await()} rethrows an exception thrown by a tool.
+     *
+     * @return a new batch
+     */
+    public Batch newBatch() {
+        return new Batch(true);
+    }
+
+    /** Tool calls of one chat turn that were started before all calls of the turn were known. */
+    public final class Batch {
+        private final boolean overlapped;
+        private final List<Invocation> invocations = new ArrayList<>();
+        private final List<Future<Object>> futures = new ArrayList<>();
+        private final List<AtomicLong[]> timings = new ArrayList<>();
+        private ToolInvocationException failure;
+
+        private Batch(boolean overlapped) {
+            this.overlapped = overlapped;
+        }
+
+        /**
+         * Starts a tool call.
+         *
+         * @param invocation the tool call
+         */
+        public synchronized void submit(Invocation invocation) {
+            if (failure != null) {
+                return;
+            }
+            AtomicLong[] timing = {new AtomicLong(), new AtomicLong()};
+            invocations.add(invocation);
+            timings.add(timing);
+            futures.add(
+                    executor()
+                            .submit(
+                                    () -> {
+                                        timing[0].set(System.currentTimeMillis());
+                                        try {
+                                            return invocation
+                                                    .getFunction()
+                                                    .apply(invocation.getArguments());
+                                        } finally {
+                                            timing[1].set(System.currentTimeMillis());
+                                        }
+                                    }));
+        }
+
+        /**
+         * @return the number of submitted tool calls
+         */
+        public synchronized int size() {
+            return invocations.size();
+        }
+
+        /**
+         * Fails the batch, for a tool call that cannot be started. The submitted tool calls are
+         * cancelled, further ones are ignored and {@link #await()} throws the failure.
+         *
+         * @param failure the reason the batch failed
+         */
+        public synchronized void fail(ToolInvocationException failure) {
+            if (this.failure == null) {
+                this.failure = failure;
+            }
+            cancel();
+        }
+
+        /**
+         * Waits for the submitted tool calls.
+         *
+         * @return the results, in the order the calls were submitted
+         * @throws InterruptedException if the calling thread is interrupted while waiting
+         * @throws ToolInvocationException if the batch has been {@link #fail failed}
+         * @throws RuntimeException the exception thrown by a tool when executing sequentially
+         */
+        public List<Result> await() throws InterruptedException, ToolInvocationException {
+            synchronized (this) {
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+            return results();
+        }
+
+        private List<Result> results() throws InterruptedException {
+            List<Invocation> submitted;
+            List<Future<Object>> submittedFutures;
+            List<AtomicLong[]> submittedTimings;
+            synchronized (this) {
+                submitted = new ArrayList<>(invocations);
+                submittedFutures = new ArrayList<>(futures);
+                submittedTimings = new ArrayList<>(timings);
+            }
+            long awaitStart = System.currentTimeMillis();
+            List<Result> results = new ArrayList<>(submitted.size());
+            long totalMillis = 0;
+            for (int i = 0; i < submitted.size(); i++) {
+                Result result =
+                        ToolCallDispatcher.this.await(
+                                submitted.get(i),
+                                submittedFutures.get(i),
+                                submittedTimings.get(i),
+                                executor == null);
+                totalMillis += result.getDurationMillis();
+                results.add(result);
+            }
+            if (submitted.size() > 1 || (overlapped && !submitted.isEmpty())) {
+                long saved = totalMillis - (System.currentTimeMillis() - awaitStart);
+                if (saved > 0) {
+                    timeSavedMillis.addAndGet(saved);
+                    MetricsRecorder.recordToolTimeSaved(metricsSink, saved);
+                }
+            }
+            return results;
+        }
+
+        /** Cancels the submitted tool calls that have not completed yet. */
+        public synchronized void cancel() {
+            for (Future<Object> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * @return the total time saved by running tool calls concurrently instead of sequentially
+     */
+    public long getTimeSavedMillis() {
+        return timeSavedMillis.get();
+    }
+
+    private synchronized ThreadPoolExecutor executor() {
+        if (executor != null) {
+            return executor;
+        }
+        if (sequentialExecutor == null) {
+            sequentialExecutor =
+                    new ThreadPoolExecutor(
+                            1,
+                            1,
+                            60,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            Utils.daemonThreadFactory("ollama4j-tool"));
+            sequentialExecutor.allowCoreThreadTimeOut(true);
+        }
+        return sequentialExecutor;
+    }
+
+    private Result await(
+            Invocation invocation,
+            Future<Object> future,
+            AtomicLong[] timing,
+            boolean propagateFailures)
+            throws InterruptedException {
+        AtomicLong startedAt = timing[0];
+        long timeoutMillis = timeout == null ? 0 : timeout.toMillis();
+        while (true) {
+            try {
+                Object value;
+                if (timeout == null) {
+                    value = future.get();
+                } else {
+                    long started = startedAt.get();
+                    long wait =
+                            started == 0
+                                    ? timeoutMillis
+                                    : started + timeoutMillis - System.currentTimeMillis();
+                    value = future.get(Math.max(0, wait), TimeUnit.MILLISECONDS);
+                }
+                return new Result(invocation, value, null, duration(timing));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (propagateFailures && cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (propagateFailures && cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                String error = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+                return new Result(invocation, null, error, duration(timing));
+            } catch (TimeoutException e) {
+                long started = startedAt.get();
+                if (started != 0 && System.currentTimeMillis() - started >= timeoutMillis) {
+                    future.cancel(true);
+                    return new Result(
+                            invocation,
+                            null,
+                            "Tool call timed out after " + timeoutMillis + " ms",
+                            timeoutMillis);
+                }
+                // The call was still queued, wait for it to start.
+            }
+        }
+    }
+
+    private static long duration(AtomicLong[] timing) {
+        return timing[1].get() - timing[0].get();
+    }
+}
@@ -8,45 +8,96 @@
 */
 package io.github.ollama4j.tools;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.github.ollama4j.exceptions.ToolNotFoundException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
+/**
+ * Thread-safe registry of tools indexed by name.
+ *
+ * <p>Lookups by name are hash lookups that never block. Registration is serialized and publishes
+ * a new immutable snapshot of the registered tools, so iterating over {@link
+ * #getRegisteredTools()} is safe while other threads register tools. If several tools share a
+ * name, the first registered one is kept. The JSON of a tool is computed when it is registered
+ * and reused by every request the tool is sent with.
+ */
 public class ToolRegistry {
-    private final List<Tools.Tool> tools = new ArrayList<>();
+    private final Map<String, Tools.Tool> toolsByName = new ConcurrentHashMap<>();
+    private volatile List<Tools.Tool> tools = List.of();
 
     public ToolFunction getToolFunction(String name) throws ToolNotFoundException {
+        Tools.Tool tool = getTool(name);
+        if (tool == null) {
+            throw new ToolNotFoundException(String.format("Tool '%s' not found.", name));
+        }
+        return tool.getToolFunction();
+    }
+
+    /**
+     * @param name the name of the tool
+     * @return the tool registered under the name, or null if there is none
+     */
+    public Tools.Tool getTool(String name) {
+        return name == null ? null : toolsByName.get(name);
+    }
+
+    public void addTool(Tools.Tool tool) {
+        addTools(List.of(tool));
+    }
+
+    public synchronized void addTools(List<Tools.Tool> tools) {
+        List<Tools.Tool> added = new ArrayList<>();
         for (Tools.Tool tool : tools) {
-            if (tool.getToolSpec().getName().equals(name)) {
-                return tool.getToolFunction();
+            if (toolsByName.putIfAbsent(tool.getToolSpec().getName(), tool) == null) {
+                added.add(tool);
+                serialize(tool);
             }
         }
-        throw new ToolNotFoundException(String.format("Tool '%s' not found.", name));
+        if (!added.isEmpty()) {
+            List<Tools.Tool> snapshot = new ArrayList<>(this.tools);
+            snapshot.addAll(added);
+            this.tools = Collections.unmodifiableList(snapshot);
+        }
     }
 
-    public void addTool(Tools.Tool tool) {
+    /** Serializes the tool once, so that requests reuse its JSON. */
+    private static void serialize(Tools.Tool tool) {
         try {
-            getToolFunction(tool.getToolSpec().getName());
-        } catch (ToolNotFoundException e) {
-            try {
-                tools.add(tool);
-            } catch (UnsupportedOperationException ex) {
-                throw new UnsupportedOperationException("Cannot add tool to the registry.", ex);
-            }
+            tool.toJson();
+        } catch (JsonProcessingException e) {
+            // reported when a request with the tool is serialized
         }
     }
 
-    public void addTools(List<Tools.Tool> tools) {
-        for (Tools.Tool tool : tools) {
-            addTool(tool);
+    /**
+     * Removes the tools matching a filter.
+     *
+     * @param filter selects the tools to remove
+     */
+    public synchronized void removeTools(Predicate<Tools.Tool> filter) {
+        List<Tools.Tool> snapshot = new ArrayList<>(this.tools.size());
+        for (Tools.Tool tool : this.tools) {
+            if (filter.test(tool)) {
+                toolsByName.remove(tool.getToolSpec().getName(), tool);
+            } else {
+                snapshot.add(tool);
+            }
         }
+        this.tools = Collections.unmodifiableList(snapshot);
     }
 
+    /**
+     * @return an immutable snapshot of the registered tools in registration order
+     */
     public List<Tools.Tool> getRegisteredTools() {
         return tools;
     }
 
     /** Removes all registered tools from the registry. */
-    public void clear() {
-        tools.clear();
+    public synchronized void clear() {
+        toolsByName.clear();
+        tools = List.of();
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
+import io.github.ollama4j.utils.Utils;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Bounded cache of the results of idempotent tools.
+ *
+ * <p>Results are keyed by the tool name and the arguments serialized as JSON with sorted keys, so
+ * calls whose arguments only differ in key order share an entry. Each entry expires after the TTL
+ * of its tool; the least recently used entries are evicted once {@code maximumSize} is reached.
+ * Concurrent calls with the same key invoke the tool once. Failures are not cached.
+ */
+public class ToolResultCache {
+
+    private static final ObjectMapper CANONICAL_MAPPER =
+            Utils.getObjectMapper()
+                    .copy()
+                    .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    @Getter private final Duration defaultTtl;
+    private final Cache<String, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The sink the lookups are recorded to. Set by the client the cache is used by, default is the
+     * Prometheus default.
+     */
+    @Setter private volatile MetricsSink metricsSink = PrometheusMetricsSink.getDefault();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize the maximum number of cached results
+     * @param defaultTtl how long results of tools without their own TTL are reused
+     */
+    public ToolResultCache(long maximumSize, Duration defaultTtl) {
+        this.defaultTtl = defaultTtl;
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Wraps the function of a tool so that its results are cached if the tool is {@link
+     * Tools.Tool#isCacheable() cacheable}.
+     *
+     * @param tool the tool
+     * @return the caching function, or the function of the tool if it is not cacheable
+     */
+    public ToolFunction wrap(Tools.Tool tool) {
+        ToolFunction function = tool.getToolFunction();
+        if (!tool.isCacheable() || function == null) {
+            return function;
+        }
+        String name = tool.getToolSpec().getName();
+        Duration ttl = tool.getCacheTtl() != null ? tool.getCacheTtl() : defaultTtl;
+        return arguments -> apply(name, ttl, arguments, function);
+    }
+
+    /**
+     * Returns the cached result of a call, invoking the function on a miss.
+     *
+     * @param toolName the name of the tool
+     * @param ttl how long the result is reused
+     * @param arguments the arguments of the call
+     * @param function the function implementing the tool
+     * @return the result of the call
+     */
+    public Object apply(
+            String toolName, Duration ttl, Map<String, Object> arguments, ToolFunction function) {
+        String key;
+        try {
+            key = toolName + '\u0000' + CANONICAL_MAPPER.writeValueAsString(arguments);
+        } catch (JsonProcessingException e) {
+            return function.apply(arguments);
+        }
+        long now = System.currentTimeMillis();
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && now >= cached.expiresAt) {
+            cache.asMap().remove(key, cached);
+        } else if (cached != null) {
+            hits.increment();
+            MetricsRecorder.recordToolCacheLookup(metricsSink, toolName, true);
+            return cached.value;
+        }
+        misses.increment();
+        MetricsRecorder.recordToolCacheLookup(metricsSink, toolName, false);
+        try {
+            return cache.get(
+                            key,
+                            () ->
+                                    new Entry(
+                                            function.apply(arguments),
+                                            System.currentTimeMillis() + ttl.toMillis()))
+                    .value;
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * @return the number of cached results
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of calls served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of calls that invoked the tool
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** Removes all cached results. */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
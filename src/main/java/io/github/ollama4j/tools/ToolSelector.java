@@ -0,0 +1,254 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
+import io.github.ollama4j.models.embed.OllamaEmbedRequest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selects the registered tools that are relevant for a chat request, so that only their specs are
+ * added to the prompt.
+ *
+ * <p>The name, description and parameter descriptions of each tool are embedded once and cached
+ * until the description changes. The embeddings of at most {@value #MAX_CACHED_EMBEDDINGS} tool
+ * descriptions are cached, the least recently used ones are evicted. For each request the latest user message is embedded and the
+ * {@code topK} tools with the highest cosine similarity are selected. If embedding fails, all tools
+ * are selected.
+ *
+ * <p>The prompt tokens saved are estimated from the length of the serialized specs of the excluded
+ * tools, at about 4 characters per token.
+ */
+public class ToolSelector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ToolSelector.class);
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int MAX_CACHED_EMBEDDINGS = 1000;
+
+    /** Computes the embeddings of texts, e.g. with {@link Ollama#embed(OllamaEmbedRequest)}. */
+    @FunctionalInterface
+    public interface Embedder {
+        /**
+         * @param texts the texts to embed
+         * @return one embedding per text, in the order of the texts
+         * @throws OllamaException if the embeddings cannot be computed
+         */
+        List<List<Double>> embed(List<String> texts) throws OllamaException;
+    }
+
+    private final Embedder embedder;
+    @Getter private final int topK;
+    private final Cache<String, double[]> toolEmbeddings =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_EMBEDDINGS).build();
+    private final AtomicLong estimatedTokensSaved = new AtomicLong();
+
+    /**
+     * The sink the selections are recorded to. Set by the client the selector is set on, default
+     * is the Prometheus default.
+     */
+    @Setter private volatile MetricsSink metricsSink = PrometheusMetricsSink.getDefault();
+
+    /**
+     * Creates a selector that embeds with an Ollama embedding model.
+     *
+     * @param ollama the client used for embedding
+     * @param embeddingModel the embedding model, e.g. {@code nomic-embed-text}
+     * @param topK the number of tools to select
+     */
+    public ToolSelector(Ollama ollama, String embeddingModel, int topK) {
+        this(
+                texts ->
+                        ollama.embed(new OllamaEmbedRequest(embeddingModel, texts)).getEmbeddings(),
+                topK);
+    }
+
+    /**
+     * Creates a selector.
+     *
+     * @param embedder computes the embeddings
+     * @param topK the number of tools to select
+     */
+    public ToolSelector(Embedder embedder, int topK) {
+        this.embedder = embedder;
+        this.topK = Math.max(1, topK);
+    }
+
+    /**
+     * Selects the tools most relevant for a query.
+     *
+     * @param tools the candidate tools
+     * @param query the text the tools should be relevant for, usually the latest user message
+     * @return at most {@code topK} tools in their original order, or all tools if there are no
+     *     more than {@code topK} or if the query is empty
+     */
+    public List<Tools.Tool> select(List<Tools.Tool> tools, String query) {
+        if (tools.size() <= topK || query == null || query.isBlank()) {
+            return tools;
+        }
+        double[][] vectors;
+        double[] queryVector;
+        try {
+            vectors = toolVectors(tools);
+            queryVector = normalize(embedder.embed(List.of(query)).get(0));
+        } catch (OllamaException | RuntimeException e) {
+            LOG.warn("Tool selection failed, sending all tools: {}", e.getMessage());
+            return tools;
+        }
+        double[] scores = new double[tools.size()];
+        for (int i = 0; i < tools.size(); i++) {
+            scores[i] = dot(vectors[i], queryVector);
+        }
+        boolean[] selected = new boolean[tools.size()];
+        IntStream.range(0, tools.size())
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                .limit(topK)
+                .forEach(i -> selected[i] = true);
+
+        List<Tools.Tool> result = new ArrayList<>(topK);
+        long tokensSaved = 0;
+        for (int i = 0; i < tools.size(); i++) {
+            if (selected[i]) {
+                result.add(tools.get(i));
+            } else {
+                tokensSaved += estimateTokens(tools.get(i));
+            }
+        }
+        estimatedTokensSaved.addAndGet(tokensSaved);
+        MetricsRecorder.recordToolSelection(
+                metricsSink, result.size(), tools.size() - result.size(), tokensSaved);
+        LOG.debug(
+                "Selected tools {} of {}",
+                result.stream().map(t -> t.getToolSpec().getName()).collect(Collectors.toList()),
+                tools.size());
+        return result;
+    }
+
+    /**
+     * @return the estimated number of prompt tokens saved by all selections so far
+     */
+    public long getEstimatedTokensSaved() {
+        return estimatedTokensSaved.get();
+    }
+
+    /**
+     * @return the number of cached tool embeddings
+     */
+    public int getCachedEmbeddingCount() {
+        return (int) toolEmbeddings.size();
+    }
+
+    /** Drops the cached tool embeddings, e.g. after switching the embedding model. */
+    public void invalidate() {
+        toolEmbeddings.invalidateAll();
+    }
+
+    private double[][] toolVectors(List<Tools.Tool> tools) throws OllamaException {
+        double[][] vectors = new double[tools.size()][];
+        String[] documents = new String[tools.size()];
+        // the embeddings to compute, kept here as the cache may evict them before they are used
+        Map<String, double[]> missing = new LinkedHashMap<>();
+        for (int i = 0; i < tools.size(); i++) {
+            documents[i] = document(tools.get(i));
+            vectors[i] = toolEmbeddings.getIfPresent(documents[i]);
+            if (vectors[i] == null) {
+                missing.put(documents[i], null);
+            }
+        }
+        if (missing.isEmpty()) {
+            return vectors;
+        }
+        List<String> texts = new ArrayList<>(missing.keySet());
+        List<List<Double>> embeddings = embedder.embed(texts);
+        if (embeddings == null || embeddings.size() != texts.size()) {
+            throw new IllegalStateException(
+                    "Expected " + texts.size() + " embeddings for the tools");
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            double[] vector = normalize(embeddings.get(i));
+            missing.put(texts.get(i), vector);
+            toolEmbeddings.put(texts.get(i), vector);
+        }
+        for (int i = 0; i < tools.size(); i++) {
+            if (vectors[i] == null) {
+                vectors[i] = missing.get(documents[i]);
+            }
+        }
+        return vectors;
+    }
+
+    /** The text that is embedded for a tool. */
+    private static String document(Tools.Tool tool) {
+        Tools.ToolSpec spec = tool.getToolSpec();
+        StringBuilder document = new StringBuilder(spec.getName());
+        if (spec.getDescription() != null) {
+            document.append(": ").append(spec.getDescription());
+        }
+        if (spec.getParameters() != null && spec.getParameters().getProperties() != null) {
+            for (Map.Entry<String, Tools.Property> property :
+                    spec.getParameters().getProperties().entrySet()) {
+                document.append("\n- ").append(property.getKey());
+                if (property.getValue() != null && property.getValue().getDescription() != null) {
+                    document.append(": ").append(property.getValue().getDescription());
+                }
+            }
+        }
+        return document.toString();
+    }
+
+    private static long estimateTokens(Tools.Tool tool) {
+        try {
+            return tool.toJson().length() / CHARS_PER_TOKEN;
+        } catch (JsonProcessingException e) {
+            return 0;
+        }
+    }
+
+    private static double[] normalize(List<Double> embedding) {
+        double[] vector = new double[embedding.size()];
+        double norm = 0;
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = embedding.get(i);
+            norm += vector[i] * vector[i];
+        }
+        norm = Math.sqrt(norm);
+        if (norm > 0) {
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] /= norm;
+            }
+        }
+        return vector;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < Math.min(a.length, b.length); i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -11,19 +11,32 @@ package io.github.ollama4j.tools;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.github.ollama4j.utils.Utils;
 import io.modelcontextprotocol.client.transport.ServerParameters;
 import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 public class Tools {
     private Tools() {}
@@ -42,6 +55,62 @@ public class Tools {
         @JsonIgnore @Builder.Default private boolean isMCPTool = false;
         @JsonIgnore private String mcpServerName;
         @JsonIgnore private ServerParameters mcpServerParameters;
+
+        /** Whether results of the tool can be reused for calls with the same arguments. */
+        @JsonIgnore @Builder.Default private boolean cacheable = false;
+
+        /** How long cached results are reused, null for the default of the cache. */
+        @JsonIgnore private Duration cacheTtl;
+
+        @JsonIgnore
+        @Getter(AccessLevel.NONE)
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private final AtomicReference<SerializedTool> serialized = new AtomicReference<>();
+
+        /**
+         * Returns the JSON of the tool as it is sent to the model.
+         *
+         * <p>The JSON is computed once and reused until the spec or the type of the tool is
+         * replaced. Changes made to the spec object itself are not detected, so a registered tool
+         * should be changed by setting a new spec.
+         *
+         * @return the JSON of the tool
+         * @throws JsonProcessingException if the tool cannot be serialized
+         */
+        public String toJson() throws JsonProcessingException {
+            SerializedTool cached = serialized.get();
+            if (cached != null
+                    && cached.toolSpec == toolSpec
+                    && Objects.equals(cached.type, type)) {
+                return cached.json;
+            }
+            cached =
+                    new SerializedTool(
+                            toolSpec, type, Utils.getObjectMapper().writeValueAsString(this));
+            serialized.set(cached);
+            return cached.json;
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class SerializedTool {
+        private final ToolSpec toolSpec;
+        private final String type;
+        private final String json;
+    }
+
+    /**
+     * Writes the cached JSON of tools instead of serializing their specs for every request.
+     *
+     * @see Tool#toJson()
+     */
+    public static class PreSerializedToolSerializer extends JsonSerializer<Tool> {
+        @Override
+        public void serialize(Tool tool, JsonGenerator generator, SerializerProvider serializers)
+                throws IOException {
+            generator.writeRawValue(tool.toJson());
+        }
     }
 
     @Data
@@ -41,4 +41,20 @@ public @interface ToolSpec {
      * @return the tool description
      */
     String desc();
+
+    /**
+     * Marks the tool as idempotent, so that its results can be reused for calls with the same
+     * arguments until {@link #cacheTtlSeconds()} elapses.
+     *
+     * @return true if the results of the tool can be cached
+     */
+    boolean cacheable() default false;
+
+    /**
+     * Specifies how long a cached result of a {@link #cacheable()} tool is reused. A negative value,
+     * the default, uses the time to live of the tool result cache.
+     *
+     * @return the time to live of cached results in seconds, or -1 for the cache default
+     */
+    long cacheTtlSeconds() default -1;
 }
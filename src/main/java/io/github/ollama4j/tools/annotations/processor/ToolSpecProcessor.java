@@ -0,0 +1,416 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools.annotations.processor;
+
+import io.github.ollama4j.tools.annotations.ToolProperty;
+import io.github.ollama4j.tools.annotations.ToolSpec;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@link io.github.ollama4j.tools.GeneratedToolProvider} for every class with {@link
+ * ToolSpec} methods, so that {@link io.github.ollama4j.Ollama#registerAnnotatedTools(Object)}
+ * neither scans the class nor invokes the tools reflectively.
+ *
+ * <p>For a class {@code com.acme.Outer.Tools} the provider {@code com.acme.Outer_Tools_OllamaTools}
+ * is generated. It builds the same tool specifications as the reflective registration and calls
+ * the public {@link ToolSpec} methods of the class, including inherited ones, directly. The
+ * providers are listed in {@code META-INF/services/io.github.ollama4j.tools.GeneratedToolProvider}.
+ *
+ * <p>The processor is registered in {@code META-INF/services/javax.annotation.processing.Processor}
+ * and runs whenever ollama4j is on the annotation processor path. Classes it cannot generate a
+ * provider for (private or local classes, generic classes) keep using reflection.
+ */
+@SupportedAnnotationTypes("io.github.ollama4j.tools.annotations.ToolSpec")
+public class ToolSpecProcessor extends AbstractProcessor {
+
+    static final String PROVIDER_SUFFIX = "_OllamaTools";
+
+    private static final String SERVICE_FILE =
+            "META-INF/services/io.github.ollama4j.tools.GeneratedToolProvider";
+
+    private final Set<String> processedTypes = new HashSet<>();
+    private final Set<String> providers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(ToolSpec.class)) {
+            if (element.getKind() == ElementKind.METHOD
+                    && element.getEnclosingElement() instanceof TypeElement) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement type : types) {
+            if (processedTypes.add(type.getQualifiedName().toString()) && isSupported(type)) {
+                generate(type);
+            }
+        }
+        return false;
+    }
+
+    private boolean isSupported(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || !type.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            TypeElement t = (TypeElement) e;
+            if (t.getModifiers().contains(Modifier.PRIVATE)
+                    || t.getNestingKind() == NestingKind.LOCAL
+                    || t.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method :
+                ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getAnnotation(ToolSpec.class) == null
+                    || !method.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            if (!isAccessible((TypeElement) method.getEnclosingElement(), pkg)) {
+                return;
+            }
+            methods.add(method);
+        }
+        String typeName = type.getQualifiedName().toString();
+        String providerName =
+                flatName(type, packageName).replace('$', '_').replace('.', '_') + PROVIDER_SUFFIX;
+        String qualifiedProviderName =
+                packageName.isEmpty() ? providerName : packageName + "." + providerName;
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("@javax.annotation.processing.Generated(\"")
+                .append(ToolSpecProcessor.class.getName())
+                .append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ")
+                .append(providerName)
+                .append(" implements io.github.ollama4j.tools.GeneratedToolProvider {\n\n");
+        for (int i = 0; i < methods.size(); i++) {
+            appendConverters(src, i, methods.get(i));
+        }
+        src.append("    @Override\n")
+                .append("    public Class<?> getProviderClass() {\n")
+                .append("        return ")
+                .append(typeName)
+                .append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Object newInstance() {\n")
+                .append("        return ")
+                .append(hasPublicNoArgConstructor(type) ? "new " + typeName + "()" : "null")
+                .append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append(
+                        "    public java.util.List<io.github.ollama4j.tools.Tools.Tool>"
+                                + " getTools(Object instance) {\n")
+                .append("        final ")
+                .append(typeName)
+                .append(" target = (")
+                .append(typeName)
+                .append(") instance;\n")
+                .append("        java.util.List<io.github.ollama4j.tools.Tools.Tool> tools =")
+                .append(" new java.util.ArrayList<>(")
+                .append(methods.size())
+                .append(");\n");
+        for (int i = 0; i < methods.size(); i++) {
+            appendTool(src, i, methods.get(i), typeName);
+        }
+        src.append("        return tools;\n").append("    }\n").append("}\n");
+
+        try (Writer writer =
+                processingEnv
+                        .getFiler()
+                        .createSourceFile(qualifiedProviderName, type)
+                        .openWriter()) {
+            writer.write(src.toString());
+            providers.add(qualifiedProviderName);
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "Failed to generate " + qualifiedProviderName + ": " + e.getMessage(),
+                            type);
+        }
+    }
+
+    private void appendConverters(StringBuilder src, int index, ExecutableElement method) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        src.append("    private static final java.util.function.Function<Object, Object>[] ")
+                .append("CONVERTERS_")
+                .append(index)
+                .append(" = new java.util.function.Function[] {");
+        for (int p = 0; p < parameters.size(); p++) {
+            src.append(p == 0 ? "\n" : ",\n")
+                    .append("        io.github.ollama4j.tools.ToolArgumentConverters.forType(")
+                    .append(typeToken(parameters.get(p).asType()))
+                    .append(")");
+        }
+        src.append("\n    };\n\n");
+    }
+
+    private void appendTool(
+            StringBuilder src, int index, ExecutableElement method, String typeName) {
+        ToolSpec toolSpec = method.getAnnotation(ToolSpec.class);
+        String methodName = method.getSimpleName().toString();
+        String operationName = !toolSpec.name().isBlank() ? toolSpec.name() : methodName;
+        String operationDesc = !toolSpec.desc().isBlank() ? toolSpec.desc() : operationName;
+        String properties = "properties" + index;
+
+        src.append("        java.util.Map<String, io.github.ollama4j.tools.Tools.Property> ")
+                .append(properties)
+                .append(" = new java.util.HashMap<>();\n");
+        List<String> arguments = new ArrayList<>();
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int p = 0; p < parameters.size(); p++) {
+            VariableElement parameter = parameters.get(p);
+            ToolProperty toolProperty = parameter.getAnnotation(ToolProperty.class);
+            String value = "null";
+            if (toolProperty != null) {
+                String propName =
+                        !toolProperty.name().isBlank()
+                                ? toolProperty.name()
+                                : parameter.getSimpleName().toString();
+                src.append("        ")
+                        .append(properties)
+                        .append(".put(")
+                        .append(literal(propName))
+                        .append(", io.github.ollama4j.tools.Tools.Property.builder().type(")
+                        .append(literal(reflectiveTypeName(parameter.asType())))
+                        .append(").description(")
+                        .append(literal(toolProperty.desc()))
+                        .append(").required(")
+                        .append(toolProperty.required())
+                        .append(").build());\n");
+                value =
+                        "io.github.ollama4j.tools.GeneratedToolProvider.argument(arguments, "
+                                + literal(propName)
+                                + ")";
+            }
+            arguments.add(
+                    "("
+                            + castType(parameter.asType())
+                            + ") CONVERTERS_"
+                            + index
+                            + "["
+                            + p
+                            + "].apply("
+                            + value
+                            + ")");
+        }
+        String receiver = method.getModifiers().contains(Modifier.STATIC) ? typeName : "target";
+        String call = receiver + "." + methodName + "(" + String.join(", ", arguments) + ")";
+        boolean returnsVoid = method.getReturnType().getKind() == TypeKind.VOID;
+
+        src.append("        tools.add(io.github.ollama4j.tools.Tools.Tool.builder()\n")
+                .append(
+                        "               "
+                                + " .toolSpec(io.github.ollama4j.tools.Tools.ToolSpec.builder()")
+                .append(".name(")
+                .append(literal(operationName))
+                .append(").description(")
+                .append(literal(operationDesc))
+                .append(")\n                        .parameters(")
+                .append("io.github.ollama4j.tools.Tools.Parameters.of(")
+                .append(properties)
+                .append(")).build())\n")
+                .append("                .cacheable(")
+                .append(toolSpec.cacheable())
+                .append(")\n")
+                .append("                .cacheTtl(")
+                .append(
+                        toolSpec.cacheTtlSeconds() < 0
+                                ? "null"
+                                : "java.time.Duration.ofSeconds("
+                                        + toolSpec.cacheTtlSeconds()
+                                        + "L)")
+                .append(")\n")
+                .append("                .toolFunction(arguments -> {\n")
+                .append("                    try {\n")
+                .append("                        ")
+                .append(
+                        returnsVoid
+                                ? call + ";\n                        return null;"
+                                : "return " + call + ";")
+                .append("\n                    } catch (Exception e) {\n")
+                .append("                        throw new RuntimeException(")
+                .append(literal("Failed to invoke tool: " + methodName))
+                .append(", e);\n")
+                .append("                    }\n")
+                .append("                })\n")
+                .append("                .build());\n");
+    }
+
+    /** A source expression for the {@link java.lang.reflect.Type} of a parameter. */
+    private String typeToken(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (type.getKind() == TypeKind.DECLARED
+                && !((DeclaredType) type).getTypeArguments().isEmpty()
+                && !containsTypeVariable(type)) {
+            return "new com.fasterxml.jackson.core.type.TypeReference<" + type + ">() {}.getType()";
+        }
+        return erasure + ".class";
+    }
+
+    /** The type a converted argument is cast to, boxed for primitives. */
+    private String castType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv
+                    .getTypeUtils()
+                    .boxedClass((javax.lang.model.type.PrimitiveType) type)
+                    .getQualifiedName()
+                    .toString();
+        }
+        return containsTypeVariable(type)
+                ? processingEnv.getTypeUtils().erasure(type).toString()
+                : type.toString();
+    }
+
+    private boolean containsTypeVariable(TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+                return true;
+            case ARRAY:
+                return containsTypeVariable(((ArrayType) type).getComponentType());
+            case DECLARED:
+                for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    if (containsTypeVariable(argument)) {
+                        return true;
+                    }
+                }
+                return false;
+            case WILDCARD:
+                javax.lang.model.type.WildcardType wildcard =
+                        (javax.lang.model.type.WildcardType) type;
+                return (wildcard.getExtendsBound() != null
+                                && containsTypeVariable(wildcard.getExtendsBound()))
+                        || (wildcard.getSuperBound() != null
+                                && containsTypeVariable(wildcard.getSuperBound()));
+            default:
+                return false;
+        }
+    }
+
+    /** The name {@link Class#getTypeName()} returns for the erased type. */
+    private String reflectiveTypeName(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return reflectiveTypeName(((ArrayType) erasure).getComponentType()) + "[]";
+        }
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return processingEnv
+                    .getElementUtils()
+                    .getBinaryName((TypeElement) ((DeclaredType) erasure).asElement())
+                    .toString();
+        }
+        return erasure.toString();
+    }
+
+    private String flatName(TypeElement type, String packageName) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        return packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+    }
+
+    private boolean isAccessible(TypeElement declaringType, PackageElement pkg) {
+        return declaringType.getModifiers().contains(Modifier.PUBLIC)
+                || processingEnv.getElementUtils().getPackageOf(declaringType).equals(pkg);
+    }
+
+    private static boolean hasPublicNoArgConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getModifiers().contains(Modifier.PUBLIC)
+                || (type.getNestingKind() == NestingKind.MEMBER
+                        && !type.getModifiers().contains(Modifier.STATIC))) {
+            return false;
+        }
+        for (ExecutableElement constructor :
+                ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()
+                    && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private void writeServiceFile() {
+        if (providers.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file =
+                    processingEnv
+                            .getFiler()
+                            .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String provider : providers) {
+                    writer.write(provider);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools.mcp;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.client.transport.StdioClientTransport;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/** Starts MCP client sessions for {@link McpSessionPool}. */
+@FunctionalInterface
+public interface McpClientFactory {
+
+    /**
+     * Starts a session with an MCP server and initializes it.
+     *
+     * @param serverName the configured name of the server
+     * @param parameters how to start the server
+     * @param requestTimeout the timeout of requests sent in the session
+     * @param toolsChangeConsumer receives the new tool listing when the server notifies that its
+     *     tools changed
+     * @return the initialized client
+     */
+    McpSyncClient create(
+            String serverName,
+            ServerParameters parameters,
+            Duration requestTimeout,
+            Consumer<List<McpSchema.Tool>> toolsChangeConsumer);
+
+    /**
+     * @return a factory that spawns the server as a process and talks to it over stdio
+     */
+    static McpClientFactory stdio() {
+        return (serverName, parameters, requestTimeout, toolsChangeConsumer) -> {
+            McpClient.SyncSpec spec =
+                    McpClient.sync(new StdioClientTransport(parameters, McpJsonMapper.getDefault()))
+                            .requestTimeout(requestTimeout);
+            if (toolsChangeConsumer != null) {
+                spec.toolsChangeConsumer(toolsChangeConsumer);
+            }
+            McpSyncClient client = spec.build();
+            try {
+                client.initialize();
+                return client;
+            } catch (RuntimeException e) {
+                client.close();
+                throw e;
+            }
+        };
+    }
+}
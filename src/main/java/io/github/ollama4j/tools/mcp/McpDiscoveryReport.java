@@ -0,0 +1,45 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools.mcp;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+
+/**
+ * Outcome of a call to {@link io.github.ollama4j.Ollama#loadMCPToolsFromJson(String,
+ * java.time.Duration)}.
+ */
+@Data
+public class McpDiscoveryReport {
+
+    /** Servers whose tools were registered, mapped to the number of tools. */
+    private final Map<String, Integer> loaded = new LinkedHashMap<>();
+
+    /** Servers that could not be started or listed, mapped to the error message. */
+    private final Map<String, String> failed = new LinkedHashMap<>();
+
+    /**
+     * Servers that did not answer before the deadline. Their discovery continues in the background
+     * and their tools are registered as soon as they are listed.
+     */
+    private final List<String> pending = new ArrayList<>();
+
+    /** Time spent waiting for the servers in milliseconds. */
+    private long durationMillis;
+
+    /**
+     * @return whether the tools of every configured server were registered
+     */
+    public boolean isComplete() {
+        return failed.isEmpty() && pending.isEmpty();
+    }
+}
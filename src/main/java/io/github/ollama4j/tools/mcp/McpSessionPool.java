@@ -0,0 +1,468 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tools.mcp;
+
+import io.github.ollama4j.utils.Utils;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpTransportException;
+import io.modelcontextprotocol.spec.McpTransportSessionClosedException;
+import io.modelcontextprotocol.spec.McpTransportSessionNotFoundException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of long-lived MCP client sessions, per configured server.
+ *
+ * <p>Instead of spawning and initializing the server for every tool call, sessions are reused
+ * across calls. Per server, at most {@code maxSessionsPerServer} calls run concurrently, each on
+ * its own session; further calls wait for a session to become available. A session that has been
+ * idle for longer than {@code healthCheckInterval} is pinged before it is reused, and a session
+ * whose call fails with a transport error or times out is discarded, so crashed servers are
+ * restarted transparently. A failed call is retried once on a fresh session only if it cannot have
+ * reached the server, or if it is idempotent, such as listing the tools; a tool call that timed out
+ * is never run twice. Errors reported by the server itself, such as an {@code McpError} for an
+ * invalid tool call, are thrown unchanged. Sessions idle for longer than {@code idleTimeout} are
+ * shut down in the background.
+ *
+ * <p>The tool listing of each server is cached and replaced when the server sends a {@code
+ * notifications/tools/list_changed} notification.
+ */
+public class McpSessionPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(McpSessionPool.class);
+
+    private final McpClientFactory clientFactory;
+    private final Map<String, Server> servers = new ConcurrentHashMap<>();
+    private final AtomicLong startedSessions = new AtomicLong();
+    private ScheduledExecutorService reaper;
+
+    /** Maximum number of concurrent calls, and thus sessions, per server. Default is 4. */
+    @Setter @Getter private int maxSessionsPerServer = 4;
+
+    /** Timeout of the requests sent to the servers. Default is 30 seconds. */
+    @Setter @Getter private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /** Idle sessions are shut down after this duration. Default is 5 minutes. */
+    @Setter @Getter private Duration idleTimeout = Duration.ofMinutes(5);
+
+    /** Sessions idle for longer than this are pinged before being reused. Default is 30s. */
+    @Setter @Getter private Duration healthCheckInterval = Duration.ofSeconds(30);
+
+    /** Creates a pool that starts the servers as stdio processes. */
+    public McpSessionPool() {
+        this(McpClientFactory.stdio());
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param clientFactory starts the sessions
+     */
+    public McpSessionPool(McpClientFactory clientFactory) {
+        this.clientFactory = clientFactory;
+    }
+
+    /**
+     * Registers a server. Re-registering a server with other parameters closes its sessions.
+     *
+     * @param serverName the name of the server
+     * @param parameters how to start the server
+     */
+    public void register(String serverName, ServerParameters parameters) {
+        register(serverName, parameters, null);
+    }
+
+    /**
+     * Registers a server. Re-registering a server with other parameters closes its sessions, those
+     * in use as soon as their call completes.
+     *
+     * @param serverName the name of the server
+     * @param parameters how to start the server
+     * @param toolsChangeListener receives the new tool listing when the server notifies that its
+     *     tools changed, may be null
+     */
+    public void register(
+            String serverName,
+            ServerParameters parameters,
+            Consumer<List<McpSchema.Tool>> toolsChangeListener) {
+        Server previous =
+                servers.put(serverName, new Server(serverName, parameters, toolsChangeListener));
+        if (previous != null) {
+            previous.retire();
+        }
+    }
+
+    /**
+     * Lists the tools of a server. The listing is cached until the server notifies that its tools
+     * changed.
+     *
+     * @param serverName the name of the server
+     * @return the tools of the server
+     * @throws IllegalArgumentException if the server is not registered
+     */
+    public List<McpSchema.Tool> listTools(String serverName) {
+        Server server = getServer(serverName);
+        List<McpSchema.Tool> tools = server.tools;
+        if (tools == null) {
+            tools = List.copyOf(execute(serverName, McpSyncClient::listTools, true).tools());
+            server.tools = tools;
+        }
+        return tools;
+    }
+
+    /**
+     * Calls a tool on a server using a pooled session.
+     *
+     * @param serverName the name of the server
+     * @param request the tool call
+     * @return the result of the call
+     * @throws IllegalArgumentException if the server is not registered
+     */
+    public CallToolResult callTool(String serverName, CallToolRequest request) {
+        return execute(serverName, client -> client.callTool(request));
+    }
+
+    /**
+     * Runs an operation with a pooled session of a server, which is not idempotent. See {@link
+     * #execute(String, Function, boolean)}.
+     *
+     * @param serverName the name of the server
+     * @param operation the operation to run
+     * @param <T> the result type
+     * @return the result of the operation
+     * @throws IllegalArgumentException if the server is not registered
+     */
+    public <T> T execute(String serverName, Function<McpSyncClient, T> operation) {
+        return execute(serverName, operation, false);
+    }
+
+    /**
+     * Runs an operation with a pooled session of a server. If the operation fails with a transport
+     * error or times out, the session is discarded. The operation is then retried once on a fresh
+     * session if the session was already closed before the request was sent, or, except after a
+     * timeout, if the operation is idempotent. Other errors are thrown unchanged and the session is
+     * reused.
+     *
+     * @param serverName the name of the server
+     * @param operation the operation to run
+     * @param idempotent whether the operation may run twice, such as {@code listTools} or {@code
+     *     ping}
+     * @param <T> the result type
+     * @return the result of the operation
+     * @throws IllegalArgumentException if the server is not registered
+     */
+    public <T> T execute(
+            String serverName, Function<McpSyncClient, T> operation, boolean idempotent) {
+        Server server = getServer(serverName);
+        ensureReaperStarted();
+        server.acquire();
+        try {
+            Session session = server.borrow();
+            try {
+                T result = operation.apply(session.client);
+                server.release(session);
+                return result;
+            } catch (RuntimeException e) {
+                if (!isTransportFailure(e)) {
+                    server.release(session);
+                    throw e;
+                }
+                session.close();
+                if (!isRetryable(e, idempotent)) {
+                    LOG.warn(
+                            "MCP server '{}' failed, discarding the session: {}",
+                            serverName,
+                            e.getMessage());
+                    throw e;
+                }
+                LOG.warn(
+                        "MCP server '{}' failed, restarting the session: {}",
+                        serverName,
+                        e.getMessage());
+            }
+            Session fresh = server.start();
+            try {
+                T result = operation.apply(fresh.client);
+                server.release(fresh);
+                return result;
+            } catch (RuntimeException e) {
+                if (isTransportFailure(e)) {
+                    fresh.close();
+                } else {
+                    server.release(fresh);
+                }
+                throw e;
+            }
+        } finally {
+            server.permits.release();
+        }
+    }
+
+    /**
+     * @param serverName the name of the server
+     * @return the number of idle sessions of the server
+     */
+    public int getIdleSessionCount(String serverName) {
+        Server server = servers.get(serverName);
+        return server == null ? 0 : server.idleCount();
+    }
+
+    /**
+     * @return the total number of sessions started by this pool, including restarts
+     */
+    public long getStartedSessionCount() {
+        return startedSessions.get();
+    }
+
+    /** Shuts down the sessions that have been idle for longer than the idle timeout. */
+    public void closeIdleSessions() {
+        for (Server server : servers.values()) {
+            server.closeIdle(idleTimeout.toMillis());
+        }
+    }
+
+    /** Shuts down all idle sessions and stops the background idle shutdown. */
+    @Override
+    public synchronized void close() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+            reaper = null;
+        }
+        for (Server server : servers.values()) {
+            server.closeIdle(0);
+        }
+    }
+
+    /**
+     * Whether a failure means that the connection to the server is broken or the server did not
+     * respond in time, as opposed to an error the server reported in its response.
+     */
+    private static boolean isTransportFailure(Throwable e) {
+        return hasCause(
+                e,
+                McpTransportException.class,
+                McpTransportSessionClosedException.class,
+                McpTransportSessionNotFoundException.class,
+                IOException.class,
+                TimeoutException.class);
+    }
+
+    /**
+     * Whether an operation that failed with a transport failure may be retried. A timed out
+     * request may still be running on the server, and a request that failed otherwise may have
+     * reached it, unless the session was already closed.
+     */
+    private static boolean isRetryable(Throwable e, boolean idempotent) {
+        if (hasCause(e, TimeoutException.class)) {
+            return false;
+        }
+        return idempotent
+                || hasCause(
+                        e,
+                        McpTransportSessionClosedException.class,
+                        McpTransportSessionNotFoundException.class);
+    }
+
+    @SafeVarargs
+    private static boolean hasCause(Throwable e, Class<? extends Throwable>... types) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Throwable> type : types) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Server getServer(String serverName) {
+        Server server = servers.get(serverName);
+        if (server == null) {
+            throw new IllegalArgumentException("Unknown MCP server: " + serverName);
+        }
+        return server;
+    }
+
+    private synchronized void ensureReaperStarted() {
+        if (reaper != null) {
+            return;
+        }
+        long period = Math.max(1000, idleTimeout.toMillis() / 2);
+        reaper =
+                Executors.newSingleThreadScheduledExecutor(
+                        Utils.daemonThreadFactory("ollama4j-mcp-reaper"));
+        reaper.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        closeIdleSessions();
+                    } catch (RuntimeException e) {
+                        LOG.debug("Failed to close idle MCP sessions: {}", e.getMessage());
+                    }
+                },
+                period,
+                period,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /** The sessions of one server. */
+    private final class Server {
+        private final String name;
+        private final ServerParameters parameters;
+        private final Consumer<List<McpSchema.Tool>> toolsChangeListener;
+        private final Semaphore permits = new Semaphore(Math.max(1, maxSessionsPerServer), true);
+        private final Deque<Session> idle = new ArrayDeque<>();
+        private volatile List<McpSchema.Tool> tools;
+        // set once the server has been re-registered, its sessions are closed instead of reused
+        private boolean retired;
+
+        private Server(
+                String name,
+                ServerParameters parameters,
+                Consumer<List<McpSchema.Tool>> toolsChangeListener) {
+            this.name = name;
+            this.parameters = parameters;
+            this.toolsChangeListener = toolsChangeListener;
+        }
+
+        private synchronized void onToolsChanged(List<McpSchema.Tool> changed) {
+            List<McpSchema.Tool> previous = tools;
+            tools = List.copyOf(changed);
+            // every session of the server receives the notification, only report actual changes
+            if (toolsChangeListener != null && !tools.equals(previous)) {
+                LOG.debug("Tools of MCP server '{}' changed", name);
+                toolsChangeListener.accept(tools);
+            }
+        }
+
+        private void acquire() {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for MCP server " + name, e);
+            }
+        }
+
+        private Session borrow() {
+            Session session;
+            while ((session = pollIdle()) != null) {
+                long idleMillis = System.currentTimeMillis() - session.lastUsed;
+                if (idleMillis < healthCheckInterval.toMillis() || session.isHealthy()) {
+                    return session;
+                }
+                LOG.debug("Discarding unhealthy session of MCP server '{}'", name);
+                session.close();
+            }
+            return start();
+        }
+
+        private Session start() {
+            McpSyncClient client =
+                    clientFactory.create(name, parameters, requestTimeout, this::onToolsChanged);
+            startedSessions.incrementAndGet();
+            return new Session(client);
+        }
+
+        private synchronized Session pollIdle() {
+            return idle.pollFirst();
+        }
+
+        private synchronized int idleCount() {
+            return idle.size();
+        }
+
+        private void release(Session session) {
+            session.lastUsed = System.currentTimeMillis();
+            synchronized (this) {
+                if (!retired) {
+                    idle.addFirst(session);
+                    return;
+                }
+            }
+            LOG.debug("Shutting down session of re-registered MCP server '{}'", name);
+            session.close();
+        }
+
+        private void retire() {
+            synchronized (this) {
+                retired = true;
+            }
+            closeIdle(0);
+        }
+
+        private void closeIdle(long minIdleMillis) {
+            List<Session> expired = new ArrayList<>();
+            long now = System.currentTimeMillis();
+            synchronized (this) {
+                Iterator<Session> it = idle.iterator();
+                while (it.hasNext()) {
+                    Session session = it.next();
+                    if (now - session.lastUsed >= minIdleMillis) {
+                        it.remove();
+                        expired.add(session);
+                    }
+                }
+            }
+            for (Session session : expired) {
+                LOG.debug("Shutting down idle session of MCP server '{}'", name);
+                session.close();
+            }
+        }
+    }
+
+    /** A long-lived client session. */
+    private static final class Session {
+        private final McpSyncClient client;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private Session(McpSyncClient client) {
+            this.client = client;
+        }
+
+        private boolean isHealthy() {
+            try {
+                client.ping();
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        private void close() {
+            try {
+                client.close();
+            } catch (RuntimeException e) {
+                LOG.debug("Failed to close MCP session: {}", e.getMessage());
+            }
+        }
+    }
+}
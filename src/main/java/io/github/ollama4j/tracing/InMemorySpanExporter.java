@@ -0,0 +1,45 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/** A {@link SpanExporter} keeping the spans in memory, e.g. to inspect them in tests. */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final ConcurrentLinkedQueue<Span> spans = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void export(Span span) {
+        spans.add(span);
+    }
+
+    /**
+     * @return the exported spans, in the order they ended
+     */
+    public List<Span> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * @param name the name of the spans
+     * @return the exported spans with the given name, in the order they ended
+     */
+    public List<Span> getSpans(String name) {
+        return spans.stream().filter(s -> s.getName().equals(name)).collect(Collectors.toList());
+    }
+
+    /** Discards the exported spans. */
+    public void clear() {
+        spans.clear();
+    }
+}
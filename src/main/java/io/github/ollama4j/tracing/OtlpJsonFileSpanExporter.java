@@ -0,0 +1,121 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.ollama4j.utils.Utils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * A {@link SpanExporter} appending each span to a file as a line of OTLP JSON, i.e. an {@code
+ * ExportTraceServiceRequest} as written by the OpenTelemetry file exporter. The file can be
+ * replayed to an OpenTelemetry collector, e.g. with its {@code otlpjsonfile} receiver.
+ */
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+
+    private static final String SCOPE = "io.github.ollama4j";
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int STATUS_CODE_OK = 1;
+    private static final int STATUS_CODE_ERROR = 2;
+
+    private final Path file;
+    private final String serviceName;
+    private final ObjectMapper mapper = Utils.getObjectMapper();
+
+    /**
+     * Creates an exporter with the service name {@code ollama4j}.
+     *
+     * @param file the file the spans are appended to, created if it does not exist
+     */
+    public OtlpJsonFileSpanExporter(Path file) {
+        this(file, "ollama4j");
+    }
+
+    /**
+     * Creates an exporter.
+     *
+     * @param file the file the spans are appended to, created if it does not exist
+     * @param serviceName the {@code service.name} of the exported resource
+     */
+    public OtlpJsonFileSpanExporter(Path file, String serviceName) {
+        this.file = file;
+        this.serviceName = serviceName;
+    }
+
+    @Override
+    public void export(Span span) {
+        try {
+            byte[] line =
+                    (mapper.writeValueAsString(toOtlp(span)) + "\n")
+                            .getBytes(StandardCharsets.UTF_8);
+            synchronized (this) {
+                Files.write(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ObjectNode toOtlp(Span span) {
+        ObjectNode request = mapper.createObjectNode();
+        ObjectNode resourceSpans = request.putArray("resourceSpans").addObject();
+        attribute(
+                resourceSpans.putObject("resource").putArray("attributes"),
+                "service.name",
+                serviceName);
+        ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", SCOPE);
+        ObjectNode otlpSpan = scopeSpans.putArray("spans").addObject();
+        otlpSpan.put("traceId", span.getTraceId());
+        otlpSpan.put("spanId", span.getSpanId());
+        if (span.getParentSpanId() != null) {
+            otlpSpan.put("parentSpanId", span.getParentSpanId());
+        }
+        otlpSpan.put("name", span.getName());
+        otlpSpan.put("kind", SPAN_KIND_INTERNAL);
+        otlpSpan.put("startTimeUnixNano", String.valueOf(span.getStartEpochNanos()));
+        otlpSpan.put("endTimeUnixNano", String.valueOf(span.getEndEpochNanos()));
+        ArrayNode attributes = otlpSpan.putArray("attributes");
+        for (Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+            attribute(attributes, attribute.getKey(), attribute.getValue());
+        }
+        ObjectNode status = otlpSpan.putObject("status");
+        if (span.getStatus() == Span.Status.ERROR) {
+            status.put("code", STATUS_CODE_ERROR);
+            status.put("message", span.getStatusMessage());
+        } else {
+            status.put("code", STATUS_CODE_OK);
+        }
+        return request;
+    }
+
+    /** Adds an attribute as an OTLP {@code KeyValue}, with 64-bit integers as strings. */
+    private static void attribute(ArrayNode attributes, String key, Object value) {
+        ObjectNode attribute = attributes.addObject();
+        attribute.put("key", key);
+        ObjectNode anyValue = attribute.putObject("value");
+        if (value instanceof Boolean) {
+            anyValue.put("boolValue", (Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long) {
+            anyValue.put("intValue", value.toString());
+        } else if (value instanceof Number) {
+            anyValue.put("doubleValue", ((Number) value).doubleValue());
+        } else {
+            anyValue.put("stringValue", value.toString());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tracing;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * A timed operation, e.g. an HTTP call or a tool invocation, with attributes such as the model and
+ * the token counts. Spans started while another span is current on the same thread become its
+ * children. A span is exported when it ends; ending it again has no effect.
+ *
+ * <pre>{@code
+ * try (Span span = tracer.startSpan("lookup")) {
+ *     span.setAttribute("key", key);
+ *     ...
+ * }
+ * }</pre>
+ */
+@Getter
+public class Span implements AutoCloseable {
+
+    /** The status of a span. */
+    public enum Status {
+        UNSET,
+        OK,
+        ERROR
+    }
+
+    /** A span that records nothing, returned when tracing is disabled. */
+    static final Span NOOP = new Span(null, "", null, null, null, null);
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final long startEpochNanos;
+    private volatile long endEpochNanos;
+    private volatile Status status = Status.UNSET;
+    private volatile String statusMessage;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Tracer tracer;
+
+    @Getter(AccessLevel.NONE)
+    private final long startNanos;
+
+    @Getter(AccessLevel.NONE)
+    final Span previous;
+
+    Span(
+            Tracer tracer,
+            String name,
+            String traceId,
+            String spanId,
+            String parentSpanId,
+            Span previous) {
+        this.tracer = tracer;
+        this.name = name;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.previous = previous;
+        Instant now = Instant.now();
+        this.startEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Sets an attribute. Null values are ignored.
+     *
+     * @param key the name of the attribute
+     * @param value a string, number or boolean
+     * @return this span
+     */
+    public Span setAttribute(String key, Object value) {
+        if (tracer != null && value != null) {
+            synchronized (attributes) {
+                attributes.put(key, value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return a copy of the attributes, in the order they were first set
+     */
+    public Map<String, Object> getAttributes() {
+        synchronized (attributes) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        }
+    }
+
+    /**
+     * Marks the span as failed.
+     *
+     * @param error the cause of the failure
+     */
+    public void recordError(Throwable error) {
+        if (tracer != null) {
+            status = Status.ERROR;
+            statusMessage = error.getMessage() != null ? error.getMessage() : error.toString();
+        }
+    }
+
+    /**
+     * @return the duration in nanoseconds, 0 if the span has not ended
+     */
+    public long getDurationNanos() {
+        return endEpochNanos == 0 ? 0 : endEpochNanos - startEpochNanos;
+    }
+
+    /** Ends the span and exports it. Spans that were not marked as failed end as {@code OK}. */
+    public void end() {
+        if (tracer == null) {
+            return;
+        }
+        synchronized (this) {
+            if (endEpochNanos != 0) {
+                return;
+            }
+            endEpochNanos = startEpochNanos + Math.max(1, System.nanoTime() - startNanos);
+            if (status == Status.UNSET) {
+                status = Status.OK;
+            }
+        }
+        tracer.end(this);
+    }
+
+    @Override
+    public void close() {
+        end();
+    }
+
+    boolean hasEnded() {
+        return endEpochNanos != 0;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + traceId + "/" + spanId;
+    }
+}
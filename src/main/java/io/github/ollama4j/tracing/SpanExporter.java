@@ -0,0 +1,20 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tracing;
+
+/** Receives the spans of a {@link Tracer} when they end. Implementations must be thread-safe. */
+public interface SpanExporter {
+
+    /**
+     * Exports an ended span.
+     *
+     * @param span the span
+     */
+    void export(Span span);
+}
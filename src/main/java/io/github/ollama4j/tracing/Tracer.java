@@ -0,0 +1,127 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link Span spans} and hands them to a {@link SpanExporter} when they end. The span
+ * current on a thread is the parent of the spans started on it; spans started on other threads,
+ * e.g. tool calls running on a pool, are given their parent explicitly.
+ *
+ * <p>A span stops being current as soon as it ends, also when it is ended on another thread or
+ * before the spans started after it: the current span of a thread is the most recently started
+ * span of the thread that has not ended.
+ */
+public class Tracer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Tracer.class);
+
+    /** A tracer that records nothing. Starting a span with it has no cost. */
+    public static final Tracer NOOP = new Tracer(null);
+
+    private final SpanExporter exporter;
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+
+    /**
+     * Creates a tracer.
+     *
+     * @param exporter the exporter of the ended spans
+     */
+    public Tracer(SpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * @return false if spans are not recorded
+     */
+    public boolean isEnabled() {
+        return exporter != null;
+    }
+
+    /**
+     * Starts a span that is a child of the current span of this thread, or of a new trace if
+     * there is none, and makes it the current span until it ends.
+     *
+     * @param name the name of the span
+     * @return the span
+     */
+    public Span startSpan(String name) {
+        return exporter == null ? Span.NOOP : startSpan(name, current());
+    }
+
+    /**
+     * Starts a span that is a child of the given span and makes it the current span of this
+     * thread until it ends.
+     *
+     * @param name the name of the span
+     * @param parent the parent, or null to start a new trace
+     * @return the span
+     */
+    public Span startSpan(String name, Span parent) {
+        if (exporter == null) {
+            return Span.NOOP;
+        }
+        boolean root = parent == null || parent.getTraceId() == null;
+        Span span =
+                new Span(
+                        this,
+                        name,
+                        root ? randomHex(2) : parent.getTraceId(),
+                        randomHex(1),
+                        root ? null : parent.getSpanId(),
+                        current());
+        current.set(span);
+        return span;
+    }
+
+    /**
+     * @return the current span of this thread, a span recording nothing if there is none
+     */
+    public Span currentSpan() {
+        Span span = current();
+        return span != null ? span : Span.NOOP;
+    }
+
+    /** Drops the ended spans from the top of the stack of current spans of this thread. */
+    private Span current() {
+        Span top = current.get();
+        Span span = top;
+        while (span != null && span.hasEnded()) {
+            span = span.previous;
+        }
+        if (span == null) {
+            current.remove();
+        } else if (span != top) {
+            current.set(span);
+        }
+        return span;
+    }
+
+    void end(Span span) {
+        // spans current on other threads are dropped the next time those threads look them up
+        current();
+        try {
+            exporter.export(span);
+        } catch (Exception e) {
+            LOG.warn("Failed to export span {}: {}", span, e.getMessage());
+        }
+    }
+
+    private static String randomHex(int longs) {
+        StringBuilder hex = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            String part = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            hex.append("0".repeat(16 - part.length())).append(part);
+        }
+        return hex.toString();
+    }
+}
@@ -17,8 +17,13 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.HexFormat;
 import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +86,50 @@ public class Utils {
         return new File(Objects.requireNonNull(classLoader.getResource(fileName)).getFile());
     }
 
+    /**
+     * Creates a thread factory producing named daemon threads, so that background work started by
+     * the client never keeps the JVM alive.
+     *
+     * @param namePrefix prefix for the thread names, a running counter is appended
+     * @return the thread factory
+     */
+    public static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Appends the implicit {@code latest} tag to a model name without a tag, so that model names
+     * from user input can be compared with the names reported by the server.
+     *
+     * @param modelName the model name, with or without tag
+     * @return the model name including its tag
+     */
+    public static String normalizeModelName(String modelName) {
+        if (modelName.lastIndexOf(':') > modelName.lastIndexOf('/')) {
+            return modelName;
+        }
+        return modelName + ":latest";
+    }
+
+    /**
+     * Computes the lowercase hex SHA-256 digest of the given bytes.
+     *
+     * @param bytes the bytes to digest
+     * @return the hex digest
+     */
+    public static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     public static String toJSON(Object object) throws JsonProcessingException {
         return Utils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(object);
     }
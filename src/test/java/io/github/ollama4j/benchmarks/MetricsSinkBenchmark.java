@@ -0,0 +1,96 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.benchmarks;
+
+import io.github.ollama4j.metrics.InMemoryMetricsSink;
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
+import io.prometheus.client.CollectorRegistry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of recording a request and the tokens of a streamed response with 8 threads,
+ * for each of the metrics sinks.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.github.ollama4j.benchmarks.MetricsSinkBenchmark} or from the IDE.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class MetricsSinkBenchmark {
+
+    private static final Map<String, Object> OPTIONS = Map.of("temperature", 0.2);
+
+    @Param({"noop", "in-memory", "prometheus"})
+    private String sink;
+
+    private MetricsSink metricsSink;
+
+    @Setup
+    public void setUp() {
+        switch (sink) {
+            case "noop":
+                metricsSink = MetricsSink.NOOP;
+                break;
+            case "in-memory":
+                metricsSink = new InMemoryMetricsSink();
+                break;
+            default:
+                metricsSink = new PrometheusMetricsSink(new CollectorRegistry());
+        }
+    }
+
+    @Benchmark
+    public void recordRequest() {
+        MetricsRecorder.record(
+                metricsSink,
+                "/api/chat",
+                "llama3.2",
+                false,
+                null,
+                true,
+                OPTIONS,
+                null,
+                System.currentTimeMillis(),
+                200,
+                "The weather in Paris is sunny.");
+    }
+
+    @Benchmark
+    public void recordToken() {
+        MetricsRecorder.recordInterTokenLatency(metricsSink, "/api/chat", "llama3.2", 0.02);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MetricsSinkBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
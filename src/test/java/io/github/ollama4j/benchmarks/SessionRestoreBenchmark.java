@@ -0,0 +1,105 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.benchmarks;
+
+import io.github.ollama4j.agent.FileSessionStore;
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how long the FileSessionStore takes to restore the chat history of a session, after the
+ * messages were appended turn by turn or after the history was replaced several times.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.github.ollama4j.benchmarks.SessionRestoreBenchmark} or from the IDE.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionRestoreBenchmark {
+
+    @Param({"20", "200", "2000"})
+    private int messages;
+
+    private Path directory;
+    private FileSessionStore store;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("ollama4j-sessions");
+        store = new FileSessionStore(directory);
+        List<OllamaChatMessage> history = new ArrayList<>();
+        for (int i = 0; i < messages; i += 2) {
+            List<OllamaChatMessage> turn =
+                    List.of(
+                            new OllamaChatMessage(
+                                    OllamaChatMessageRole.USER, "What is the weather in city " + i),
+                            new OllamaChatMessage(
+                                    OllamaChatMessageRole.ASSISTANT,
+                                    "The weather in city " + i + " is sunny with 21 degrees."));
+            store.append("appended", turn);
+            history.addAll(turn);
+            if (i % (messages / 4) == 0) {
+                store.replace("replaced", history);
+            }
+        }
+        store.replace("replaced", history);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<OllamaChatMessage> restoreAppended() throws IOException {
+        return store.load("appended");
+    }
+
+    @Benchmark
+    public List<OllamaChatMessage> restoreReplaced() throws IOException {
+        return store.load("replaced");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(SessionRestoreBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.benchmarks;
+
+import io.github.ollama4j.tools.MethodHandleToolFunction;
+import io.github.ollama4j.tools.ReflectionalToolFunction;
+import io.github.ollama4j.tools.ToolFunction;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the invocation of an annotated tool through {@link ReflectionalToolFunction} and {@link
+ * MethodHandleToolFunction}.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.github.ollama4j.benchmarks.ToolInvocationBenchmark} or from the IDE.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToolInvocationBenchmark {
+
+    public static class WeatherTool {
+        public String weather(String city, Integer days, Boolean metric, BigDecimal latitude) {
+            return city + days + metric + latitude;
+        }
+    }
+
+    private ToolFunction reflectional;
+    private ToolFunction methodHandle;
+    private Map<String, Object> arguments;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Method method =
+                WeatherTool.class.getMethod(
+                        "weather", String.class, Integer.class, Boolean.class, BigDecimal.class);
+        LinkedHashMap<String, String> definition = new LinkedHashMap<>();
+        definition.put("city", "java.lang.String");
+        definition.put("days", "java.lang.Integer");
+        definition.put("metric", "java.lang.Boolean");
+        definition.put("latitude", "java.math.BigDecimal");
+        WeatherTool tool = new WeatherTool();
+        reflectional = new ReflectionalToolFunction(tool, method, definition);
+        methodHandle = new MethodHandleToolFunction(tool, method, definition);
+        arguments = Map.of("city", "Berlin", "days", 3, "metric", true, "latitude", "52.52");
+    }
+
+    @Benchmark
+    public Object reflectional() {
+        return reflectional.apply(arguments);
+    }
+
+    @Benchmark
+    public Object methodHandle() {
+        return methodHandle.apply(arguments);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(ToolInvocationBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
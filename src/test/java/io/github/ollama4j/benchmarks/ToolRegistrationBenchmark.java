@@ -0,0 +1,107 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.benchmarks;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.tools.annotations.ToolProperty;
+import io.github.ollama4j.tools.annotations.ToolSpec;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cold registration of annotated tools, as it happens at application startup, through
+ * the provider generated by the ToolSpecProcessor and through reflection. Every measurement runs in
+ * a fresh JVM.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.github.ollama4j.benchmarks.ToolRegistrationBenchmark} or from the IDE.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class ToolRegistrationBenchmark {
+
+    public static class WeatherTools {
+        @ToolSpec(desc = "Gets the current weather of a city")
+        public String currentWeather(
+                @ToolProperty(name = "city", desc = "The city") String city,
+                @ToolProperty(name = "metric", desc = "Use metric units", required = false)
+                        Boolean metric) {
+            return city + metric;
+        }
+
+        @ToolSpec(desc = "Gets the forecast of a city")
+        public String forecast(
+                @ToolProperty(name = "city", desc = "The city") String city,
+                @ToolProperty(name = "days", desc = "Number of days") int days) {
+            return city + days;
+        }
+
+        @ToolSpec(desc = "Gets the weather at coordinates")
+        public String weatherAt(
+                @ToolProperty(name = "latitude", desc = "Latitude") BigDecimal latitude,
+                @ToolProperty(name = "longitude", desc = "Longitude") BigDecimal longitude) {
+            return latitude + "," + longitude;
+        }
+
+        @ToolSpec(desc = "Compares the weather of cities")
+        public String compare(
+                @ToolProperty(name = "cities", desc = "The cities") List<String> cities) {
+            return String.join(",", cities);
+        }
+    }
+
+    private Ollama ollama;
+
+    @Setup
+    public void setUp() {
+        ollama = new Ollama();
+    }
+
+    private Object register(boolean generated) {
+        ollama.setGeneratedToolsEnabled(generated);
+        ollama.registerAnnotatedTools(new WeatherTools());
+        return ollama.getRegisteredTools();
+    }
+
+    @Benchmark
+    public Object generated() {
+        return register(true);
+    }
+
+    @Benchmark
+    public Object reflective() {
+        return register(false);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(ToolRegistrationBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
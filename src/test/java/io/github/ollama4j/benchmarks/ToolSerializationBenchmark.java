@@ -0,0 +1,119 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import io.github.ollama4j.models.chat.OllamaChatRequest;
+import io.github.ollama4j.tools.ToolRegistry;
+import io.github.ollama4j.tools.Tools;
+import io.github.ollama4j.utils.Utils;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the serialization of a chat request with 100 registered tools, whose JSON is reused, to
+ * the same request with the tools serialized field by field.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.github.ollama4j.benchmarks.ToolSerializationBenchmark} or from the IDE.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToolSerializationBenchmark {
+
+    private static final int TOOLS = 100;
+
+    private final ObjectMapper mapper = Utils.getObjectMapper();
+    private OllamaChatRequest request;
+    private Map<String, Object> fieldByFieldRequest;
+
+    @Setup
+    public void setUp() {
+        ToolRegistry registry = new ToolRegistry();
+        for (int i = 0; i < TOOLS; i++) {
+            Map<String, Tools.Property> properties = new LinkedHashMap<>();
+            properties.put(
+                    "city",
+                    Tools.Property.builder()
+                            .type("string")
+                            .description("The name of the city")
+                            .required(true)
+                            .build());
+            properties.put(
+                    "unit",
+                    Tools.Property.builder()
+                            .type("string")
+                            .description("The unit of the temperature")
+                            .enumValues(List.of("celsius", "fahrenheit"))
+                            .build());
+            registry.addTool(
+                    Tools.Tool.builder()
+                            .toolSpec(
+                                    Tools.ToolSpec.builder()
+                                            .name("tool-" + i)
+                                            .description("Gets the weather of a city, variant " + i)
+                                            .parameters(Tools.Parameters.of(properties))
+                                            .build())
+                            .build());
+        }
+        request =
+                OllamaChatRequest.builder()
+                        .withModel("llama3.2")
+                        .withMessage(OllamaChatMessageRole.USER, "What is the weather in Paris?")
+                        .withTools(new ArrayList<>(registry.getRegisteredTools()))
+                        .build();
+
+        // the same request, with the tools serialized through their bean serializer
+        fieldByFieldRequest = new LinkedHashMap<>();
+        fieldByFieldRequest.put("model", request.getModel());
+        fieldByFieldRequest.put("messages", request.getMessages());
+        fieldByFieldRequest.put("tools", request.getTools());
+        fieldByFieldRequest.put("stream", request.isStream());
+    }
+
+    @Benchmark
+    public String preSerialized() throws JsonProcessingException {
+        return mapper.writeValueAsString(request);
+    }
+
+    @Benchmark
+    public String fieldByField() throws JsonProcessingException {
+        return mapper.writeValueAsString(fieldByFieldRequest);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(ToolSerializationBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
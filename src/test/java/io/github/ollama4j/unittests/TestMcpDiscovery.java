@@ -0,0 +1,133 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.tools.Tools;
+import io.github.ollama4j.tools.mcp.McpDiscoveryReport;
+import io.github.ollama4j.tools.mcp.McpSessionPool;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.ListToolsResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestMcpDiscovery {
+
+    @TempDir Path tempDir;
+
+    private final CountDownLatch slowServer = new CountDownLatch(1);
+    private final Map<String, Consumer<List<McpSchema.Tool>>> toolsChangeConsumers =
+            new ConcurrentHashMap<>();
+    private Ollama ollama;
+    private McpSessionPool pool;
+    private Path config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool =
+                new McpSessionPool(
+                        (name, parameters, timeout, toolsChangeConsumer) -> {
+                            if (name.equals("broken")) {
+                                throw new IllegalStateException("cannot start " + name);
+                            }
+                            if (name.equals("slow")) {
+                                awaitSlowServer();
+                            }
+                            toolsChangeConsumers.put(name, toolsChangeConsumer);
+                            McpSyncClient client = mock(McpSyncClient.class);
+                            when(client.listTools())
+                                    .thenReturn(
+                                            new ListToolsResult(
+                                                    List.of(tool(name + "-tool")), null));
+                            return client;
+                        });
+        ollama = new Ollama();
+        ollama.setMcpSessionPool(pool);
+        config = tempDir.resolve("mcp.json");
+        Files.writeString(
+                config,
+                "{\"mcpServers\":{"
+                        + "\"fast\":{\"command\":\"fast\"},"
+                        + "\"slow\":{\"command\":\"slow\"},"
+                        + "\"broken\":{\"command\":\"broken\"}}}");
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowServer.countDown();
+        pool.close();
+    }
+
+    private void awaitSlowServer() {
+        try {
+            slowServer.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static McpSchema.Tool tool(String name) {
+        return McpSchema.Tool.builder().name(name).build();
+    }
+
+    private List<String> registeredToolNames() {
+        return ollama.getRegisteredTools().stream()
+                .map(t -> t.getToolSpec().getName())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testDiscoveryReportsPartialSuccessAtDeadline() throws Exception {
+        McpDiscoveryReport report =
+                ollama.loadMCPToolsFromJson(config.toString(), Duration.ofMillis(300));
+
+        assertEquals(Map.of("fast", 1), report.getLoaded());
+        assertTrue(report.getFailed().get("broken").contains("cannot start broken"));
+        assertEquals(List.of("slow"), report.getPending());
+        assertFalse(report.isComplete());
+        assertEquals(List.of("fast-tool"), registeredToolNames());
+
+        slowServer.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registeredToolNames().size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("fast-tool", "slow-tool"), registeredToolNames());
+    }
+
+    @Test
+    void testToolsChangedNotificationReplacesRegisteredTools() throws Exception {
+        slowServer.countDown();
+        ollama.loadMCPToolsFromJson(config.toString(), Duration.ofSeconds(5));
+
+        toolsChangeConsumers.get("fast").accept(List.of(tool("fast-a"), tool("fast-b")));
+
+        assertEquals(List.of("fast-a", "fast-b", "slow-tool"), registeredToolNames());
+        Tools.Tool replaced = ollama.getRegisteredTools().get(1);
+        assertTrue(replaced.isMCPTool());
+        assertEquals("fast", replaced.getMcpServerName());
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.tools.mcp.McpSessionPool;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.ListToolsResult;
+import io.modelcontextprotocol.spec.McpTransportException;
+import io.modelcontextprotocol.spec.McpTransportSessionClosedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TestMcpSessionPool {
+
+    private static final ServerParameters PARAMS = ServerParameters.builder("server").build();
+    private static final CallToolRequest REQUEST = new CallToolRequest("tool", Map.of());
+
+    private final List<McpSyncClient> clients = new ArrayList<>();
+    private final List<Consumer<List<McpSchema.Tool>>> toolsChangeConsumers = new ArrayList<>();
+    private McpSessionPool pool;
+
+    private McpSessionPool pool(CallToolResult result) {
+        pool =
+                new McpSessionPool(
+                        (name, parameters, timeout, toolsChangeConsumer) -> {
+                            McpSyncClient client = mock(McpSyncClient.class);
+                            when(client.callTool(any())).thenReturn(result);
+                            when(client.listTools())
+                                    .thenReturn(new ListToolsResult(List.of(tool("a")), null));
+                            synchronized (clients) {
+                                clients.add(client);
+                                toolsChangeConsumers.add(toolsChangeConsumer);
+                            }
+                            return client;
+                        });
+        pool.register("server", PARAMS);
+        return pool;
+    }
+
+    private static McpSchema.Tool tool(String name) {
+        return McpSchema.Tool.builder().name(name).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    void testSessionIsReusedAcrossCalls() {
+        CallToolResult result = mock(CallToolResult.class);
+        McpSessionPool pool = pool(result);
+
+        assertSame(result, pool.callTool("server", REQUEST));
+        assertSame(result, pool.callTool("server", REQUEST));
+        assertSame(result, pool.callTool("server", REQUEST));
+
+        assertEquals(1, pool.getStartedSessionCount());
+        assertEquals(1, pool.getIdleSessionCount("server"));
+        verify(clients.get(0), times(3)).callTool(REQUEST);
+    }
+
+    @Test
+    void testClosedSessionIsRestartedAndCallRetried() {
+        CallToolResult result = mock(CallToolResult.class);
+        McpSessionPool pool = pool(result);
+        pool.callTool("server", REQUEST);
+        when(clients.get(0).callTool(any()))
+                .thenThrow(new McpTransportSessionClosedException("closed"));
+
+        assertSame(result, pool.callTool("server", REQUEST));
+
+        assertEquals(2, pool.getStartedSessionCount());
+        verify(clients.get(0)).close();
+        assertEquals(1, pool.getIdleSessionCount("server"));
+    }
+
+    @Test
+    void testCrashedSessionIsRestartedWithoutRetryingToolCall() {
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+        pool.callTool("server", REQUEST);
+        when(clients.get(0).callTool(any())).thenThrow(new McpTransportException("broken pipe"));
+
+        assertThrows(McpTransportException.class, () -> pool.callTool("server", REQUEST));
+
+        verify(clients.get(0), times(2)).callTool(REQUEST);
+        verify(clients.get(0)).close();
+        assertEquals(1, pool.getStartedSessionCount());
+        assertEquals(0, pool.getIdleSessionCount("server"));
+    }
+
+    @Test
+    void testTimedOutToolCallRunsOnce() {
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+        AtomicInteger runs = new AtomicInteger();
+        pool.callTool("server", REQUEST);
+        when(clients.get(0).callTool(any()))
+                .thenAnswer(
+                        invocation -> {
+                            runs.incrementAndGet();
+                            throw new IllegalStateException(
+                                    "Timeout on blocking read", new TimeoutException());
+                        });
+
+        assertThrows(IllegalStateException.class, () -> pool.callTool("server", REQUEST));
+
+        assertEquals(1, runs.get());
+        assertEquals(1, pool.getStartedSessionCount());
+        verify(clients.get(0)).close();
+        assertEquals(0, pool.getIdleSessionCount("server"));
+    }
+
+    @Test
+    void testCrashedSessionIsRestartedAndListingRetried() {
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+        pool.callTool("server", REQUEST);
+        when(clients.get(0).listTools()).thenThrow(new McpTransportException("broken pipe"));
+
+        assertEquals(List.of(tool("a")), pool.listTools("server"));
+
+        assertEquals(2, pool.getStartedSessionCount());
+        verify(clients.get(0)).close();
+    }
+
+    @Test
+    void testServerErrorIsThrownWithoutRestart() {
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+        McpError error = McpError.builder(-32602).message("unknown tool").build();
+        pool.callTool("server", REQUEST);
+        when(clients.get(0).callTool(any())).thenThrow(error);
+
+        assertSame(error, assertThrows(McpError.class, () -> pool.callTool("server", REQUEST)));
+
+        assertEquals(1, pool.getStartedSessionCount());
+        verify(clients.get(0), never()).close();
+        assertEquals(1, pool.getIdleSessionCount("server"));
+    }
+
+    @Test
+    void testSessionInUseIsClosedWhenServerIsReRegistered() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+        pool.callTool("server", REQUEST);
+        when(clients.get(0).callTool(any()))
+                .thenAnswer(
+                        invocation -> {
+                            started.countDown();
+                            release.await(5, TimeUnit.SECONDS);
+                            return null;
+                        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> call = executor.submit(() -> pool.callTool("server", REQUEST));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            pool.register("server", ServerParameters.builder("other").build());
+            release.countDown();
+            call.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(clients.get(0)).close();
+        assertEquals(0, pool.getIdleSessionCount("server"));
+    }
+
+    @Test
+    void testUnhealthyIdleSessionIsReplaced() {
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+        pool.setHealthCheckInterval(Duration.ZERO);
+        pool.callTool("server", REQUEST);
+        doThrow(new IllegalStateException("dead")).when(clients.get(0)).ping();
+
+        pool.callTool("server", REQUEST);
+
+        assertEquals(2, pool.getStartedSessionCount());
+        verify(clients.get(0)).close();
+        verify(clients.get(1), never()).ping();
+    }
+
+    @Test
+    void testConcurrencyPerServerIsBounded() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        pool =
+                new McpSessionPool(
+                        (name, parameters, timeout, toolsChangeConsumer) -> {
+                            McpSyncClient client = mock(McpSyncClient.class);
+                            when(client.callTool(any()))
+                                    .thenAnswer(
+                                            invocation -> {
+                                                maxRunning.accumulateAndGet(
+                                                        running.incrementAndGet(), Math::max);
+                                                release.await(5, TimeUnit.SECONDS);
+                                                running.decrementAndGet();
+                                                return null;
+                                            });
+                            return client;
+                        });
+        pool.setMaxSessionsPerServer(2);
+        pool.register("server", PARAMS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(executor.submit(() -> pool.callTool("server", REQUEST)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, maxRunning.get());
+        assertEquals(2, pool.getStartedSessionCount());
+    }
+
+    @Test
+    void testIdleSessionsAreShutDown() {
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+        pool.callTool("server", REQUEST);
+        pool.setIdleTimeout(Duration.ZERO);
+
+        pool.closeIdleSessions();
+
+        assertEquals(0, pool.getIdleSessionCount("server"));
+        verify(clients.get(0)).close();
+
+        pool.callTool("server", REQUEST);
+        assertEquals(2, pool.getStartedSessionCount());
+    }
+
+    @Test
+    void testToolListingIsCachedAndRefreshedOnChangeNotification() {
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+        List<List<McpSchema.Tool>> notified = new ArrayList<>();
+        pool.register("server", PARAMS, notified::add);
+
+        assertEquals(List.of(tool("a")), pool.listTools("server"));
+        assertEquals(List.of(tool("a")), pool.listTools("server"));
+        verify(clients.get(0), times(1)).listTools();
+
+        toolsChangeConsumers.get(0).accept(List.of(tool("a"), tool("b")));
+        toolsChangeConsumers.get(0).accept(List.of(tool("a"), tool("b")));
+
+        assertEquals(List.of(tool("a"), tool("b")), pool.listTools("server"));
+        assertEquals(1, notified.size());
+        verify(clients.get(0), times(1)).listTools();
+    }
+
+    @Test
+    void testUnknownServerIsRejected() {
+        McpSessionPool pool = pool(mock(CallToolResult.class));
+
+        assertThrows(IllegalArgumentException.class, () -> pool.callTool("other", REQUEST));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.tools.MethodHandleToolFunction;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TestMethodHandleToolFunction {
+
+    public enum Unit {
+        CELSIUS,
+        FAHRENHEIT
+    }
+
+    public static class Location {
+        public String city;
+        public int zip;
+    }
+
+    public static class SampleToolHolder {
+        public String primitives(int i, long l, double d, boolean b) {
+            return "i=" + i + ",l=" + l + ",d=" + d + ",b=" + b;
+        }
+
+        public String boxed(Integer i, Boolean b, BigDecimal d, String s) {
+            return String.format("i=%s,b=%s,d=%s,s=%s", i, b, d, s);
+        }
+
+        public String complex(Unit unit, List<Integer> values, Location location) {
+            return unit
+                    + ":"
+                    + values.stream().mapToInt(Integer::intValue).sum()
+                    + ":"
+                    + location.city
+                    + "/"
+                    + location.zip;
+        }
+
+        public static String twice(String s) {
+            return s + s;
+        }
+
+        public void alwaysThrows() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private static MethodHandleToolFunction function(String name, String... properties)
+            throws NoSuchMethodException {
+        Method method =
+                Arrays.stream(SampleToolHolder.class.getMethods())
+                        .filter(m -> m.getName().equals(name))
+                        .findFirst()
+                        .orElseThrow(NoSuchMethodException::new);
+        LinkedHashMap<String, String> definition = new LinkedHashMap<>();
+        for (int i = 0; i < properties.length; i++) {
+            definition.put(properties[i], method.getParameterTypes()[i].getTypeName());
+        }
+        return new MethodHandleToolFunction(new SampleToolHolder(), method, definition);
+    }
+
+    @Test
+    void testConvertsPrimitivesFromStringsAndNumbers() throws Exception {
+        MethodHandleToolFunction fn = function("primitives", "i", "l", "d", "b");
+
+        assertEquals(
+                "i=42,l=7,d=3.5,b=true",
+                fn.apply(Map.of("i", "42", "l", 7, "d", "3.5", "b", "true")));
+        assertEquals("i=3,l=0,d=1.0,b=false", fn.apply(Map.of("i", 3.0, "d", 1, "b", false)));
+    }
+
+    @Test
+    void testConvertsBoxedTypesLikeReflectionalToolFunction() throws Exception {
+        MethodHandleToolFunction fn = function("boxed", "i", "b", "d", "s");
+
+        assertEquals(
+                "i=42,b=true,d=3.14,s=123",
+                fn.apply(Map.of("i", "42", "b", "true", "d", "3.14", "s", 123)));
+    }
+
+    @Test
+    void testConvertsEnumsCollectionsAndPojos() throws Exception {
+        MethodHandleToolFunction fn = function("complex", "unit", "values", "location");
+
+        Object result =
+                fn.apply(
+                        Map.of(
+                                "unit", "celsius",
+                                "values", List.of("1", 2, 3.0),
+                                "location", "{\"city\":\"Berlin\",\"zip\":\"10115\"}"));
+
+        assertEquals("CELSIUS:6:Berlin/10115", result);
+    }
+
+    @Test
+    void testParametersWithoutDefinitionReceiveNull() throws Exception {
+        Method method =
+                SampleToolHolder.class.getMethod(
+                        "boxed", Integer.class, Boolean.class, BigDecimal.class, String.class);
+        LinkedHashMap<String, String> definition = new LinkedHashMap<>();
+        definition.put("i", null);
+        definition.put("b", "java.lang.Boolean");
+        definition.put("d", "java.math.BigDecimal");
+        definition.put("s", "java.lang.String");
+        MethodHandleToolFunction fn =
+                new MethodHandleToolFunction(new SampleToolHolder(), method, definition);
+
+        Map<String, Object> args = new LinkedHashMap<>();
+        args.put("i", "100");
+        args.put("b", null);
+        args.put("d", "1.00");
+        args.put("s", "ok");
+
+        assertEquals("i=null,b=null,d=1.00,s=ok", fn.apply(args));
+    }
+
+    @Test
+    void testInvokesStaticMethods() throws Exception {
+        assertEquals("abab", function("twice", "s").apply(Map.of("s", "ab")));
+    }
+
+    @Test
+    void testExceptionsAreWrappedWithMeaningfulMessage() throws Exception {
+        MethodHandleToolFunction fn = function("alwaysThrows");
+
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> fn.apply(Map.of()));
+        assertTrue(ex.getMessage().contains("Failed to invoke tool: alwaysThrows"));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+}
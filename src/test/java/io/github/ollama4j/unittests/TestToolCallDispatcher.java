@@ -0,0 +1,145 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.exceptions.ToolInvocationException;
+import io.github.ollama4j.tools.ToolCallDispatcher;
+import io.github.ollama4j.tools.ToolFunction;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TestToolCallDispatcher {
+
+    private static ToolCallDispatcher.Invocation sleeping(String name, long millis) {
+        ToolFunction function =
+                arguments -> {
+                    try {
+                        Thread.sleep(millis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return name;
+                };
+        return new ToolCallDispatcher.Invocation(name, Map.of(), function);
+    }
+
+    private static ToolCallDispatcher.Invocation failing(String name) {
+        return new ToolCallDispatcher.Invocation(
+                name,
+                Map.of(),
+                arguments -> {
+                    throw new IllegalStateException("backend unavailable");
+                });
+    }
+
+    @Test
+    void testRunsCallsConcurrentlyAndKeepsOrder() throws InterruptedException {
+        ToolCallDispatcher dispatcher = new ToolCallDispatcher(3, null);
+        long start = System.currentTimeMillis();
+
+        List<ToolCallDispatcher.Result> results =
+                dispatcher.dispatch(
+                        List.of(sleeping("a", 300), sleeping("b", 100), sleeping("c", 200)));
+
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue(elapsed < 550, "took " + elapsed + " ms");
+        assertEquals("a", results.get(0).getValue());
+        assertEquals("b", results.get(1).getValue());
+        assertEquals("c", results.get(2).getValue());
+        assertTrue(dispatcher.getTimeSavedMillis() > 0);
+    }
+
+    @Test
+    void testIsolatesFailures() throws InterruptedException {
+        ToolCallDispatcher dispatcher = new ToolCallDispatcher(2, null);
+
+        List<ToolCallDispatcher.Result> results =
+                dispatcher.dispatch(List.of(failing("broken"), sleeping("ok", 10)));
+
+        assertTrue(results.get(0).isFailed());
+        assertEquals("backend unavailable", results.get(0).getError());
+        assertFalse(results.get(1).isFailed());
+        assertEquals("ok", results.get(1).getValue());
+    }
+
+    @Test
+    void testTimesOutSlowCalls() throws InterruptedException {
+        ToolCallDispatcher dispatcher = new ToolCallDispatcher(2, Duration.ofMillis(100));
+
+        List<ToolCallDispatcher.Result> results =
+                dispatcher.dispatch(List.of(sleeping("slow", 5_000), sleeping("fast", 10)));
+
+        assertTrue(results.get(0).isFailed());
+        assertTrue(results.get(0).getError().contains("timed out"));
+        assertEquals("fast", results.get(1).getValue());
+    }
+
+    @Test
+    void testTimeoutIsMeasuredFromStartOfQueuedCalls() throws InterruptedException {
+        ToolCallDispatcher dispatcher = new ToolCallDispatcher(1, Duration.ofMillis(300));
+
+        List<ToolCallDispatcher.Result> results =
+                dispatcher.dispatch(List.of(sleeping("first", 200), sleeping("second", 200)));
+
+        assertFalse(results.get(0).isFailed());
+        assertFalse(results.get(1).isFailed());
+    }
+
+    @Test
+    void testSequentialModePropagatesFailures() {
+        ToolCallDispatcher dispatcher = new ToolCallDispatcher(1, null);
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatch(List.of(failing("x"))));
+    }
+
+    @Test
+    void testBatchStartsCallsOnSubmitAndKeepsOrder() throws Exception {
+        ToolCallDispatcher dispatcher = new ToolCallDispatcher(2, null);
+        ToolCallDispatcher.Batch batch = dispatcher.newBatch();
+
+        batch.submit(sleeping("a", 200));
+        batch.submit(sleeping("b", 50));
+        Thread.sleep(250); // e.g. the rest of the streamed response
+        long start = System.currentTimeMillis();
+        List<ToolCallDispatcher.Result> results = batch.await();
+
+        assertTrue(System.currentTimeMillis() - start < 100);
+        assertEquals("a", results.get(0).getValue());
+        assertEquals("b", results.get(1).getValue());
+        assertTrue(dispatcher.getTimeSavedMillis() > 0);
+    }
+
+    @Test
+    void testSequentialBatchRunsInBackgroundAndPropagatesFailures() throws InterruptedException {
+        ToolCallDispatcher dispatcher = new ToolCallDispatcher(1, null);
+        ToolCallDispatcher.Batch batch = dispatcher.newBatch();
+        batch.submit(sleeping("a", 10));
+        batch.submit(failing("x"));
+
+        assertEquals(2, batch.size());
+        assertThrows(IllegalStateException.class, batch::await);
+    }
+
+    @Test
+    void testFailedBatchCancelsCallsAndThrowsFailure() {
+        ToolCallDispatcher dispatcher = new ToolCallDispatcher(2, null);
+        ToolCallDispatcher.Batch batch = dispatcher.newBatch();
+        batch.submit(sleeping("a", 5_000));
+        ToolInvocationException failure = new ToolInvocationException("missing");
+
+        batch.fail(failure);
+        batch.submit(sleeping("b", 10));
+
+        assertEquals(1, batch.size());
+        assertSame(failure, assertThrows(ToolInvocationException.class, batch::await));
+    }
+}
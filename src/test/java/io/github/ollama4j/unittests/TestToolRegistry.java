@@ -0,0 +1,119 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.exceptions.ToolNotFoundException;
+import io.github.ollama4j.tools.ToolRegistry;
+import io.github.ollama4j.tools.Tools;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TestToolRegistry {
+
+    private static Tools.Tool tool(String name, Object result) {
+        return Tools.Tool.builder()
+                .toolSpec(Tools.ToolSpec.builder().name(name).description(name).build())
+                .toolFunction(arguments -> result)
+                .build();
+    }
+
+    @Test
+    void testLookupAndFirstRegistrationWins() throws ToolNotFoundException {
+        ToolRegistry registry = new ToolRegistry();
+        registry.addTool(tool("weather", "first"));
+        registry.addTool(tool("weather", "second"));
+        registry.addTool(tool("time", "now"));
+
+        assertEquals("first", registry.getToolFunction("weather").apply(null));
+        assertEquals(2, registry.getRegisteredTools().size());
+        assertEquals("weather", registry.getRegisteredTools().get(0).getToolSpec().getName());
+        assertNull(registry.getTool("unknown"));
+        assertThrows(ToolNotFoundException.class, () -> registry.getToolFunction("unknown"));
+    }
+
+    @Test
+    void testSnapshotIsImmutableAndStableAcrossClear() {
+        ToolRegistry registry = new ToolRegistry();
+        registry.addTool(tool("a", 1));
+        List<Tools.Tool> snapshot = registry.getRegisteredTools();
+
+        registry.clear();
+        registry.addTool(tool("b", 2));
+
+        assertEquals(1, snapshot.size());
+        assertEquals("a", snapshot.get(0).getToolSpec().getName());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(tool("c", 3)));
+    }
+
+    @Test
+    void testConcurrentRegistrationLookupAndIteration() throws Exception {
+        ToolRegistry registry = new ToolRegistry();
+        int writers = 4;
+        int readers = 4;
+        int toolsPerWriter = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    for (int i = 0; i < toolsPerWriter; i++) {
+                                        // Every name is registered by two writers.
+                                        String name = "tool-" + (writer % 2) + "-" + i;
+                                        registry.addTool(tool(name, name));
+                                    }
+                                    return null;
+                                }));
+            }
+            for (int r = 0; r < readers; r++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    for (int i = 0; i < toolsPerWriter; i++) {
+                                        for (Tools.Tool t : registry.getRegisteredTools()) {
+                                            String name = t.getToolSpec().getName();
+                                            assertEquals(
+                                                    name,
+                                                    registry.getToolFunction(name).apply(null));
+                                        }
+                                    }
+                                    return null;
+                                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Tools.Tool> registered = registry.getRegisteredTools();
+        assertEquals(2 * toolsPerWriter, registered.size());
+        Set<String> names = new HashSet<>();
+        for (Tools.Tool t : registered) {
+            assertTrue(names.add(t.getToolSpec().getName()));
+        }
+    }
+}
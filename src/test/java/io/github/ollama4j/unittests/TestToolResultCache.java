@@ -0,0 +1,108 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.tools.ToolFunction;
+import io.github.ollama4j.tools.ToolResultCache;
+import io.github.ollama4j.tools.Tools;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TestToolResultCache {
+
+    private static Tools.Tool tool(String name, boolean cacheable, ToolFunction function) {
+        return Tools.Tool.builder()
+                .toolSpec(Tools.ToolSpec.builder().name(name).build())
+                .toolFunction(function)
+                .cacheable(cacheable)
+                .build();
+    }
+
+    @Test
+    void testReusesResultsForCanonicallyEqualArguments() {
+        AtomicInteger calls = new AtomicInteger();
+        ToolResultCache cache = new ToolResultCache(100, Duration.ofMinutes(1));
+        ToolFunction function =
+                cache.wrap(tool("lookup", true, arguments -> calls.incrementAndGet()));
+
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("city", "Berlin");
+        first.put("unit", "C");
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("unit", "C");
+        reordered.put("city", "Berlin");
+
+        assertEquals(1, function.apply(first));
+        assertEquals(1, function.apply(reordered));
+        assertEquals(2, function.apply(Map.of("city", "Paris", "unit", "C")));
+        assertEquals(2, calls.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testDoesNotCacheNonCacheableTools() {
+        AtomicInteger calls = new AtomicInteger();
+        ToolResultCache cache = new ToolResultCache(100, Duration.ofMinutes(1));
+        ToolFunction function =
+                cache.wrap(tool("now", false, arguments -> calls.incrementAndGet()));
+
+        function.apply(Map.of());
+        function.apply(Map.of());
+
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testExpiresEntriesAfterTtl() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        ToolResultCache cache = new ToolResultCache(100, Duration.ofMinutes(1));
+        Tools.Tool tool = tool("lookup", true, arguments -> calls.incrementAndGet());
+        tool.setCacheTtl(Duration.ofMillis(50));
+        ToolFunction function = cache.wrap(tool);
+
+        function.apply(Map.of("q", 1));
+        Thread.sleep(80);
+        function.apply(Map.of("q", 1));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testFailuresAreNotCachedAndSizeIsBounded() {
+        AtomicInteger calls = new AtomicInteger();
+        ToolResultCache cache = new ToolResultCache(2, Duration.ofMinutes(1));
+        ToolFunction failing =
+                cache.wrap(
+                        tool(
+                                "flaky",
+                                true,
+                                arguments -> {
+                                    if (calls.incrementAndGet() == 1) {
+                                        throw new IllegalStateException("timeout");
+                                    }
+                                    return "ok";
+                                }));
+
+        assertThrows(IllegalStateException.class, () -> failing.apply(Map.of()));
+        assertEquals("ok", failing.apply(Map.of()));
+
+        ToolFunction echo = cache.wrap(tool("echo", true, arguments -> arguments.get("v")));
+        for (int i = 0; i < 10; i++) {
+            echo.apply(Map.of("v", i));
+        }
+        assertTrue(cache.size() <= 2);
+    }
+}
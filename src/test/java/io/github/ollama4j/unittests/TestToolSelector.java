@@ -0,0 +1,116 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.tools.ToolSelector;
+import io.github.ollama4j.tools.Tools;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class TestToolSelector {
+
+    private static final List<String> TOPICS = List.of("weather", "stock", "email", "calendar");
+
+    private final List<List<String>> embedCalls = new ArrayList<>();
+
+    /** Embeds a text as a one-hot vector of the topics it mentions. */
+    private List<List<Double>> embed(List<String> texts) {
+        embedCalls.add(texts);
+        return texts.stream()
+                .map(
+                        text ->
+                                TOPICS.stream()
+                                        .map(topic -> text.contains(topic) ? 1.0 : 0.0)
+                                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static Tools.Tool tool(String name, String description) {
+        return Tools.Tool.builder()
+                .toolSpec(
+                        Tools.ToolSpec.builder()
+                                .name(name)
+                                .description(description)
+                                .parameters(
+                                        Tools.Parameters.of(
+                                                Map.of(
+                                                        "query",
+                                                        Tools.Property.builder()
+                                                                .type("string")
+                                                                .description("The query")
+                                                                .required(true)
+                                                                .build())))
+                                .build())
+                .toolFunction(arguments -> name)
+                .build();
+    }
+
+    private final List<Tools.Tool> tools =
+            List.of(
+                    tool("get-weather", "Gets the weather forecast"),
+                    tool("get-quote", "Gets the stock price"),
+                    tool("send-mail", "Sends an email"),
+                    tool("schedule", "Adds a calendar entry"));
+
+    private static List<String> names(List<Tools.Tool> tools) {
+        return tools.stream().map(t -> t.getToolSpec().getName()).collect(Collectors.toList());
+    }
+
+    @Test
+    void testSelectsMostSimilarToolsInRegistrationOrder() {
+        ToolSelector selector = new ToolSelector(this::embed, 2);
+
+        List<Tools.Tool> selected =
+                selector.select(tools, "add a calendar entry and tell me the weather");
+
+        assertEquals(List.of("get-weather", "schedule"), names(selected));
+        assertTrue(selector.getEstimatedTokensSaved() > 0);
+    }
+
+    @Test
+    void testToolEmbeddingsAreComputedOnce() {
+        ToolSelector selector = new ToolSelector(this::embed, 1);
+
+        assertEquals(List.of("get-quote"), names(selector.select(tools, "stock of ACME")));
+        assertEquals(List.of("send-mail"), names(selector.select(tools, "email Bob")));
+
+        // one batch for the tools and one call per query
+        assertEquals(3, embedCalls.size());
+        assertEquals(4, embedCalls.get(0).size());
+        assertEquals(List.of("email Bob"), embedCalls.get(2));
+        assertEquals(4, selector.getCachedEmbeddingCount());
+
+        List<Tools.Tool> changed = new ArrayList<>(tools);
+        changed.add(tool("get-weather-alerts", "Gets the weather alerts"));
+        selector.select(changed, "weather");
+        assertEquals(1, embedCalls.get(3).size());
+    }
+
+    @Test
+    void testAllToolsAreSentWhenSelectionIsNotNeededOrFails() {
+        ToolSelector selector = new ToolSelector(this::embed, 4);
+        assertSame(tools, selector.select(tools, "weather"));
+        assertTrue(embedCalls.isEmpty());
+
+        ToolSelector failing =
+                new ToolSelector(
+                        texts -> {
+                            throw new OllamaException("model not found");
+                        },
+                        1);
+        assertSame(tools, failing.select(tools, "weather"));
+        assertSame(tools, new ToolSelector(this::embed, 1).select(tools, " "));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.tools.GeneratedToolProvider;
+import io.github.ollama4j.tools.GeneratedToolProviders;
+import io.github.ollama4j.tools.Tools;
+import io.github.ollama4j.tools.annotations.ToolProperty;
+import io.github.ollama4j.tools.annotations.ToolSpec;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the providers the ToolSpecProcessor generates for the tool classes below while compiling
+ * the test sources.
+ */
+class TestToolSpecProcessor {
+
+    public enum Unit {
+        CELSIUS,
+        FAHRENHEIT
+    }
+
+    public static class BaseTools {
+        @ToolSpec(desc = "Inherited tool")
+        public String inherited(@ToolProperty(name = "value", desc = "A value") String value) {
+            return "inherited:" + value;
+        }
+    }
+
+    public static class SampleTools extends BaseTools {
+        public static int invocations;
+
+        @ToolSpec(
+                name = "weather",
+                desc = "Gets the weather",
+                cacheable = true,
+                cacheTtlSeconds = 60)
+        public String getWeather(
+                @ToolProperty(name = "city", desc = "The city") String city,
+                @ToolProperty(name = "days", desc = "Forecast days", required = false) int days,
+                @ToolProperty(name = "unit", desc = "The unit") Unit unit,
+                String notAProperty) {
+            return city + ":" + days + ":" + unit + ":" + notAProperty;
+        }
+
+        @ToolSpec(desc = "Sums numbers")
+        public static long sum(@ToolProperty(name = "values", desc = "Numbers") List<Long> values) {
+            return values.stream().mapToLong(Long::longValue).sum();
+        }
+
+        @ToolSpec(desc = "")
+        public void record() {
+            invocations++;
+        }
+
+        @ToolSpec(desc = "Fails")
+        public String fail() throws Exception {
+            throw new Exception("boom");
+        }
+    }
+
+    private static class PrivateTools {
+        @ToolSpec(desc = "Private tool")
+        public String hidden() {
+            return "hidden";
+        }
+    }
+
+    private static List<Tools.Tool> register(Object tools, boolean generated) {
+        Ollama ollama = new Ollama();
+        ollama.setGeneratedToolsEnabled(generated);
+        ollama.registerAnnotatedTools(tools);
+        return ollama.getRegisteredTools().stream()
+                .sorted(Comparator.comparing(t -> t.getToolSpec().getName()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testProviderIsGeneratedAndRegistered() {
+        GeneratedToolProvider provider = GeneratedToolProviders.find(SampleTools.class);
+
+        assertNotNull(provider);
+        assertEquals(SampleTools.class, provider.getProviderClass());
+        assertInstanceOf(SampleTools.class, provider.newInstance());
+        assertInstanceOf(
+                BaseTools.class, GeneratedToolProviders.find(BaseTools.class).newInstance());
+        assertNull(GeneratedToolProviders.find(PrivateTools.class));
+    }
+
+    @Test
+    void testGeneratedSpecsMatchReflectiveRegistration() {
+        List<Tools.Tool> generated = register(new SampleTools(), true);
+        List<Tools.Tool> reflective = register(new SampleTools(), false);
+
+        assertEquals(
+                List.of("fail", "inherited", "record", "sum", "weather"),
+                generated.stream()
+                        .map(t -> t.getToolSpec().getName())
+                        .collect(Collectors.toList()));
+        assertEquals(
+                reflective.stream().map(Tools.Tool::getToolSpec).collect(Collectors.toList()),
+                generated.stream().map(Tools.Tool::getToolSpec).collect(Collectors.toList()));
+        Tools.Tool weather = generated.get(4);
+        assertTrue(weather.isCacheable());
+        assertEquals(Duration.ofSeconds(60), weather.getCacheTtl());
+        // without a TTL the tool uses the default of the cache
+        assertNull(generated.get(3).getCacheTtl());
+        assertNull(reflective.get(3).getCacheTtl());
+        assertEquals(
+                List.of("city", "unit"),
+                sorted(weather.getToolSpec().getParameters().getRequired()));
+    }
+
+    @Test
+    void testGeneratedInvokersConvertArgumentsLikeReflection() {
+        List<Tools.Tool> generated = register(new SampleTools(), true);
+        List<Tools.Tool> reflective = register(new SampleTools(), false);
+
+        Map<String, Object> weatherArgs = Map.of("city", "Berlin", "days", "3", "unit", "celsius");
+        Map<String, Object> sumArgs = Map.of("values", List.of(1, "2", 3.0));
+        for (List<Tools.Tool> tools : List.of(generated, reflective)) {
+            assertEquals(
+                    "Berlin:3:CELSIUS:null", tools.get(4).getToolFunction().apply(weatherArgs));
+            assertEquals(
+                    "Berlin:0:CELSIUS:null",
+                    tools.get(4)
+                            .getToolFunction()
+                            .apply(Map.of("city", "Berlin", "unit", "CELSIUS")));
+            assertEquals(6L, tools.get(3).getToolFunction().apply(sumArgs));
+            assertEquals("inherited:x", tools.get(1).getToolFunction().apply(Map.of("value", "x")));
+        }
+
+        int before = SampleTools.invocations;
+        assertNull(generated.get(2).getToolFunction().apply(null));
+        assertEquals(before + 1, SampleTools.invocations);
+
+        RuntimeException e =
+                assertThrows(
+                        RuntimeException.class,
+                        () -> generated.get(0).getToolFunction().apply(Map.of()));
+        assertEquals("Failed to invoke tool: fail", e.getMessage());
+        assertEquals("boom", e.getCause().getMessage());
+    }
+
+    @Test
+    void testPrivateClassFallsBackToReflection() {
+        List<Tools.Tool> tools = register(new PrivateTools(), true);
+
+        assertEquals(1, tools.size());
+        assertEquals("hidden", tools.get(0).getToolFunction().apply(Map.of()));
+    }
+
+    private static List<String> sorted(List<String> values) {
+        return values.stream().sorted().collect(Collectors.toList());
+    }
+}
@@ -16,14 +16,19 @@ import io.github.ollama4j.Ollama;
 import io.github.ollama4j.agent.Agent;
 import io.github.ollama4j.exceptions.OllamaException;
 import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.models.chat.OllamaChatRequest;
 import io.github.ollama4j.models.chat.OllamaChatResult;
+import io.github.ollama4j.tools.Tools;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 
 class TestAgent {
 
@@ -48,6 +53,49 @@ class TestAgent {
         verify(ollama, times(1)).chat(any(), any());
     }
 
+    private static Tools.Tool tool(String name, String description) {
+        return Tools.Tool.builder()
+                .toolSpec(Tools.ToolSpec.builder().name(name).description(description).build())
+                .build();
+    }
+
+    @Test
+    void testSystemPromptIsReusedUntilToolsChange() throws OllamaException {
+        Ollama ollama = mock(Ollama.class);
+        OllamaChatResult result = mock(OllamaChatResult.class);
+        when(result.getChatHistory()).thenReturn(Collections.emptyList());
+        when(ollama.chat(any(), any())).thenReturn(result);
+        Agent agent =
+                new Agent(
+                        "bot",
+                        ollama,
+                        "model",
+                        "Be brief.",
+                        new ArrayList<>(List.of(tool("weather", "Gets the weather"))));
+
+        agent.interact("hi", null);
+        agent.interact("hi", null);
+        agent.setTools(List.of(tool("weather", null), tool("news", "Gets the news")));
+        agent.interact("hi", null);
+
+        ArgumentCaptor<OllamaChatRequest> requests =
+                ArgumentCaptor.forClass(OllamaChatRequest.class);
+        verify(ollama, times(3)).chat(requests.capture(), any());
+        List<String> prompts =
+                requests.getAllValues().stream()
+                        .map(r -> r.getMessages().get(0).getResponse())
+                        .collect(Collectors.toList());
+        assertEquals(
+                "You are a helpful AI assistant named bot. Your actions are limited to using the"
+                        + " available tools. Be brief.\nYou have access to the following tools:\n"
+                        + "- weather: Gets the weather",
+                prompts.get(0));
+        assertSame(prompts.get(0), prompts.get(1));
+        assertTrue(prompts.get(2).endsWith("- weather: No description\n- news: Gets the news"));
+        assertEquals(2, requests.getAllValues().get(2).getTools().size());
+        assertEquals(2, agent.getTools().size());
+    }
+
     @Test
     void testLoadFromYaml(@TempDir File tempDir) throws IOException {
         File yamlFile = new File(tempDir, "agent.yaml");
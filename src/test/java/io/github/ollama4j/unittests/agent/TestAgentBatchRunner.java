@@ -0,0 +1,173 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.agent;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.agent.Agent;
+import io.github.ollama4j.agent.AgentBatchRunner;
+import io.github.ollama4j.agent.AgentBatchRunner.ConversationResult;
+import io.github.ollama4j.agent.AgentBatchRunner.ConversationScript;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import io.github.ollama4j.models.chat.OllamaChatRequest;
+import io.github.ollama4j.models.chat.OllamaChatResponseModel;
+import io.github.ollama4j.models.chat.OllamaChatResult;
+import io.github.ollama4j.models.chat.OllamaChatToolCalls;
+import io.github.ollama4j.tools.OllamaToolCallsFunction;
+import io.github.ollama4j.utils.Utils;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestAgentBatchRunner {
+
+    private final Ollama ollama = mock(Ollama.class);
+    private final AtomicInteger concurrentCalls = new AtomicInteger();
+    private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+
+    /**
+     * Echoes the user message; "tool" answers after a tool call and "fail" fails the turn. Each
+     * response counts 10 prompt and 2 generated tokens.
+     */
+    private AgentBatchRunner runner(int parallelism) throws Exception {
+        when(ollama.chat(any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            maxConcurrentCalls.accumulateAndGet(
+                                    concurrentCalls.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(20);
+                                OllamaChatRequest request = invocation.getArgument(0);
+                                List<OllamaChatMessage> messages = request.getMessages();
+                                String input = messages.get(messages.size() - 1).getResponse();
+                                if (input.equals("fail")) {
+                                    throw new OllamaException("model not found");
+                                }
+                                if (input.equals("tool")) {
+                                    OllamaChatMessage call =
+                                            new OllamaChatMessage(
+                                                    OllamaChatMessageRole.ASSISTANT, "");
+                                    call.setToolCalls(
+                                            List.of(
+                                                    new OllamaChatToolCalls(
+                                                            "1",
+                                                            new OllamaToolCallsFunction(
+                                                                    "weather", Map.of()))));
+                                    messages.add(call);
+                                    messages.add(
+                                            new OllamaChatMessage(
+                                                    OllamaChatMessageRole.TOOL, "sunny"));
+                                }
+                                OllamaChatResponseModel response = new OllamaChatResponseModel();
+                                response.setPromptEvalCount(10);
+                                response.setEvalCount(2);
+                                response.setMessage(
+                                        new OllamaChatMessage(
+                                                OllamaChatMessageRole.ASSISTANT, "re: " + input));
+                                return new OllamaChatResult(response, messages);
+                            } finally {
+                                concurrentCalls.decrementAndGet();
+                            }
+                        });
+        AgentBatchRunner runner =
+                new AgentBatchRunner(
+                        new Agent("bot", ollama, "model", null, Collections.emptyList()));
+        runner.setParallelism(parallelism);
+        return runner;
+    }
+
+    private static List<ConversationScript> scripts(int count) {
+        List<ConversationScript> scripts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            scripts.add(new ConversationScript("c" + i, List.of("hi " + i, "tool")));
+        }
+        return scripts;
+    }
+
+    @Test
+    void testConversationsRunConcurrentlyInIsolatedSessions() throws Exception {
+        List<ConversationResult> results = runner(3).run(scripts(9));
+
+        assertEquals(9, results.size());
+        for (int i = 0; i < 9; i++) {
+            ConversationResult result = results.get(i);
+            assertEquals("c" + i, result.getId());
+            assertNull(result.getError());
+            assertEquals(2, result.getCompletedTurns());
+            assertEquals(1, result.getToolCalls());
+            assertEquals(20, result.getPromptTokens());
+            assertEquals(4, result.getCompletionTokens());
+            assertEquals(2, result.getTurnLatenciesMillis().size());
+            // system, user, answer, user, tool call, tool result, answer
+            assertEquals(7, result.getHistory().size());
+            assertEquals("hi " + i, result.getHistory().get(1).getResponse());
+        }
+        assertEquals(3, maxConcurrentCalls.get());
+    }
+
+    @Test
+    void testFailedTurnStopsOnlyItsConversation() throws Exception {
+        List<ConversationResult> results =
+                runner(2)
+                        .run(
+                                List.of(
+                                        new ConversationScript("ok", List.of("hi")),
+                                        new ConversationScript(
+                                                "broken", List.of("hi", "fail", "never"))));
+
+        assertNull(results.get(0).getError());
+        assertEquals("model not found", results.get(1).getError());
+        assertEquals(1, results.get(1).getCompletedTurns());
+        assertEquals(3, results.get(1).getHistory().size());
+    }
+
+    @Test
+    void testScriptsAreReadAndResultsWrittenAsJsonLines(@TempDir Path directory) throws Exception {
+        Path input = directory.resolve("scripts.jsonl");
+        Files.writeString(
+                input,
+                "{\"id\":\"a\",\"turns\":[\"hi\"]}\n\n"
+                        + "{\"id\":\"b\",\"turns\":[\"tool\",\"bye\"]}\n",
+                StandardCharsets.UTF_8);
+        Path output = directory.resolve("results.jsonl");
+
+        List<ConversationResult> results =
+                runner(2).run(AgentBatchRunner.readScripts(input), output);
+
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        HashSet<String> ids = new HashSet<>();
+        for (String line : lines) {
+            JsonNode result = Utils.getObjectMapper().readTree(line);
+            ids.add(result.get("id").asText());
+            if (result.get("id").asText().equals("b")) {
+                assertEquals(1, result.get("toolCalls").asInt());
+                assertEquals(2, result.get("turnLatenciesMillis").size());
+                assertEquals("re: bye", result.get("history").get(6).get("content").asText());
+            }
+        }
+        assertEquals(Set.of("a", "b"), ids);
+        assertEquals("a", results.get(0).getId());
+    }
+}
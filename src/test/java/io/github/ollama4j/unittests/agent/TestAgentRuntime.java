@@ -0,0 +1,182 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.agent;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.agent.Agent;
+import io.github.ollama4j.agent.AgentRuntime;
+import io.github.ollama4j.agent.FileSessionStore;
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import io.github.ollama4j.models.chat.OllamaChatRequest;
+import io.github.ollama4j.models.chat.OllamaChatResponseModel;
+import io.github.ollama4j.models.chat.OllamaChatResult;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestAgentRuntime {
+
+    private final Ollama ollama = mock(Ollama.class);
+    private final AtomicInteger concurrentCalls = new AtomicInteger();
+    private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+    private final AgentRuntime runtime =
+            new AgentRuntime(new Agent("bot", ollama, "model", null, Collections.emptyList()));
+
+    /** Answers with the number of user messages in the conversation. */
+    private void answerWithUserMessageCount(long delayMillis) throws Exception {
+        when(ollama.chat(any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            maxConcurrentCalls.accumulateAndGet(
+                                    concurrentCalls.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(delayMillis);
+                                OllamaChatRequest request = invocation.getArgument(0);
+                                long users =
+                                        request.getMessages().stream()
+                                                .filter(
+                                                        m ->
+                                                                m.getRole()
+                                                                        == OllamaChatMessageRole
+                                                                                .USER)
+                                                .count();
+                                OllamaChatResponseModel response = new OllamaChatResponseModel();
+                                response.setMessage(
+                                        new OllamaChatMessage(
+                                                OllamaChatMessageRole.ASSISTANT,
+                                                String.valueOf(users)));
+                                return new OllamaChatResult(response, request.getMessages());
+                            } finally {
+                                concurrentCalls.decrementAndGet();
+                            }
+                        });
+    }
+
+    private static List<String> contents(List<OllamaChatMessage> history) {
+        return history.stream().map(OllamaChatMessage::getResponse).collect(Collectors.toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        runtime.close();
+    }
+
+    @Test
+    void testSessionsHaveIsolatedHistories() throws Exception {
+        answerWithUserMessageCount(0);
+
+        runtime.interact("alice", "hi", null);
+        List<OllamaChatMessage> alice = runtime.interact("alice", "again", null);
+        List<OllamaChatMessage> bob = runtime.interact("bob", "hello", null);
+
+        assertEquals(5, alice.size());
+        assertEquals(OllamaChatMessageRole.SYSTEM, alice.get(0).getRole());
+        assertEquals(List.of("hi", "1", "again", "2"), contents(alice).subList(1, 5));
+        assertEquals(List.of("hello", "1"), contents(bob).subList(1, 3));
+        assertEquals(contents(alice), contents(runtime.getHistory("alice")));
+        assertEquals(2, runtime.getSessionCount());
+
+        assertTrue(runtime.endSession("alice"));
+        assertTrue(runtime.getHistory("alice").isEmpty());
+        assertEquals(1, runtime.getSessionCount());
+    }
+
+    @Test
+    void testTurnsOfASessionAreSerializedAndSessionsRunConcurrently() throws Exception {
+        answerWithUserMessageCount(50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String session = "session-" + (i % 2);
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return runtime.interact(session, "question", null);
+                                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (String session : List.of("session-0", "session-1")) {
+            List<String> history = contents(runtime.getHistory(session));
+            assertEquals(9, history.size());
+            assertEquals(
+                    List.of("1", "2", "3", "4"),
+                    List.of(history.get(2), history.get(4), history.get(6), history.get(8)));
+        }
+        assertEquals(2, maxConcurrentCalls.get());
+    }
+
+    @Test
+    void testIdleSessionsAreEvicted() throws Exception {
+        answerWithUserMessageCount(0);
+        runtime.interact("alice", "hi", null);
+
+        assertEquals(0, runtime.evictIdleSessions());
+
+        runtime.setSessionIdleTimeout(Duration.ZERO);
+        assertEquals(1, runtime.evictIdleSessions());
+        assertEquals(0, runtime.getSessionCount());
+
+        List<OllamaChatMessage> history = runtime.interact("alice", "hi again", null);
+        assertEquals(List.of("hi again", "1"), contents(history).subList(1, 3));
+    }
+
+    @Test
+    void testStoredSessionsAreRestoredLazily(@TempDir Path directory) throws Exception {
+        answerWithUserMessageCount(0);
+        runtime.setSessionStore(new FileSessionStore(directory));
+        runtime.interact("alice", "hi", null);
+        runtime.setSessionIdleTimeout(Duration.ZERO);
+        assertEquals(1, runtime.evictIdleSessions());
+
+        AgentRuntime restarted =
+                new AgentRuntime(new Agent("bot", ollama, "model", null, Collections.emptyList()));
+        restarted.setSessionStore(new FileSessionStore(directory));
+        try {
+            assertEquals(List.of("hi", "1"), contents(restarted.getHistory("alice")).subList(1, 3));
+            assertEquals(0, restarted.getSessionCount());
+
+            List<OllamaChatMessage> history = restarted.interact("alice", "again", null);
+            assertEquals(List.of("hi", "1", "again", "2"), contents(history).subList(1, 5));
+            assertEquals(
+                    contents(history), contents(new FileSessionStore(directory).load("alice")));
+
+            restarted.endSession("alice");
+            assertTrue(new FileSessionStore(directory).load("alice").isEmpty());
+        } finally {
+            restarted.close();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.agent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.agent.FileSessionStore;
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import io.github.ollama4j.models.chat.OllamaChatToolCalls;
+import io.github.ollama4j.tools.OllamaToolCallsFunction;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestFileSessionStore {
+
+    @TempDir Path directory;
+
+    private static OllamaChatMessage message(OllamaChatMessageRole role, String content) {
+        return new OllamaChatMessage(role, content);
+    }
+
+    private Path onlyLog() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> logs = files.collect(Collectors.toList());
+            assertEquals(1, logs.size());
+            return logs.get(0);
+        }
+    }
+
+    @Test
+    void testAppendedMessagesAreRestoredByANewStore() throws IOException {
+        OllamaChatMessage toolCall = message(OllamaChatMessageRole.ASSISTANT, "");
+        toolCall.setToolCalls(
+                List.of(
+                        new OllamaChatToolCalls(
+                                "call-1",
+                                new OllamaToolCallsFunction("weather", Map.of("city", "Paris")))));
+        toolCall.setImages(List.of(new byte[] {1, 2, 3}));
+        FileSessionStore store = new FileSessionStore(directory);
+        store.append("alice", List.of(message(OllamaChatMessageRole.USER, "hi\nthere")));
+        store.append("alice", List.of(toolCall));
+        store.append("bob", List.of(message(OllamaChatMessageRole.USER, "hello")));
+
+        List<OllamaChatMessage> restored = new FileSessionStore(directory).load("alice");
+
+        assertEquals(2, restored.size());
+        assertEquals("hi\nthere", restored.get(0).getResponse());
+        assertSame(OllamaChatMessageRole.USER, restored.get(0).getRole());
+        assertEquals(
+                "Paris",
+                restored.get(1).getToolCalls().get(0).getFunction().getArguments().get("city"));
+        assertArrayEquals(new byte[] {1, 2, 3}, restored.get(1).getImages().get(0));
+        assertEquals(1, store.load("bob").size());
+        assertTrue(store.load("carol").isEmpty());
+
+        store.delete("alice");
+        assertTrue(store.load("alice").isEmpty());
+    }
+
+    @Test
+    void testReplacedHistoryIsAppendedUntilTheLogIsCompacted() throws IOException {
+        FileSessionStore store = new FileSessionStore(directory);
+        store.setCompactionThresholdBytes(0);
+        store.append(
+                "alice",
+                List.of(message(OllamaChatMessageRole.USER, "a rather long first message")));
+
+        store.replace("alice", List.of(message(OllamaChatMessageRole.USER, "short")));
+        assertEquals(List.of("short"), contents(store.load("alice")));
+        // the dropped record is larger than the live one, so the log is compacted
+        assertEquals(1, Files.readAllLines(onlyLog()).size());
+
+        store.replace(
+                "alice",
+                List.of(
+                        message(OllamaChatMessageRole.USER, "short"),
+                        message(OllamaChatMessageRole.ASSISTANT, "a rather long answer")));
+        assertEquals(List.of("short", "a rather long answer"), contents(store.load("alice")));
+        // the dropped record is smaller, so the reset marker and the new history are appended
+        assertEquals(4, Files.readAllLines(onlyLog()).size());
+
+        store.compact("alice");
+        assertEquals(2, Files.readAllLines(onlyLog()).size());
+        assertEquals(List.of("short", "a rather long answer"), contents(store.load("alice")));
+    }
+
+    @Test
+    void testPartiallyWrittenRecordIsSkipped() throws IOException {
+        FileSessionStore store = new FileSessionStore(directory);
+        store.append("alice", List.of(message(OllamaChatMessageRole.USER, "hi")));
+        Files.write(
+                onlyLog(),
+                "{\"message\":{\"role\":\"assis".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(List.of("hi"), contents(store.load("alice")));
+
+        store.append("alice", List.of(message(OllamaChatMessageRole.ASSISTANT, "hello")));
+        assertEquals(List.of("hi", "hello"), contents(store.load("alice")));
+    }
+
+    @Test
+    void testCreatesDirectory() throws IOException {
+        File nested = directory.resolve("a").resolve("b").toFile();
+        new FileSessionStore(nested.toPath())
+                .append("s", List.of(message(OllamaChatMessageRole.USER, "x")));
+        assertTrue(nested.isDirectory());
+    }
+
+    private static List<String> contents(List<OllamaChatMessage> messages) {
+        return messages.stream().map(OllamaChatMessage::getResponse).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.cache.MetadataCache;
+import io.github.ollama4j.exceptions.OllamaException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class TestMetadataCache {
+
+    private static final String TAGS =
+            "{\"models\":[{\"name\":\"llama3.2:latest\",\"model\":\"llama3.2:latest\"}]}";
+
+    @Test
+    void testServesFromCacheUntilTtlExpires() throws OllamaException {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger loads = new AtomicInteger();
+        MetadataCache cache = new MetadataCache(clock::get);
+        cache.setTtl(MetadataCache.Endpoint.PS, Duration.ofSeconds(2));
+
+        assertEquals(1, cache.get(MetadataCache.Endpoint.PS, "", loads::incrementAndGet));
+        clock.set(1999);
+        assertEquals(1, cache.get(MetadataCache.Endpoint.PS, "", loads::incrementAndGet));
+        clock.set(2000);
+        assertEquals(2, cache.get(MetadataCache.Endpoint.PS, "", loads::incrementAndGet));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    void testZeroTtlDisablesCaching() throws OllamaException {
+        AtomicInteger loads = new AtomicInteger();
+        MetadataCache cache = new MetadataCache();
+        cache.setTtl(MetadataCache.Endpoint.LIST_MODELS, Duration.ZERO);
+
+        cache.get(MetadataCache.Endpoint.LIST_MODELS, "", loads::incrementAndGet);
+        cache.get(MetadataCache.Endpoint.LIST_MODELS, "", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testFailuresAreNotCached() throws OllamaException {
+        MetadataCache cache = new MetadataCache();
+        assertThrows(
+                OllamaException.class,
+                () ->
+                        cache.get(
+                                MetadataCache.Endpoint.MODEL_DETAILS,
+                                "m:latest",
+                                () -> {
+                                    throw new OllamaException("404 - model not found");
+                                }));
+        assertEquals("ok", cache.get(MetadataCache.Endpoint.MODEL_DETAILS, "m:latest", () -> "ok"));
+    }
+
+    @Test
+    void testResponseLoadedDuringInvalidationIsNotCached() throws OllamaException {
+        AtomicInteger loads = new AtomicInteger();
+        MetadataCache cache = new MetadataCache();
+        cache.get(
+                MetadataCache.Endpoint.PS,
+                "",
+                () -> {
+                    cache.invalidate(MetadataCache.Endpoint.PS);
+                    return loads.incrementAndGet();
+                });
+
+        assertEquals(2, cache.get(MetadataCache.Endpoint.PS, "", loads::incrementAndGet));
+        assertEquals(2, cache.get(MetadataCache.Endpoint.PS, "", loads::incrementAndGet));
+    }
+
+    @Test
+    void testInvalidateModelKeepsDetailsOfOtherModels() throws OllamaException {
+        AtomicInteger loads = new AtomicInteger();
+        MetadataCache cache = new MetadataCache();
+        cache.get(MetadataCache.Endpoint.MODEL_DETAILS, "a:latest", loads::incrementAndGet);
+        cache.get(MetadataCache.Endpoint.MODEL_DETAILS, "b:latest", loads::incrementAndGet);
+        cache.get(MetadataCache.Endpoint.LIST_MODELS, "", loads::incrementAndGet);
+
+        cache.invalidateModel("a:latest");
+        cache.get(MetadataCache.Endpoint.MODEL_DETAILS, "a:latest", loads::incrementAndGet);
+        cache.get(MetadataCache.Endpoint.MODEL_DETAILS, "b:latest", loads::incrementAndGet);
+        cache.get(MetadataCache.Endpoint.LIST_MODELS, "", loads::incrementAndGet);
+
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void testListModelsIsCachedAndInvalidatedByDelete() throws Exception {
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient mockClient = mock(HttpClient.class);
+            HttpResponse<String> tagsResponse = mock(HttpResponse.class);
+            HttpResponse<String> deleteResponse = mock(HttpResponse.class);
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(mockClient);
+            when(mockClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenAnswer(
+                            invocation -> {
+                                HttpRequest request = invocation.getArgument(0);
+                                return request.uri().getPath().equals("/api/tags")
+                                        ? tagsResponse
+                                        : deleteResponse;
+                            });
+            when(tagsResponse.statusCode()).thenReturn(200);
+            when(tagsResponse.body()).thenReturn(TAGS);
+            when(deleteResponse.statusCode()).thenReturn(200);
+            when(deleteResponse.body()).thenReturn("");
+
+            MetadataCache cache = new MetadataCache();
+            Ollama ollama = new Ollama();
+            ollama.setMetadataCache(cache);
+
+            assertEquals(1, ollama.listModels().size());
+            assertEquals(1, ollama.listModels().size());
+            assertEquals(1, cache.getHitCount());
+
+            ollama.deleteModel("llama3.2", false);
+            ollama.listModels();
+
+            assertEquals(2, cache.getMissCount());
+            verify(mockClient, times(3))
+                    .send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        }
+    }
+}
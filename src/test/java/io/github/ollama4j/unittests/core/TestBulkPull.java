@@ -0,0 +1,112 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.PullProgressTracker;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.response.ModelPullResponse;
+import io.github.ollama4j.models.response.ModelPullResult;
+import io.github.ollama4j.models.response.PullProgress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TestBulkPull {
+
+    private static ModelPullResponse layer(String digest, long completed, long total) {
+        ModelPullResponse response = new ModelPullResponse();
+        response.setStatus("pulling " + digest);
+        response.setDigest(digest);
+        response.setCompleted(completed);
+        response.setTotal(total);
+        return response;
+    }
+
+    @Test
+    void testPullModelsReportsPerModelOutcomeInOrder() throws OllamaException {
+        Ollama ollama = spy(new Ollama());
+        doNothing().when(ollama).pullModel(eq("good"), any());
+        doThrow(new OllamaException("manifest unknown")).when(ollama).pullModel(eq("bad"), any());
+        List<PullProgress> updates = Collections.synchronizedList(new ArrayList<>());
+
+        List<ModelPullResult> results = ollama.pullModels(List.of("good", "bad"), 2, updates::add);
+
+        assertEquals(2, results.size());
+        assertEquals("good", results.get(0).getModel());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("bad", results.get(1).getModel());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("manifest unknown", results.get(1).getError());
+
+        PullProgress last = updates.get(updates.size() - 1);
+        assertTrue(last.isFinished());
+        assertEquals(1, last.getCompletedModels());
+        assertEquals(1, last.getFailedModels());
+    }
+
+    @Test
+    void testPullModelsWithoutModels() throws OllamaException {
+        assertTrue(new Ollama().pullModels(List.of(), 4, null).isEmpty());
+    }
+
+    @Test
+    void testTrackerAggregatesBytesThroughputAndEta() {
+        AtomicLong clock = new AtomicLong();
+        List<PullProgress> updates = new ArrayList<>();
+        PullProgressTracker tracker =
+                new PullProgressTracker(
+                        List.of("a", "b"), updates::add, Duration.ofMillis(500), clock::get);
+
+        tracker.onStatusUpdate("a", layer("sha256:1", 0, 1000));
+        tracker.onStatusUpdate("b", layer("sha256:2", 0, 3000));
+        clock.set(1000);
+        tracker.onStatusUpdate("a", layer("sha256:1", 500, 1000));
+        tracker.onStatusUpdate("b", layer("sha256:2", 500, 3000));
+
+        PullProgress progress = tracker.snapshot();
+        assertEquals(4000, progress.getTotalBytes());
+        assertEquals(1000, progress.getCompletedBytes());
+        assertEquals(1000.0, progress.getBytesPerSecond(), 0.001);
+        assertEquals(Duration.ofSeconds(3), progress.getEta());
+        assertEquals(25.0, progress.getPercentage(), 0.001);
+
+        // First update notifies, the second and fourth are throttled.
+        assertEquals(2, updates.size());
+    }
+
+    @Test
+    void testTrackerDoesNotDoubleCountResumedLayers() {
+        PullProgressTracker tracker =
+                new PullProgressTracker(List.of("a"), null, Duration.ofMillis(500));
+
+        tracker.onStatusUpdate("a", layer("sha256:1", 800, 1000));
+        // The pull is retried and the server resumes the layer from where it stopped.
+        tracker.onStatusUpdate("a", layer("sha256:1", 800, 1000));
+        tracker.onStatusUpdate("a", layer("sha256:1", 900, 1000));
+
+        PullProgress progress = tracker.snapshot();
+        assertEquals(1000, progress.getTotalBytes());
+        assertEquals(900, progress.getCompletedBytes());
+
+        tracker.markCompleted("a");
+        progress = tracker.snapshot();
+        assertEquals(1000, progress.getCompletedBytes());
+        assertEquals(Duration.ZERO, progress.getEta());
+        assertEquals("success", progress.getModelStatus().get("a"));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.chat.OllamaChatMessage;
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import io.github.ollama4j.models.chat.OllamaChatRequest;
+import io.github.ollama4j.models.chat.OllamaChatResult;
+import io.github.ollama4j.tools.Tools;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class TestEagerToolDispatch {
+
+    private static final String TOOL_CALLS_CHUNK =
+            "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"\","
+                    + "\"tool_calls\":[{\"function\":{\"name\":\"slow\",\"arguments\":{\"id\":1}}},"
+                    + "{\"function\":{\"name\":\"unknown\",\"arguments\":{}}}]},\"done\":false}\n";
+    private static final String SECOND_TOOL_CALL_CHUNK =
+            "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"\",\"tool_calls\":[{\"function\":{\"name\":\"fast\",\"arguments\":{\"id\":2}}}]},\"done\":false}\n";
+    private static final String DONE_CHUNK =
+            "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"\"},\"done\":true}\n";
+    private static final String ANSWER =
+            "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"42\"},\"done\":false}\n"
+                    + DONE_CHUNK;
+
+    private final CountDownLatch slowToolStarted = new CountDownLatch(1);
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** A response that only continues after the slow tool has started, or after 2 seconds. */
+    private InputStream toolCallResponse() {
+        List<String> parts = List.of(TOOL_CALLS_CHUNK, SECOND_TOOL_CALL_CHUNK + DONE_CHUNK);
+        return new SequenceInputStream(
+                new Enumeration<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasMoreElements() {
+                        return index < parts.size();
+                    }
+
+                    @Override
+                    public InputStream nextElement() {
+                        if (index == 1) {
+                            try {
+                                slowToolStarted.await(2, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            events.add("stream-end");
+                        }
+                        return stream(parts.get(index++));
+                    }
+                });
+    }
+
+    private Tools.Tool tool(String name, long sleepMillis) {
+        return Tools.Tool.builder()
+                .toolSpec(
+                        Tools.ToolSpec.builder()
+                                .name(name)
+                                .description(name)
+                                .parameters(Tools.Parameters.of(Map.of()))
+                                .build())
+                .toolFunction(
+                        arguments -> {
+                            events.add(name + "-start");
+                            if (name.equals("slow")) {
+                                slowToolStarted.countDown();
+                            }
+                            try {
+                                Thread.sleep(sleepMillis);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return name + arguments.get("id");
+                        })
+                .build();
+    }
+
+    private OllamaChatResult chat(boolean eager) throws Exception {
+        return chat(eager, tool("fast", 10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private OllamaChatResult chat(boolean eager, Tools.Tool fast) throws Exception {
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient client = mock(HttpClient.class);
+            HttpResponse<InputStream> toolCalls = mock(HttpResponse.class);
+            HttpResponse<InputStream> answer = mock(HttpResponse.class);
+            when(toolCalls.statusCode()).thenReturn(200);
+            when(toolCalls.body()).thenReturn(toolCallResponse());
+            when(answer.statusCode()).thenReturn(200);
+            when(answer.body()).thenReturn(stream(ANSWER));
+            when(client.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(toolCalls, answer);
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(client);
+
+            Ollama ollama = new Ollama();
+            ollama.setEagerToolCallDispatch(eager);
+            ollama.setToolCallParallelism(2);
+            ollama.registerTool(tool("slow", 100));
+            ollama.registerTool(fast);
+            OllamaChatRequest request =
+                    OllamaChatRequest.builder()
+                            .withModel("m")
+                            .withMessage(OllamaChatMessageRole.USER, "question")
+                            .build();
+            return ollama.chat(request, token -> {});
+        }
+    }
+
+    private static List<String> toolResults(OllamaChatResult result) {
+        return result.getChatHistory().stream()
+                .filter(m -> m.getRole() == OllamaChatMessageRole.TOOL)
+                .map(OllamaChatMessage::getResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testToolCallsStartWhileResponseIsStreaming() throws Exception {
+        OllamaChatResult result = chat(true);
+
+        assertEquals("slow-start", events.get(0));
+        assertTrue(events.indexOf("slow-start") < events.indexOf("stream-end"));
+        assertEquals(
+                List.of(
+                        "[TOOL_RESULTS] slow(id): slow1 [/TOOL_RESULTS]",
+                        "[TOOL_RESULTS] fast(id): fast2 [/TOOL_RESULTS]"),
+                toolResults(result));
+        assertEquals("42", result.getResponseModel().getMessage().getResponse());
+    }
+
+    @Test
+    void testToolCallsStartAfterResponseByDefault() throws Exception {
+        OllamaChatResult result = chat(false);
+
+        assertEquals("stream-end", events.get(0));
+        // without eager dispatch only the tool calls of the last chunk are kept
+        assertEquals(
+                List.of("[TOOL_RESULTS] fast(id): fast2 [/TOOL_RESULTS]"), toolResults(result));
+    }
+
+    @Test
+    void testToolWithoutFunctionFailsStreamedTurn() {
+        Tools.Tool fast =
+                Tools.Tool.builder()
+                        .toolSpec(
+                                Tools.ToolSpec.builder()
+                                        .name("fast")
+                                        .description("fast")
+                                        .parameters(Tools.Parameters.of(Map.of()))
+                                        .build())
+                        .build();
+
+        OllamaException e = assertThrows(OllamaException.class, () -> chat(true, fast));
+
+        assertEquals("Tool function not found: fast", e.getMessage());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.response.Model;
+import io.github.ollama4j.utils.Utils;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+class TestEnsureModel {
+
+    private static final byte[] MANIFEST =
+            "{\"schemaVersion\":2,\"layers\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private static Model model(String name, String digest) {
+        Model model = new Model();
+        model.setName(name);
+        model.setDigest(digest);
+        return model;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpClient registryReturning(int statusCode) throws Exception {
+        HttpClient client = mock(HttpClient.class);
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(client.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(response);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.body()).thenReturn(MANIFEST);
+        return client;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void verifyManifestUri(HttpClient client, String expected) throws Exception {
+        ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(client, times(1)).send(captor.capture(), any(HttpResponse.BodyHandler.class));
+        assertEquals(expected, captor.getValue().uri().toString());
+    }
+
+    @Test
+    void testSkipsPullWhenDigestMatches() throws Exception {
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient registry = registryReturning(200);
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(registry);
+            Ollama ollama = spy(new Ollama());
+            doReturn(List.of(model("llama3.2:latest", Utils.sha256Hex(MANIFEST))))
+                    .when(ollama)
+                    .listModels();
+
+            assertFalse(ollama.ensureModel("llama3.2"));
+            assertFalse(ollama.ensureModel("llama3.2:latest"));
+
+            verify(ollama, never()).pullModel(anyString());
+            verify(ollama, times(1)).listModels();
+            verifyManifestUri(
+                    registry, "https://registry.ollama.ai/v2/library/llama3.2/manifests/latest");
+        }
+    }
+
+    @Test
+    void testPullsWhenDigestDiffers() throws Exception {
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient registry = registryReturning(200);
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(registry);
+            Ollama ollama = spy(new Ollama());
+            doReturn(List.of(model("llama3.2:latest", "sha256:0000"))).when(ollama).listModels();
+            doNothing().when(ollama).pullModel(anyString());
+
+            assertTrue(ollama.ensureModel("llama3.2"));
+            verify(ollama, times(1)).pullModel("llama3.2");
+        }
+    }
+
+    @Test
+    void testKeepsLocalModelWhenRegistryIsUnreachable() throws Exception {
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient registry = registryReturning(503);
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(registry);
+            Ollama ollama = spy(new Ollama());
+            doReturn(List.of(model("llama3.2:latest", "0000"))).when(ollama).listModels();
+
+            assertFalse(ollama.ensureModel("llama3.2"));
+            verify(ollama, never()).pullModel(anyString());
+        }
+    }
+
+    @Test
+    void testCoalescesConcurrentCallsForMissingModel() throws Exception {
+        Ollama ollama = spy(new Ollama());
+        doReturn(List.of()).when(ollama).listModels();
+        CountDownLatch pulling = new CountDownLatch(1);
+        doAnswer(
+                        invocation -> {
+                            pulling.countDown();
+                            Thread.sleep(200);
+                            return null;
+                        })
+                .when(ollama)
+                .pullModel(anyString());
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return ollama.ensureModel("qwen3:0.6b");
+                                }));
+            }
+            start.countDown();
+            assertTrue(pulling.await(5, TimeUnit.SECONDS));
+            for (Future<Boolean> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(ollama, times(1)).pullModel("qwen3:0.6b");
+    }
+
+    @Test
+    void testPropagatesPullFailure() throws OllamaException {
+        Ollama ollama = spy(new Ollama());
+        doReturn(List.of()).when(ollama).listModels();
+        doThrow(new OllamaException("manifest unknown")).when(ollama).pullModel(anyString());
+
+        OllamaException e =
+                assertThrows(OllamaException.class, () -> ollama.ensureModel("missing"));
+        assertEquals("manifest unknown", e.getMessage());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.response.Model;
+import io.github.ollama4j.models.response.ModelPreloadResult;
+import io.github.ollama4j.models.response.OllamaResult;
+import io.github.ollama4j.residency.AdaptiveKeepAlive;
+import io.github.ollama4j.residency.ModelResidencyManager;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TestModelPreload {
+
+    private static Model model(String name) {
+        Model model = new Model();
+        model.setName(name);
+        return model;
+    }
+
+    private static OllamaResult loadResult(long loadDurationNanos) {
+        OllamaResult result = new OllamaResult("", "", 0, 200);
+        result.setLoadDuration(loadDurationNanos);
+        return result;
+    }
+
+    @Test
+    void testPreloadPullsOnlyMissingModels() throws OllamaException {
+        Ollama ollama = spy(new Ollama());
+        doReturn(List.of(model("llama3.2:latest"))).when(ollama).listModels();
+        doNothing().when(ollama).pullModel(anyString());
+        doReturn(loadResult(2_000_000_000L)).when(ollama).loadModel(anyString(), eq("30m"));
+
+        List<ModelPreloadResult> results =
+                ollama.preloadModels(List.of("llama3.2", "qwen3:0.6b"), "30m", null);
+
+        assertEquals(2, results.size());
+        assertEquals("llama3.2", results.get(0).getModel());
+        assertTrue(results.get(0).isReady());
+        assertFalse(results.get(0).isPulled());
+        assertEquals(2000, results.get(0).getServerLoadDurationMillis());
+        assertEquals("qwen3:0.6b", results.get(1).getModel());
+        assertTrue(results.get(1).isReady());
+        assertTrue(results.get(1).isPulled());
+        verify(ollama, times(1)).pullModel("qwen3:0.6b");
+        verify(ollama, never()).pullModel("llama3.2");
+        verify(ollama, never()).generate(any(), any());
+    }
+
+    @Test
+    void testPreloadRunsWarmUpAndReportsFailuresPerModel() throws Exception {
+        // the models are preloaded on other threads, so the server is not mocked statically
+        AtomicInteger warmUps = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/api/generate",
+                exchange -> {
+                    warmUps.incrementAndGet();
+                    byte[] body =
+                            "{\"model\":\"good\",\"response\":\"hi\",\"done\":true}\n"
+                                    .getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                });
+        server.start();
+        try {
+            Ollama ollama = spy(new Ollama("http://localhost:" + server.getAddress().getPort()));
+            AdaptiveKeepAlive adaptiveKeepAlive = mock(AdaptiveKeepAlive.class);
+            ModelResidencyManager residencyManager = mock(ModelResidencyManager.class);
+            ollama.setAdaptiveKeepAlive(adaptiveKeepAlive);
+            ollama.setResidencyManager(residencyManager);
+            doReturn(List.of(model("good:latest"), model("bad:latest"))).when(ollama).listModels();
+            doReturn(loadResult(0)).when(ollama).loadModel(eq("good"), any());
+            doThrow(new OllamaException("out of memory")).when(ollama).loadModel(eq("bad"), any());
+
+            List<ModelPreloadResult> results =
+                    ollama.preloadModels(List.of("good", "bad"), null, "Hello");
+
+            assertTrue(results.get(0).isReady());
+            assertNull(results.get(0).getError());
+            assertFalse(results.get(1).isReady());
+            assertEquals("out of memory", results.get(1).getError());
+            assertEquals(1, warmUps.get());
+            // the warm-up request is not traffic of the model
+            verify(adaptiveKeepAlive, never()).recordArrival(anyString());
+            verify(residencyManager, never()).recordRequest(anyString());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testPreloadReportsListingFailure() throws OllamaException {
+        Ollama ollama = spy(new Ollama());
+        doThrow(new OllamaException("connection refused")).when(ollama).listModels();
+
+        List<ModelPreloadResult> results = ollama.preloadModels(List.of("llama3.2"), null, null);
+
+        assertEquals(1, results.size());
+        assertFalse(results.get(0).isReady());
+        assertTrue(results.get(0).getError().contains("connection refused"));
+        verify(ollama, never()).loadModel(anyString(), any());
+    }
+
+    @Test
+    void testPreloadWithNoModels() throws OllamaException {
+        Ollama ollama = new Ollama();
+        assertTrue(ollama.preloadModels(List.of(), null, null).isEmpty());
+    }
+}
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.*;
 
 import io.github.ollama4j.Ollama;
 import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.tools.mcp.McpSessionPool;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
@@ -70,4 +71,16 @@ class TestOllama {
             assertFalse(ollama.ping());
         }
     }
+
+    @Test
+    void testCloseClosesMcpSessionPool() {
+        McpSessionPool pool = mock(McpSessionPool.class);
+        Ollama ollama = new Ollama();
+        ollama.setMcpSessionPool(pool);
+        assertSame(pool, ollama.getMcpSessionPool());
+
+        ollama.close();
+
+        verify(pool).close();
+    }
 }
@@ -9,14 +9,17 @@
 package io.github.ollama4j.unittests.jackson;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 
 import io.github.ollama4j.models.chat.OllamaChatMessageRole;
 import io.github.ollama4j.models.chat.OllamaChatRequest;
+import io.github.ollama4j.tools.Tools;
 import io.github.ollama4j.utils.OptionsBuilder;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -148,4 +151,40 @@ public class TestChatRequestSerialization extends AbstractSerializationTest<Olla
                 expectedKeepAlive,
                 deserialize(jsonRequest, OllamaChatRequest.class).getKeepAlive());
     }
+
+    @Test
+    public void testWithPreSerializedTools() throws Exception {
+        Tools.ToolSpec spec =
+                Tools.ToolSpec.builder()
+                        .name("weather")
+                        .description("Gets the weather")
+                        .parameters(
+                                Tools.Parameters.of(
+                                        Map.of(
+                                                "city",
+                                                Tools.Property.builder()
+                                                        .type("string")
+                                                        .description("The city")
+                                                        .required(true)
+                                                        .build())))
+                        .build();
+        Tools.Tool tool = Tools.Tool.builder().toolSpec(spec).build();
+        OllamaChatRequest req = builder.withTools(new ArrayList<>(List.of(tool))).build();
+
+        JSONObject expected =
+                new JSONObject(mapper.writeValueAsString(Map.of("tools", List.of(tool))));
+        JSONObject actual = new JSONObject(serialize(req));
+        assertEquals(
+                expected.getJSONArray("tools").toString(), actual.getJSONArray("tools").toString());
+        assertSame(tool.toJson(), tool.toJson());
+
+        tool.setToolSpec(Tools.ToolSpec.builder().name("forecast").build());
+        assertEquals(
+                "forecast",
+                new JSONObject(serialize(req))
+                        .getJSONArray("tools")
+                        .getJSONObject(0)
+                        .getJSONObject("function")
+                        .getString("name"));
+    }
 }
@@ -9,19 +9,29 @@
 package io.github.ollama4j.unittests.metrics;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
 import io.github.ollama4j.models.request.ThinkMode;
+import io.prometheus.client.CollectorRegistry;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class TestMetricsRecorder {
 
+    private final CollectorRegistry registry = new CollectorRegistry();
+    private final PrometheusMetricsSink sink = new PrometheusMetricsSink(registry);
+
     @Test
     void testRecord() {
         assertDoesNotThrow(
                 () ->
                         MetricsRecorder.record(
+                                sink,
                                 "endpoint",
                                 "model",
                                 true,
@@ -39,6 +49,7 @@ class TestMetricsRecorder {
         assertDoesNotThrow(
                 () ->
                         MetricsRecorder.record(
+                                sink,
                                 "endpoint",
                                 "model",
                                 false,
@@ -56,6 +67,7 @@ class TestMetricsRecorder {
         assertDoesNotThrow(
                 () ->
                         MetricsRecorder.record(
+                                sink,
                                 "endpoint",
                                 "model",
                                 false,
@@ -67,4 +79,73 @@ class TestMetricsRecorder {
                                 200,
                                 "response"));
     }
+
+    private Double requests(String... labels) {
+        return registry.getSampleValue(
+                "ollama_api_requests_total",
+                MetricsRecorder.REQUEST_LABELS.toArray(new String[0]),
+                labels);
+    }
+
+    private void record(String endpoint, Map<String, Object> options, Object format) {
+        MetricsRecorder.record(
+                sink,
+                endpoint,
+                "model",
+                false,
+                null,
+                false,
+                options,
+                format,
+                System.currentTimeMillis(),
+                200,
+                "response");
+    }
+
+    @Test
+    void testOptionsAndFormatAreNormalized() {
+        record("normalized", Map.of("temperature", 0.1, "seed", 1), Map.of("type", "object"));
+        record("normalized", Map.of("seed", 2, "temperature", 0.7), Map.of("type", "array"));
+        record("normalized", null, "json");
+
+        assertEquals(
+                2.0,
+                requests(
+                        "normalized",
+                        "model",
+                        "false",
+                        "false",
+                        "null",
+                        "200",
+                        "[seed, temperature]",
+                        "schema"));
+        assertEquals(
+                1.0,
+                requests("normalized", "model", "false", "false", "null", "200", "none", "json"));
+    }
+
+    @Test
+    void testLabelsOutsideTheAllowlistAreDropped() {
+        sink.setLabelAllowlist(Set.of("model", "http_status"));
+        record("allowlist", Map.of("seed", 1), "json");
+
+        assertEquals(1.0, requests("allowlist", "model", "*", "*", "*", "200", "*", "*"));
+    }
+
+    @Test
+    void testSeriesBeyondTheCapAreRecordedInTheOverflowSeries() {
+        record("capped", null, null);
+        sink.setMaxSeriesPerMetric(1);
+        record("capped", null, null);
+        record("capped-new", null, null);
+        record("capped-other", null, null);
+
+        assertEquals(
+                2.0, requests("capped", "model", "false", "false", "null", "200", "none", "none"));
+        assertEquals(
+                2.0,
+                requests(Collections.nCopies(8, MetricsRecorder.OVERFLOW).toArray(new String[0])));
+        assertNull(
+                requests("capped-new", "model", "false", "false", "null", "200", "none", "none"));
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.cache.MetadataCache;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.metrics.InMemoryMetricsSink;
+import io.github.ollama4j.metrics.Metric;
+import io.github.ollama4j.metrics.MetricsRecorder;
+import io.github.ollama4j.metrics.MetricsSink;
+import io.github.ollama4j.metrics.PrometheusMetricsSink;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TestMetricsSinks {
+
+    private static void record(MetricsSink sink, String endpoint, int status) {
+        MetricsRecorder.record(
+                sink,
+                endpoint,
+                "model",
+                false,
+                null,
+                true,
+                null,
+                null,
+                System.currentTimeMillis(),
+                status,
+                "response");
+    }
+
+    @Test
+    void testInMemorySinkAggregatesConcurrentObservations() throws Exception {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 1000; i++) {
+                                    record(sink, "in-memory", 200);
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        MetricsRecorder.recordInterTokenLatency(sink, "/api/chat", "m", 0.02);
+        MetricsRecorder.recordInterTokenLatency(sink, "/api/chat", "m", 0.04);
+        MetricsRecorder.recordInterTokenLatency(sink, "/api/chat", "m", 3);
+        MetricsRecorder.recordResidency(sink, 2, 1024);
+
+        assertEquals(
+                8000,
+                sink.getValue(
+                        "ollama_api_requests_total",
+                        "in-memory",
+                        "model",
+                        "false",
+                        "true",
+                        "null",
+                        "200",
+                        "none",
+                        "none"));
+        assertEquals(
+                3, sink.getCount("ollama_stream_inter_token_latency_seconds", "/api/chat", "m"));
+        assertEquals(
+                3.06,
+                sink.getSum("ollama_stream_inter_token_latency_seconds", "/api/chat", "m"),
+                1e-9);
+        assertEquals(
+                0.025,
+                sink.getQuantile(
+                        "ollama_stream_inter_token_latency_seconds", 0.3, "/api/chat", "m"));
+        assertEquals(
+                Double.POSITIVE_INFINITY,
+                sink.getQuantile(
+                        "ollama_stream_inter_token_latency_seconds", 0.99, "/api/chat", "m"));
+        assertEquals(1024, sink.getValue("ollama_resident_vram_bytes"));
+    }
+
+    @Test
+    void testNoopSinkReceivesNothing() {
+        AtomicInteger calls = new AtomicInteger();
+        MetricsSink sink =
+                new MetricsSink() {
+                    @Override
+                    public boolean isEnabled() {
+                        return false;
+                    }
+
+                    @Override
+                    public void increment(Metric metric, double amount, String... labels) {
+                        calls.incrementAndGet();
+                    }
+
+                    @Override
+                    public void set(Metric metric, double value, String... labels) {
+                        calls.incrementAndGet();
+                    }
+
+                    @Override
+                    public void observe(Metric metric, double value, String... labels) {
+                        calls.incrementAndGet();
+                    }
+                };
+
+        record(sink, "disabled", 200);
+        MetricsRecorder.recordTimeToFirstToken(sink, "/api/chat", "m", 0.1);
+        MetricsRecorder.recordToolSelection(sink, 1, 2, 3);
+        MetricsRecorder.recordResidency(sink, 1, 1);
+
+        assertEquals(0, calls.get());
+        assertDoesNotThrow(() -> record(MetricsSink.NOOP, "disabled", 500));
+    }
+
+    @Test
+    void testDisablingMetricsAffectsOnlyItsClient() throws OllamaException {
+        InMemoryMetricsSink sink = new InMemoryMetricsSink();
+        Ollama disabled = new Ollama();
+        Ollama enabled = new Ollama();
+        disabled.setMetricsSink(sink);
+        enabled.setMetricsSink(sink);
+        MetadataCache cache = new MetadataCache();
+        disabled.setMetadataCache(cache);
+
+        disabled.setMetricsEnabled(false);
+        cache.get(MetadataCache.Endpoint.PS, "", () -> "ps");
+        record(disabled.getMetricsSink(), "suspended", 200);
+        record(enabled.getMetricsSink(), "suspended", 200);
+
+        assertSame(MetricsSink.NOOP, disabled.getMetricsSink());
+        assertSame(sink, enabled.getMetricsSink());
+        assertEquals(0, sink.getValue("ollama_metadata_cache_lookups_total", "/api/ps", "miss"));
+
+        disabled.setMetricsEnabled(true);
+        cache.get(MetadataCache.Endpoint.PS, "", () -> "ps");
+        record(disabled.getMetricsSink(), "suspended", 200);
+
+        assertEquals(1, sink.getValue("ollama_metadata_cache_lookups_total", "/api/ps", "hit"));
+        assertEquals(
+                2,
+                sink.getValue(
+                        "ollama_api_requests_total",
+                        "suspended",
+                        "model",
+                        "false",
+                        "true",
+                        "null",
+                        "200",
+                        "none",
+                        "none"));
+    }
+
+    @Test
+    void testSeriesAreBoundedPerSink() {
+        InMemoryMetricsSink first = new InMemoryMetricsSink();
+        InMemoryMetricsSink second = new InMemoryMetricsSink();
+        first.setMaxSeriesPerMetric(1);
+        second.setMaxSeriesPerMetric(1);
+
+        record(first, "first", 200);
+        record(first, "other", 200);
+        record(second, "second", 200);
+
+        assertEquals(1, requests(first, "first"));
+        assertEquals(0, requests(first, "other"));
+        assertEquals(
+                1,
+                first.getValue(
+                        "ollama_api_requests_total",
+                        Collections.nCopies(8, MetricsRecorder.OVERFLOW).toArray(new String[0])));
+        assertEquals(1, requests(second, "second"));
+    }
+
+    private static double requests(InMemoryMetricsSink sink, String endpoint) {
+        return sink.getValue(
+                "ollama_api_requests_total",
+                endpoint,
+                "model",
+                "false",
+                "true",
+                "null",
+                "200",
+                "none",
+                "none");
+    }
+
+    @Test
+    void testPrometheusSinkRegistersMetricsInItsRegistry() {
+        CollectorRegistry registry = new CollectorRegistry();
+        PrometheusMetricsSink sink = new PrometheusMetricsSink(registry);
+
+        record(sink, "prometheus", 404);
+        MetricsRecorder.recordToolTimeSaved(sink, 1500);
+
+        assertEquals(
+                1.0,
+                registry.getSampleValue(
+                        "ollama_api_requests_total",
+                        MetricsRecorder.REQUEST_LABELS.toArray(new String[0]),
+                        new String[] {
+                            "prometheus", "model", "false", "true", "null", "404", "none", "none"
+                        }));
+        assertEquals(1.5, registry.getSampleValue("ollama_tool_calls_time_saved_seconds_total"));
+        assertNull(
+                CollectorRegistry.defaultRegistry.getSampleValue(
+                        "ollama_api_requests_total",
+                        MetricsRecorder.REQUEST_LABELS.toArray(new String[0]),
+                        new String[] {
+                            "prometheus", "model", "false", "true", "null", "404", "none", "none"
+                        }));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import io.github.ollama4j.models.chat.OllamaChatRequest;
+import io.github.ollama4j.models.chat.OllamaChatResult;
+import io.github.ollama4j.models.generate.OllamaGenerateRequest;
+import io.github.ollama4j.models.request.OllamaChatEndpointCaller;
+import io.github.ollama4j.models.request.OllamaGenerateEndpointCaller;
+import io.github.ollama4j.models.response.OllamaResult;
+import io.prometheus.client.CollectorRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class TestStreamingMetrics {
+
+    private static double sample(String metric, String endpoint, String model) {
+        Double value =
+                CollectorRegistry.defaultRegistry.getSampleValue(
+                        metric, new String[] {"endpoint", "model"}, new String[] {endpoint, model});
+        return value != null ? value : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MockedStatic<HttpClient> respondWith(String body) throws Exception {
+        MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class);
+        HttpClient client = mock(HttpClient.class);
+        HttpResponse<InputStream> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body())
+                .thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        when(client.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(response);
+        mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(client);
+        return mockedHttpClient;
+    }
+
+    @Test
+    void testStreamedChatRecordsFirstTokenGapsAndSpeed() throws Exception {
+        String body =
+                "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"\",\"thinking\":\"hm\"},\"done\":false}\n"
+                    + "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"4\"},\"done\":false}\n"
+                    + "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"2\"},\"done\":false}\n"
+                    + "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"\"},\"done\":true,\"eval_count\":30,\"eval_duration\":1500000000}\n";
+        OllamaChatRequest request =
+                OllamaChatRequest.builder()
+                        .withModel("stream-chat")
+                        .withMessage(OllamaChatMessageRole.USER, "6 * 7?")
+                        .withStreaming()
+                        .build();
+        OllamaChatResult result;
+        try (MockedStatic<HttpClient> ignored = respondWith(body)) {
+            result =
+                    new OllamaChatEndpointCaller("http://localhost:11434", null, 10)
+                            .call(request, token -> {});
+        }
+
+        assertEquals(
+                1,
+                sample(
+                        "ollama_stream_time_to_first_token_seconds_count",
+                        "/api/chat",
+                        "stream-chat"));
+        assertEquals(
+                2,
+                sample(
+                        "ollama_stream_inter_token_latency_seconds_count",
+                        "/api/chat",
+                        "stream-chat"));
+        assertEquals(
+                20,
+                sample("ollama_generation_tokens_per_second_sum", "/api/chat", "stream-chat"),
+                1e-9);
+        assertEquals(Duration.ofMillis(1500), result.getTimings().getEvalDuration());
+        assertEquals(30, result.getTimings().getEvalCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTimeToFirstTokenIncludesWaitingForResponseHeaders() throws Exception {
+        String body =
+                "{\"model\":\"m\",\"response\":\"4\",\"done\":false}\n"
+                        + "{\"model\":\"m\",\"response\":\"2\",\"done\":true}\n";
+        OllamaGenerateRequest request =
+                OllamaGenerateRequest.builder()
+                        .withModel("slow-headers")
+                        .withPrompt("6 * 7?")
+                        .withStreaming(true)
+                        .build();
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient client = mock(HttpClient.class);
+            HttpResponse<InputStream> response = mock(HttpResponse.class);
+            when(response.statusCode()).thenReturn(200);
+            when(response.body())
+                    .thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+            when(client.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenAnswer(
+                            invocation -> {
+                                Thread.sleep(100);
+                                return response;
+                            });
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(client);
+            new OllamaGenerateEndpointCaller("http://localhost:11434", null, 10)
+                    .call(request, null, token -> {});
+        }
+
+        assertEquals(
+                1,
+                sample(
+                        "ollama_stream_time_to_first_token_seconds_count",
+                        "/api/generate",
+                        "slow-headers"));
+        assertTrue(
+                sample(
+                                "ollama_stream_time_to_first_token_seconds_sum",
+                                "/api/generate",
+                                "slow-headers")
+                        >= 0.1);
+    }
+
+    @Test
+    void testServerTimingsAreRecordedPerPhase() throws Exception {
+        String body =
+                "{\"model\":\"m\",\"response\":\"42\",\"done\":true,"
+                        + "\"total_duration\":2000000000,\"load_duration\":1200000000,"
+                        + "\"prompt_eval_duration\":300000000,\"eval_duration\":400000000}\n";
+        OllamaGenerateRequest request =
+                OllamaGenerateRequest.builder()
+                        .withModel("timed-generate")
+                        .withPrompt("6 * 7?")
+                        .build();
+        OllamaResult result;
+        try (MockedStatic<HttpClient> ignored = respondWith(body)) {
+            result =
+                    new OllamaGenerateEndpointCaller("http://localhost:11434", null, 10)
+                            .call(request, null, null);
+        }
+
+        assertTrue(result.getTimings().isColdLoad());
+        assertNotNull(result.getTimings().getClientOverhead());
+        for (String phase : new String[] {"total", "load", "prompt_eval", "eval"}) {
+            assertEquals(
+                    1.0,
+                    CollectorRegistry.defaultRegistry.getSampleValue(
+                            "ollama_server_duration_seconds_count",
+                            new String[] {"endpoint", "model", "phase"},
+                            new String[] {"/api/generate", "timed-generate", phase}));
+        }
+        assertEquals(
+                1,
+                sample("ollama_client_overhead_seconds_count", "/api/generate", "timed-generate"));
+        assertEquals(1, sample("ollama_cold_loads_total", "/api/generate", "timed-generate"));
+    }
+
+    @Test
+    void testNonStreamedGenerateRecordsOnlySpeed() throws Exception {
+        String body =
+                "{\"model\":\"m\",\"response\":\"42\",\"done\":true,"
+                        + "\"eval_count\":10,\"eval_duration\":250000000}\n";
+        OllamaGenerateRequest request =
+                OllamaGenerateRequest.builder()
+                        .withModel("sync-generate")
+                        .withPrompt("6 * 7?")
+                        .withStreaming(false)
+                        .build();
+        try (MockedStatic<HttpClient> ignored = respondWith(body)) {
+            new OllamaGenerateEndpointCaller("http://localhost:11434", null, 10)
+                    .call(request, null, null);
+        }
+
+        assertEquals(
+                0,
+                sample(
+                        "ollama_stream_time_to_first_token_seconds_count",
+                        "/api/generate",
+                        "sync-generate"));
+        assertEquals(
+                40,
+                sample("ollama_generation_tokens_per_second_sum", "/api/generate", "sync-generate"),
+                1e-9);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.models.response;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.ollama4j.models.response.OllamaTimings;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class TestOllamaTimings {
+
+    @Test
+    void testBreakdownOfAColdRequest() {
+        OllamaTimings timings =
+                new OllamaTimings(
+                        3_100_000_000L,
+                        3_000_000_000L,
+                        2_000_000_000L,
+                        200_000_000L,
+                        500_000_000L,
+                        40,
+                        25);
+
+        assertEquals(Duration.ofMillis(100), timings.getClientOverhead());
+        assertEquals(Duration.ofSeconds(2), timings.getLoadDuration());
+        assertTrue(timings.isColdLoad());
+        assertEquals(200, timings.getPromptTokensPerSecond(), 1e-9);
+        assertEquals(50, timings.getTokensPerSecond(), 1e-9);
+    }
+
+    @Test
+    void testMissingDurationsAreNull() {
+        OllamaTimings timings = new OllamaTimings(1_000_000L, null, 1_000L, null, null, 3, null);
+
+        assertNull(timings.getTotalDuration());
+        assertNull(timings.getClientOverhead());
+        assertFalse(timings.isColdLoad());
+        assertEquals(0, timings.getTokensPerSecond());
+        assertEquals(0, timings.getEvalCount());
+    }
+
+    @Test
+    void testClientOverheadIsNeverNegative() {
+        OllamaTimings timings = new OllamaTimings(900L, 1_000L, null, null, null, null, null);
+
+        assertEquals(Duration.ZERO, timings.getClientOverhead());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.residency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.embed.OllamaEmbedRequest;
+import io.github.ollama4j.residency.AdaptiveKeepAlive;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class TestAdaptiveKeepAlive {
+
+    private static void arrivals(AdaptiveKeepAlive keepAlive, String model, long... gapsMillis) {
+        long time = 1_000_000L;
+        keepAlive.recordArrival(model, time);
+        for (long gap : gapsMillis) {
+            time += gap;
+            keepAlive.recordArrival(model, time);
+        }
+    }
+
+    @Test
+    void testUsesDefaultUntilEnoughSamples() {
+        AdaptiveKeepAlive keepAlive = new AdaptiveKeepAlive();
+        keepAlive.setDefaultKeepAlive("5m");
+        arrivals(keepAlive, "llama3.2", 60_000, 60_000);
+
+        assertEquals("5m", keepAlive.keepAliveFor("llama3.2"));
+        assertEquals(AdaptiveKeepAlive.Mode.STATIC, keepAlive.modeFor("llama3.2"));
+    }
+
+    @Test
+    void testCoversPercentileOfIdleGaps() {
+        AdaptiveKeepAlive keepAlive = new AdaptiveKeepAlive();
+        keepAlive.setPercentile(0.9);
+        keepAlive.setHeadroomFactor(1.0);
+        arrivals(
+                keepAlive,
+                "llama3.2:latest",
+                10_000,
+                20_000,
+                30_000,
+                40_000,
+                50_000,
+                60_000,
+                70_000,
+                80_000,
+                90_000,
+                400_000);
+
+        assertEquals("90s", keepAlive.keepAliveFor("llama3.2"));
+        assertEquals(AdaptiveKeepAlive.Mode.ADAPTIVE, keepAlive.modeFor("llama3.2"));
+    }
+
+    @Test
+    void testClampsToBounds() {
+        AdaptiveKeepAlive keepAlive = new AdaptiveKeepAlive();
+        keepAlive.setMinKeepAlive(Duration.ofSeconds(30));
+        keepAlive.setMaxKeepAlive(Duration.ofMinutes(10));
+        arrivals(keepAlive, "fast", 100, 100, 100, 100, 100);
+        arrivals(keepAlive, "slow", 3_600_000, 3_600_000, 3_600_000, 3_600_000, 3_600_000);
+
+        assertEquals("30s", keepAlive.keepAliveFor("fast"));
+        assertEquals("600s", keepAlive.keepAliveFor("slow"));
+    }
+
+    @Test
+    void testOverrideWins() {
+        AdaptiveKeepAlive keepAlive = new AdaptiveKeepAlive();
+        arrivals(keepAlive, "llama3.2", 1000, 1000, 1000, 1000, 1000);
+        keepAlive.setOverride("llama3.2", "-1");
+
+        assertEquals("-1", keepAlive.keepAliveFor("llama3.2"));
+        assertEquals(AdaptiveKeepAlive.Mode.STATIC, keepAlive.modeFor("llama3.2"));
+
+        keepAlive.removeOverride("llama3.2");
+        assertEquals(AdaptiveKeepAlive.Mode.ADAPTIVE, keepAlive.modeFor("llama3.2"));
+    }
+
+    @Test
+    void testColdLoadRatePerMode() {
+        AdaptiveKeepAlive keepAlive = new AdaptiveKeepAlive();
+        keepAlive.setColdLoadThreshold(Duration.ofMillis(500));
+        keepAlive.recordLoad("m", 2_000_000_000L, AdaptiveKeepAlive.Mode.STATIC);
+        keepAlive.recordLoad("m", 1_000_000L, AdaptiveKeepAlive.Mode.STATIC);
+        keepAlive.recordLoad("m", 1_000_000L, AdaptiveKeepAlive.Mode.ADAPTIVE);
+        keepAlive.recordLoad("m", null, AdaptiveKeepAlive.Mode.ADAPTIVE);
+
+        assertEquals(0.5, keepAlive.getColdLoadRate(AdaptiveKeepAlive.Mode.STATIC));
+        assertEquals(0.0, keepAlive.getColdLoadRate(AdaptiveKeepAlive.Mode.ADAPTIVE));
+    }
+
+    @Test
+    void testEmbedAppliesAndRestoresKeepAlive()
+            throws OllamaException, InterruptedException, java.io.IOException {
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient mockClient = mock(HttpClient.class);
+            HttpResponse<String> mockResponse = mock(HttpResponse.class);
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(mockClient);
+            when(mockClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(mockResponse);
+            when(mockResponse.statusCode()).thenReturn(200);
+            when(mockResponse.body())
+                    .thenReturn(
+                            "{\"model\":\"m\",\"embeddings\":[[0.1]],\"load_duration\":"
+                                    + "3000000000}");
+
+            AdaptiveKeepAlive keepAlive = new AdaptiveKeepAlive();
+            keepAlive.setDefaultKeepAlive("2m");
+            Ollama ollama = new Ollama();
+            ollama.setAdaptiveKeepAlive(keepAlive);
+
+            OllamaEmbedRequest request = new OllamaEmbedRequest("m", List.of("text"));
+            ollama.embed(request);
+
+            assertNull(request.getKeepAlive());
+            assertEquals(1.0, keepAlive.getColdLoadRate(AdaptiveKeepAlive.Mode.STATIC));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.residency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.ps.ModelProcessesResult;
+import io.github.ollama4j.residency.ModelResidencyManager;
+import io.github.ollama4j.residency.ResidencyReport;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TestModelResidencyManager {
+
+    private static final long GB = 1024L * 1024 * 1024;
+
+    private static ModelProcessesResult.ModelProcess process(
+            String name, long sizeVram, OffsetDateTime expiresAt) {
+        ModelProcessesResult.ModelProcess process = new ModelProcessesResult.ModelProcess();
+        process.setName(name);
+        process.setModel(name);
+        process.setSizeVram(sizeVram);
+        process.setExpiresAt(expiresAt.toString());
+        return process;
+    }
+
+    private static ModelProcessesResult ps(ModelProcessesResult.ModelProcess... processes) {
+        ModelProcessesResult result = new ModelProcessesResult();
+        result.setModels(List.of(processes));
+        return result;
+    }
+
+    @Test
+    void testEvictsLeastRequestedModelsOverBudget() throws OllamaException {
+        Ollama ollama = mock(Ollama.class);
+        OffsetDateTime later = OffsetDateTime.now().plusHours(1);
+        when(ollama.ps())
+                .thenReturn(
+                        ps(
+                                process("hot:latest", 6 * GB, later),
+                                process("warm:latest", 4 * GB, later),
+                                process("cold:latest", 4 * GB, later)));
+
+        ModelResidencyManager manager = new ModelResidencyManager(ollama, 10 * GB);
+        for (int i = 0; i < 5; i++) {
+            manager.recordRequest("hot");
+        }
+        manager.recordRequest("warm");
+
+        ResidencyReport report = manager.reconcile();
+
+        assertEquals(List.of("hot:latest", "warm:latest"), report.getKept());
+        assertEquals(List.of("cold:latest"), report.getEvicted());
+        assertEquals(10 * GB, report.getResidentVramBytes());
+        assertEquals(1, manager.getEvictionCount());
+        verify(ollama, times(1)).unloadModel("cold:latest");
+        verify(ollama, never()).loadModel(anyString(), anyString());
+    }
+
+    @Test
+    void testRefreshesHotModelsAboutToExpire() throws OllamaException {
+        Ollama ollama = mock(Ollama.class);
+        OffsetDateTime soon = OffsetDateTime.now().plusSeconds(30);
+        when(ollama.ps())
+                .thenReturn(ps(process("hot:latest", GB, soon), process("idle:latest", GB, soon)));
+
+        ModelResidencyManager manager = new ModelResidencyManager(ollama, 10 * GB);
+        manager.setKeepAlive("1h");
+        manager.recordRequest("hot:latest");
+
+        ResidencyReport report = manager.reconcile();
+
+        assertEquals(List.of("hot:latest"), report.getRefreshed());
+        assertTrue(report.getEvicted().isEmpty());
+        assertEquals(1, manager.getRefreshCount());
+        verify(ollama, times(1)).loadModel("hot:latest", "1h");
+        verify(ollama, never()).loadModel(eq("idle:latest"), anyString());
+    }
+
+    @Test
+    void testPinnedModelsAreAlwaysKept() throws OllamaException {
+        Ollama ollama = mock(Ollama.class);
+        OffsetDateTime later = OffsetDateTime.now().plusHours(1);
+        when(ollama.ps())
+                .thenReturn(
+                        ps(
+                                process("pinned:latest", 8 * GB, later),
+                                process("busy:latest", 4 * GB, later)));
+
+        ModelResidencyManager manager = new ModelResidencyManager(ollama, 8 * GB);
+        manager.pin("pinned");
+        manager.recordRequest("busy");
+
+        ResidencyReport report = manager.reconcile();
+
+        assertEquals(List.of("pinned:latest"), report.getKept());
+        assertEquals(List.of("busy:latest"), report.getEvicted());
+    }
+
+    @Test
+    void testFailedUnloadKeepsModel() throws OllamaException {
+        Ollama ollama = mock(Ollama.class);
+        OffsetDateTime later = OffsetDateTime.now().plusHours(1);
+        when(ollama.ps()).thenReturn(ps(process("big:latest", 16 * GB, later)));
+        doThrow(new OllamaException("500 - busy")).when(ollama).unloadModel("big:latest");
+
+        ModelResidencyManager manager = new ModelResidencyManager(ollama, 8 * GB);
+        ResidencyReport report = manager.reconcile();
+
+        assertEquals(List.of("big:latest"), report.getKept());
+        assertTrue(report.getEvicted().isEmpty());
+        assertEquals(0, manager.getEvictionCount());
+    }
+
+    @Test
+    void testTrafficScoreDecays() {
+        ModelResidencyManager manager = new ModelResidencyManager(mock(Ollama.class), GB);
+        manager.setTrafficHalfLife(java.time.Duration.ofMillis(1));
+        manager.recordRequest("model");
+        assertTrue(manager.getTrafficScore("model") <= 1.0);
+        assertEquals(0, manager.getTrafficScore("unknown"));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Ollama4j - Java library for interacting with Ollama server.
+ * Copyright (c) 2025 Amith Koujalgi and contributors.
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+*/
+package io.github.ollama4j.unittests.tracing;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.ollama4j.Ollama;
+import io.github.ollama4j.exceptions.OllamaException;
+import io.github.ollama4j.models.chat.OllamaChatMessageRole;
+import io.github.ollama4j.models.chat.OllamaChatRequest;
+import io.github.ollama4j.models.embed.OllamaEmbedRequest;
+import io.github.ollama4j.tools.Tools;
+import io.github.ollama4j.tracing.InMemorySpanExporter;
+import io.github.ollama4j.tracing.OtlpJsonFileSpanExporter;
+import io.github.ollama4j.tracing.Span;
+import io.github.ollama4j.tracing.Tracer;
+import io.github.ollama4j.utils.Utils;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+class TestTracing {
+
+    private final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    private final Tracer tracer = new Tracer(exporter);
+
+    @Test
+    void testSpansNestOnTheirThread() {
+        Span inner;
+        try (Span outer = tracer.startSpan("outer")) {
+            try (Span span = tracer.startSpan("inner")) {
+                inner = span.setAttribute("tokens", 3).setAttribute("ignored", null);
+                span.recordError(new IllegalStateException("boom"));
+            }
+            assertSame(outer, tracer.currentSpan());
+            assertEquals(outer.getSpanId(), inner.getParentSpanId());
+            assertEquals(outer.getTraceId(), inner.getTraceId());
+        }
+
+        List<Span> spans = exporter.getSpans();
+        assertEquals(
+                List.of("inner", "outer"), List.of(spans.get(0).getName(), spans.get(1).getName()));
+        assertNull(spans.get(1).getParentSpanId());
+        assertEquals(32, spans.get(1).getTraceId().length());
+        assertEquals(16, spans.get(1).getSpanId().length());
+        assertEquals(Span.Status.ERROR, inner.getStatus());
+        assertEquals("boom", inner.getStatusMessage());
+        assertEquals(Map.of("tokens", 3), inner.getAttributes());
+        assertEquals(Span.Status.OK, spans.get(1).getStatus());
+        assertTrue(spans.get(1).getDurationNanos() >= inner.getDurationNanos());
+    }
+
+    @Test
+    void testEndedSpanIsNoLongerCurrent() throws Exception {
+        Span outer = tracer.startSpan("outer");
+        Span inner = tracer.startSpan("inner");
+
+        outer.end();
+        assertSame(inner, tracer.currentSpan());
+        inner.end();
+        assertNull(tracer.currentSpan().getSpanId());
+
+        Span request = tracer.startSpan("request");
+        Thread other = new Thread(request::end);
+        other.start();
+        other.join();
+        Span next = tracer.startSpan("next");
+        assertNull(next.getParentSpanId());
+        next.end();
+        assertNull(tracer.currentSpan().getSpanId());
+    }
+
+    @Test
+    void testNoopTracerRecordsNothing() {
+        Span span = Tracer.NOOP.startSpan("nothing").setAttribute("key", "value");
+        span.end();
+
+        assertFalse(Tracer.NOOP.isEnabled());
+        assertTrue(span.getAttributes().isEmpty());
+        assertNull(span.getTraceId());
+    }
+
+    @Test
+    void testOtlpJsonFileExporterWritesOneRequestPerSpan(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("spans.jsonl");
+        Tracer fileTracer = new Tracer(new OtlpJsonFileSpanExporter(file, "agent"));
+        try (Span outer = fileTracer.startSpan("chat")) {
+            fileTracer
+                    .startSpan("request")
+                    .setAttribute("gen_ai.request.model", "llama3.2")
+                    .setAttribute("gen_ai.usage.output_tokens", 12)
+                    .setAttribute("ollama.cold_load", false)
+                    .end();
+            outer.recordError(new RuntimeException("failed"));
+        }
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        JsonNode request = Utils.getObjectMapper().readTree(lines.get(0));
+        JsonNode resourceSpans = request.get("resourceSpans").get(0);
+        assertEquals(
+                "agent",
+                resourceSpans
+                        .get("resource")
+                        .get("attributes")
+                        .get(0)
+                        .get("value")
+                        .get("stringValue")
+                        .asText());
+        JsonNode span = resourceSpans.get("scopeSpans").get(0).get("spans").get(0);
+        assertEquals("request", span.get("name").asText());
+        assertTrue(span.hasNonNull("parentSpanId"));
+        assertTrue(span.get("startTimeUnixNano").isTextual());
+        JsonNode attributes = span.get("attributes");
+        assertEquals("llama3.2", attributes.get(0).get("value").get("stringValue").asText());
+        assertEquals("12", attributes.get(1).get("value").get("intValue").asText());
+        assertFalse(attributes.get(2).get("value").get("boolValue").asBoolean());
+        assertEquals(1, span.get("status").get("code").asInt());
+        JsonNode chat =
+                Utils.getObjectMapper()
+                        .readTree(lines.get(1))
+                        .get("resourceSpans")
+                        .get(0)
+                        .get("scopeSpans")
+                        .get(0)
+                        .get("spans")
+                        .get(0);
+        assertFalse(chat.has("parentSpanId"));
+        assertEquals(2, chat.get("status").get("code").asInt());
+        assertEquals("failed", chat.get("status").get("message").asText());
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testChatTurnRecordsRequestsAndToolCalls() throws Exception {
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient client = mock(HttpClient.class);
+            HttpResponse<InputStream> toolCall = mock(HttpResponse.class);
+            HttpResponse<InputStream> answer = mock(HttpResponse.class);
+            when(toolCall.statusCode()).thenReturn(200);
+            when(toolCall.body())
+                    .thenReturn(
+                            stream(
+                                    "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"\",\"tool_calls\":[{\"function\":{\"name\":\"weather\",\"arguments\":{\"city\":\"Paris\"}}}]},\"done\":true,\"prompt_eval_count\":20,\"eval_count\":5}\n"));
+            when(answer.statusCode()).thenReturn(200);
+            when(answer.body())
+                    .thenReturn(
+                            stream(
+                                    "{\"model\":\"m\",\"message\":{\"role\":\"assistant\",\"content\":\"sunny\"},\"done\":true,\"prompt_eval_count\":30,\"eval_count\":2}\n"));
+            when(client.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenReturn(toolCall, answer);
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(client);
+
+            Ollama ollama = new Ollama();
+            ollama.setTracer(tracer);
+            ollama.setToolCallParallelism(2);
+            ollama.registerTool(
+                    Tools.Tool.builder()
+                            .toolSpec(
+                                    Tools.ToolSpec.builder()
+                                            .name("weather")
+                                            .description("weather")
+                                            .parameters(Tools.Parameters.of(Map.of()))
+                                            .build())
+                            .toolFunction(arguments -> "sunny")
+                            .build());
+            ollama.chat(
+                    OllamaChatRequest.builder()
+                            .withModel("m")
+                            .withMessage(OllamaChatMessageRole.USER, "weather in Paris?")
+                            .build(),
+                    null);
+        }
+
+        Span chat = exporter.getSpans("ollama.chat").get(0);
+        List<Span> requests = exporter.getSpans("ollama.chat.request");
+        Span tool = exporter.getSpans("ollama.tool").get(0);
+        assertEquals(2, requests.size());
+        assertEquals(0, requests.get(0).getAttributes().get("ollama.round"));
+        assertEquals(1, requests.get(1).getAttributes().get("ollama.round"));
+        assertEquals(20, requests.get(0).getAttributes().get("gen_ai.usage.input_tokens"));
+        assertEquals(1, requests.get(0).getAttributes().get("ollama.tool_calls"));
+        assertEquals(2, requests.get(1).getAttributes().get("gen_ai.usage.output_tokens"));
+        assertEquals("weather", tool.getAttributes().get("gen_ai.tool.name"));
+        for (Span span : List.of(requests.get(0), requests.get(1), tool)) {
+            assertEquals(chat.getSpanId(), span.getParentSpanId());
+            assertEquals(chat.getTraceId(), span.getTraceId());
+        }
+        assertEquals(1, chat.getAttributes().get("ollama.tool_call_rounds"));
+        assertEquals(Span.Status.OK, chat.getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInterruptedEmbedRecordsError() throws Exception {
+        try (MockedStatic<HttpClient> mockedHttpClient = mockStatic(HttpClient.class)) {
+            HttpClient client = mock(HttpClient.class);
+            when(client.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                    .thenThrow(new InterruptedException("stopped"));
+            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(client);
+
+            Ollama ollama = new Ollama();
+            ollama.setTracer(tracer);
+            assertThrows(
+                    OllamaException.class,
+                    () -> ollama.embed(new OllamaEmbedRequest("m", List.of("text"))));
+        } finally {
+            // clear the interrupt flag restored by embed
+            Thread.interrupted();
+        }
+
+        Span embed = exporter.getSpans("ollama.embed").get(0);
+        assertEquals(Span.Status.ERROR, embed.getStatus());
+        assertEquals("stopped", embed.getStatusMessage());
+    }
+}